@@ -4,6 +4,7 @@
  */
 plugins {
     id("smithy.module-conventions")
+    id("smithy.profiling-conventions")
 }
 
 description = "AWS specific components for managing endpoints in Smithy"
@@ -21,6 +22,7 @@ dependencies {
     api(project(":smithy-rules-engine"))
     api(project(":smithy-model"))
     api(project(":smithy-utils"))
+    jmh(project(":smithy-utils"))
 
     s3Model("software.amazon.api.models:s3:1.0.15")
 }
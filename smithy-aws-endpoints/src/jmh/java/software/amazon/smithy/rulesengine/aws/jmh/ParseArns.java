@@ -0,0 +1,61 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.rulesengine.aws.jmh;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.smithy.rulesengine.aws.language.functions.AwsArn;
+import software.amazon.smithy.rulesengine.aws.language.functions.ParseArn;
+import software.amazon.smithy.rulesengine.language.evaluation.value.Value;
+
+/**
+ * Measures the {@code aws.parseArn} function, compared to parsing an {@link AwsArn}.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class ParseArns {
+
+    @State(Scope.Thread)
+    public static class ArnState {
+        @Param({
+                "arn:aws:s3:::bucket_name",
+                "arn:aws:s3:us-east-2:012345678:outpost:op-01234/accesspoint/reports"
+        })
+        public String arn;
+
+        public List<Value> arguments;
+
+        @Setup
+        public void prepare() {
+            arguments = Collections.singletonList(Value.stringValue(arn));
+        }
+    }
+
+    @Benchmark
+    public Value parseArn(ArnState state) {
+        return ParseArn.getDefinition().evaluate(state.arguments);
+    }
+
+    @Benchmark
+    public Optional<AwsArn> awsArn(ArnState state) {
+        return AwsArn.parse(state.arn);
+    }
+}
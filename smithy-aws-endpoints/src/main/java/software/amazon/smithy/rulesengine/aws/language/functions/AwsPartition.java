@@ -12,6 +12,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -56,6 +57,9 @@ public final class AwsPartition extends LibraryFunction {
     private static final Map<String, Partition> REGION_MAP = new HashMap<>();
     private static Partition AWS_PARTITION;
 
+    // Prebuilt results of the function, replaced whenever the partitions change.
+    private static volatile PartitionIndex INDEX;
+
     static {
         // Use the override if present in the environment. Ignore an empty string value.
         String override = System.getenv(AWS_PARTITIONS_FILE_OVERRIDE);
@@ -105,6 +109,7 @@ public final class AwsPartition extends LibraryFunction {
                 REGION_MAP.put(region, partition);
             }
         }
+        INDEX = new PartitionIndex();
     }
 
     /**
@@ -171,44 +176,86 @@ public final class AwsPartition extends LibraryFunction {
         @Override
         public Value evaluate(List<Value> arguments) {
             String regionName = arguments.get(0).expectStringValue().getValue();
-            Partition matchedPartition;
-            boolean inferred = false;
+            return INDEX.get(regionName);
+        }
 
-            // Known region
-            matchedPartition = REGION_MAP.get(regionName);
+        @Override
+        public AwsPartition createFunction(FunctionNode functionNode) {
+            return new AwsPartition(functionNode);
+        }
+    }
 
-            if (matchedPartition == null) {
-                matchedPartition = findPartition(regionName);
-                if (matchedPartition != null) {
-                    inferred = true;
-                }
+    /**
+     * Maps regions to the prebuilt result of the function for their partition.
+     *
+     * <p>Known regions are mapped when the index is created. Regions that aren't known are matched against the
+     * region pattern of each partition, and the most recently matched regions are cached since the same few
+     * unknown regions are typically resolved many times.
+     */
+    private static final class PartitionIndex {
+        private static final int MAX_INFERRED_REGIONS = 128;
+
+        private final Map<String, Value> knownRegions = new HashMap<>();
+        private final Map<Partition, Value> inferredPartitions = new IdentityHashMap<>();
+        private final Map<String, Value> inferredRegions = new LinkedHashMap<String, Value>(16, .75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Value> eldest) {
+                return size() > MAX_INFERRED_REGIONS;
             }
+        };
 
-            if (matchedPartition == null) {
-                throw new RuntimeException("Unable to match a partition for region " + regionName);
+        PartitionIndex() {
+            Map<Partition, Value> knownPartitions = new IdentityHashMap<>();
+            for (Partition partition : PARTITIONS) {
+                knownPartitions.put(partition, createValue(partition, false));
+                inferredPartitions.put(partition, createValue(partition, true));
             }
+            for (Map.Entry<String, Partition> entry : REGION_MAP.entrySet()) {
+                knownRegions.put(entry.getKey(), knownPartitions.get(entry.getValue()));
+            }
+        }
 
-            PartitionOutputs matchedPartitionOutputs = matchedPartition.getOutputs();
+        Value get(String regionName) {
+            Value result = knownRegions.get(regionName);
+            if (result != null) {
+                return result;
+            }
+
+            synchronized (inferredRegions) {
+                result = inferredRegions.get(regionName);
+            }
+
+            if (result == null) {
+                Partition partition = findPartition(regionName);
+                if (partition == null) {
+                    throw new RuntimeException("Unable to match a partition for region " + regionName);
+                }
+                result = inferredPartitions.get(partition);
+                synchronized (inferredRegions) {
+                    inferredRegions.put(regionName, result);
+                }
+            }
+
+            return result;
+        }
+
+        private static Value createValue(Partition partition, boolean inferred) {
+            PartitionOutputs outputs = partition.getOutputs();
             return Value.recordValue(MapUtils.of(
                     NAME,
-                    Value.stringValue(matchedPartition.getId()),
+                    Value.stringValue(partition.getId()),
                     DNS_SUFFIX,
-                    Value.stringValue(matchedPartitionOutputs.getDnsSuffix()),
+                    Value.stringValue(outputs.getDnsSuffix()),
                     DUAL_STACK_DNS_SUFFIX,
-                    Value.stringValue(matchedPartitionOutputs.getDualStackDnsSuffix()),
+                    Value.stringValue(outputs.getDualStackDnsSuffix()),
                     SUPPORTS_FIPS,
-                    Value.booleanValue(matchedPartitionOutputs.supportsFips()),
+                    Value.booleanValue(outputs.supportsFips()),
                     SUPPORTS_DUAL_STACK,
-                    Value.booleanValue(matchedPartitionOutputs.supportsDualStack()),
+                    Value.booleanValue(outputs.supportsDualStack()),
                     INFERRED,
                     Value.booleanValue(inferred),
                     IMPLICIT_GLOBAL_REGION,
-                    Value.stringValue(matchedPartitionOutputs.getImplicitGlobalRegion())));
-        }
-
-        @Override
-        public AwsPartition createFunction(FunctionNode functionNode) {
-            return new AwsPartition(functionNode);
+                    Value.stringValue(outputs.getImplicitGlobalRegion())));
         }
     }
 
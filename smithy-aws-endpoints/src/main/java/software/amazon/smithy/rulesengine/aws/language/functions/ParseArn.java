@@ -9,7 +9,6 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import software.amazon.smithy.rulesengine.language.evaluation.type.Type;
 import software.amazon.smithy.rulesengine.language.evaluation.value.Value;
 import software.amazon.smithy.rulesengine.language.syntax.Identifier;
@@ -97,28 +96,7 @@ public final class ParseArn extends LibraryFunction {
 
         @Override
         public Value evaluate(List<Value> arguments) {
-            String value = arguments.get(0).expectStringValue().getValue();
-            Optional<AwsArn> arnOpt = AwsArn.parse(value);
-            if (!arnOpt.isPresent()) {
-                return Value.emptyValue();
-            }
-
-            AwsArn awsArn = arnOpt.get();
-            List<Value> resourceId = new ArrayList<>();
-            for (String resourceIdPart : awsArn.getResource()) {
-                resourceId.add(Value.stringValue(resourceIdPart));
-            }
-            return Value.recordValue(MapUtils.of(
-                    PARTITION,
-                    Value.stringValue(awsArn.getPartition()),
-                    SERVICE,
-                    Value.stringValue(awsArn.getService()),
-                    REGION,
-                    Value.stringValue(awsArn.getRegion()),
-                    ACCOUNT_ID,
-                    Value.stringValue(awsArn.getAccountId()),
-                    RESOURCE_ID,
-                    Value.arrayValue(resourceId)));
+            return parse(arguments.get(0).expectStringValue().getValue());
         }
 
         @Override
@@ -126,4 +104,44 @@ public final class ParseArn extends LibraryFunction {
             return new ParseArn(functionNode);
         }
     }
+
+    // Parses an ARN directly into a value using the same rules as AwsArn#parse, without creating an AwsArn.
+    private static Value parse(String arn) {
+        if (arn.length() < 8 || !arn.startsWith("arn:")) {
+            return Value.emptyValue();
+        }
+
+        int p1 = arn.indexOf(':', 4);
+        int p2 = p1 < 0 ? -1 : arn.indexOf(':', p1 + 1);
+        int p3 = p2 < 0 ? -1 : arn.indexOf(':', p2 + 1);
+        int p4 = p3 < 0 ? -1 : arn.indexOf(':', p3 + 1);
+
+        // The partition, service, and resource must not be empty.
+        if (p4 < 0 || p1 == 4 || p2 == p1 + 1 || p4 == arn.length() - 1) {
+            return Value.emptyValue();
+        }
+
+        List<Value> resourceId = new ArrayList<>();
+        int start = p4 + 1;
+        for (int i = start; i < arn.length(); i++) {
+            char c = arn.charAt(i);
+            if (c == ':' || c == '/') {
+                resourceId.add(Value.stringValue(arn.substring(start, i)));
+                start = i + 1;
+            }
+        }
+        resourceId.add(Value.stringValue(arn.substring(start)));
+
+        return Value.recordValue(MapUtils.of(
+                PARTITION,
+                Value.stringValue(arn.substring(4, p1)),
+                SERVICE,
+                Value.stringValue(arn.substring(p1 + 1, p2)),
+                REGION,
+                Value.stringValue(arn.substring(p2 + 1, p3)),
+                ACCOUNT_ID,
+                Value.stringValue(arn.substring(p3 + 1, p4)),
+                RESOURCE_ID,
+                Value.arrayValue(resourceId)));
+    }
 }
@@ -6,10 +6,11 @@ package software.amazon.smithy.rulesengine.aws.transforms;
 
 import static software.amazon.smithy.rulesengine.transforms.CompileBdd.compileBdd;
 
+import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.Set;
-import software.amazon.smithy.build.ProjectionTransformer;
 import software.amazon.smithy.build.TransformContext;
+import software.amazon.smithy.build.transforms.ConfigurableProjectionTransformer;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.shapes.ServiceShape;
 import software.amazon.smithy.model.shapes.Shape;
@@ -22,11 +23,14 @@ import software.amazon.smithy.rulesengine.traits.EndpointBddTrait;
 import software.amazon.smithy.rulesengine.traits.EndpointRuleSetTrait;
 import software.amazon.smithy.rulesengine.traits.EndpointTestCase;
 import software.amazon.smithy.rulesengine.traits.EndpointTestsTrait;
+import software.amazon.smithy.rulesengine.transforms.CompileBdd;
 
 /**
  * A dedicated transform to compile Binary Decision Diagram (BDD) from AWS services.
+ *
+ * <p>This transform accepts the same settings as {@link CompileBdd}.
  */
-public final class CompileBddForAws implements ProjectionTransformer {
+public final class CompileBddForAws extends ConfigurableProjectionTransformer<CompileBdd.Config> {
 
     private static final ShapeId S3_SERVICE_ID = ShapeId.from("com.amazonaws.s3#AmazonS3");
 
@@ -36,14 +40,20 @@ public final class CompileBddForAws implements ProjectionTransformer {
     }
 
     @Override
-    public Model transform(TransformContext transformContext) {
+    public Class<CompileBdd.Config> getConfigType() {
+        return CompileBdd.Config.class;
+    }
+
+    @Override
+    protected Model transformWithConfig(TransformContext transformContext, CompileBdd.Config config) {
         Model model = transformContext.getModel();
+        Path cacheDirectory = config.resolveCacheDirectory(transformContext);
         Set<Shape> shapes = new HashSet<>();
         for (ServiceShape serviceShape : model.getServiceShapes()) {
             if (serviceShape.hasTrait(EndpointRuleSetTrait.ID)
                     && !serviceShape.hasTrait(EndpointBddTrait.ID)) {
                 EndpointRuleSet rules = getEndpointRuleSet(serviceShape);
-                EndpointBddTrait bdd = compileBdd(rules);
+                EndpointBddTrait bdd = compileBdd(rules, cacheDirectory);
                 shapes.add(serviceShape.toBuilder().addTrait(bdd).build());
             }
         }
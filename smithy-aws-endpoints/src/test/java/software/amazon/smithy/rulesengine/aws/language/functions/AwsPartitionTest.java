@@ -7,6 +7,7 @@ package software.amazon.smithy.rulesengine.aws.language.functions;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 
 import org.junit.jupiter.api.Test;
 import software.amazon.smithy.model.node.Node;
@@ -43,6 +44,13 @@ public class AwsPartitionTest {
         assertThat(result.get(AwsPartition.INFERRED).expectBooleanValue().getValue(), equalTo(true));
     }
 
+    @Test
+    public void reusesResultsForKnownAndInferredRegions() {
+        assertThat(evalWithRegion("us-west-1"), sameInstance(evalWithRegion("us-west-1")));
+        assertThat(evalWithRegion("us-west-3"), sameInstance(evalWithRegion("us-west-3")));
+        assertThat(evalWithRegion("us-west-3"), not(sameInstance(evalWithRegion("us-west-1"))));
+    }
+
     @Test
     public void overridesPartitions() {
         RecordValue result = evalWithRegion("us-west-1");
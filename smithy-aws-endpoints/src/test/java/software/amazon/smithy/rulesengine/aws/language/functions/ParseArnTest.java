@@ -0,0 +1,90 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.rulesengine.aws.language.functions;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.smithy.rulesengine.language.evaluation.value.Value;
+import software.amazon.smithy.rulesengine.language.syntax.Identifier;
+import software.amazon.smithy.utils.MapUtils;
+
+public class ParseArnTest {
+
+    public static List<String> arns() {
+        return Arrays.asList(
+                "arn:aws:s3:::bucket_name",
+                "arn:aws:s3:us-east-2:012345678:outpost:op-01234/accesspoint/reports",
+                "arn:aws:s3:us-east-2:012345678:outpost:",
+                "arn:aws:s3:us-east-2:012345678:",
+                "arn:aws:iam::123456789012:user/Development/product_1234/*",
+                "arn::s3:::bucket",
+                "arn:aws::::bucket",
+                "arn:aws:s3::",
+                "arn:aws:s3",
+                "arn:aws",
+                "arn:",
+                "ARN:aws:s3:::bucket",
+                "not-an-arn",
+                "");
+    }
+
+    @ParameterizedTest
+    @MethodSource("arns")
+    public void matchesAwsArn(String arn) {
+        assertThat(evaluate(arn), equalTo(parseWithAwsArn(arn)));
+    }
+
+    @Test
+    public void matchesAwsArnForGeneratedArns() {
+        String alphabet = "arn:::aws/s3-1:/";
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder arn = new StringBuilder(random.nextBoolean() ? "arn:" : "");
+            int length = random.nextInt(24);
+            for (int j = 0; j < length; j++) {
+                arn.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            assertThat(arn.toString(), evaluate(arn.toString()), equalTo(parseWithAwsArn(arn.toString())));
+        }
+    }
+
+    private static Value evaluate(String arn) {
+        return ParseArn.getDefinition().evaluate(Collections.singletonList(Value.stringValue(arn)));
+    }
+
+    private static Value parseWithAwsArn(String arn) {
+        Optional<AwsArn> parsed = AwsArn.parse(arn);
+        if (!parsed.isPresent()) {
+            return Value.emptyValue();
+        }
+
+        List<Value> resourceId = new ArrayList<>();
+        for (String part : parsed.get().getResource()) {
+            resourceId.add(Value.stringValue(part));
+        }
+        return Value.recordValue(MapUtils.of(
+                ParseArn.PARTITION,
+                Value.stringValue(parsed.get().getPartition()),
+                ParseArn.SERVICE,
+                Value.stringValue(parsed.get().getService()),
+                ParseArn.REGION,
+                Value.stringValue(parsed.get().getRegion()),
+                ParseArn.ACCOUNT_ID,
+                Value.stringValue(parsed.get().getAccountId()),
+                Identifier.of("resourceId"),
+                Value.arrayValue(resourceId)));
+    }
+}
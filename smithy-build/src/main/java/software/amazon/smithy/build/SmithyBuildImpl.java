@@ -481,6 +481,7 @@ final class SmithyBuildImpl {
                     .projectionName(projectionName)
                     .sources(sources)
                     .settings(transformerBinding.left)
+                    .outputDirectory(outputDirectory)
                     .build();
             currentModel = transformerBinding.right.transform(context);
             Collection<String> queuedProjections = transformerBinding.right.getAdditionalProjections(context);
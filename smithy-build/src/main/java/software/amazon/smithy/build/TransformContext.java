@@ -33,6 +33,7 @@ public final class TransformContext implements ToSmithyBuilder<TransformContext>
     private final String projectionName;
     private final ModelTransformer transformer;
     private final List<ValidationEvent> originalModelValidationEvents;
+    private final Path outputDirectory;
 
     private TransformContext(Builder builder) {
         model = SmithyBuilder.requiredState("model", builder.model);
@@ -42,6 +43,7 @@ public final class TransformContext implements ToSmithyBuilder<TransformContext>
         projectionName = builder.projectionName;
         sources = builder.sources.copy();
         originalModelValidationEvents = builder.originalModelValidationEvents.copy();
+        outputDirectory = builder.outputDirectory;
     }
 
     /**
@@ -60,7 +62,8 @@ public final class TransformContext implements ToSmithyBuilder<TransformContext>
                 .sources(sources)
                 .projectionName(projectionName)
                 .transformer(transformer)
-                .originalModelValidationEvents(originalModelValidationEvents);
+                .originalModelValidationEvents(originalModelValidationEvents)
+                .outputDirectory(outputDirectory);
     }
 
     /**
@@ -136,6 +139,18 @@ public final class TransformContext implements ToSmithyBuilder<TransformContext>
         return originalModelValidationEvents;
     }
 
+    /**
+     * Gets the root output directory of the build.
+     *
+     * <p>Transforms that store files between builds can use this directory
+     * to resolve relative paths independently of the current working directory.
+     *
+     * @return Returns the optionally provided output directory.
+     */
+    public Optional<Path> getOutputDirectory() {
+        return Optional.ofNullable(outputDirectory);
+    }
+
     /**
      * Builds a {@link TransformContext}.
      */
@@ -148,6 +163,7 @@ public final class TransformContext implements ToSmithyBuilder<TransformContext>
         private String projectionName = "source";
         private ModelTransformer transformer;
         private final BuilderRef<List<ValidationEvent>> originalModelValidationEvents = BuilderRef.forList();
+        private Path outputDirectory;
 
         private Builder() {}
 
@@ -192,5 +208,10 @@ public final class TransformContext implements ToSmithyBuilder<TransformContext>
             this.originalModelValidationEvents.get().addAll(originalModelValidationEvents);
             return this;
         }
+
+        public Builder outputDirectory(Path outputDirectory) {
+            this.outputDirectory = outputDirectory;
+            return this;
+        }
     }
 }
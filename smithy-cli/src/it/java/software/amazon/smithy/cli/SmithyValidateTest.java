@@ -9,6 +9,7 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.emptyString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 
 import org.junit.jupiter.api.Test;
 import software.amazon.smithy.utils.ListUtils;
@@ -43,4 +44,15 @@ public class SmithyValidateTest {
             assertThat(result.getOutput(), containsString("ERROR: 1"));
         });
     }
+
+    @Test
+    public void profilesValidatorAllocations() {
+        // Per-thread allocation counters come from java.management/jdk.management, which must be in the image.
+        IntegUtils.run("simple-config-sources", ListUtils.of("validate", "--profile", "--profile-format", "json"),
+                result -> {
+                    assertThat(result.getExitCode(), equalTo(0));
+                    assertThat(result.getOutput(), containsString("\"allocatedBytes\""));
+                    assertThat(result.getOutput(), not(containsString("\"allocatedBytes\": -1")));
+                });
+    }
 }
@@ -9,6 +9,7 @@ import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -29,6 +30,7 @@ import software.amazon.smithy.model.loader.sourcecontext.SourceContextLoader;
 import software.amazon.smithy.model.validation.Severity;
 import software.amazon.smithy.model.validation.ValidatedResult;
 import software.amazon.smithy.model.validation.ValidationEvent;
+import software.amazon.smithy.model.validation.ValidatorProfile;
 import software.amazon.smithy.utils.SmithyBuilder;
 
 /**
@@ -152,6 +154,11 @@ final class ModelBuilder {
             validationMode = Validator.Mode.from(standardOptions);
         }
 
+        ValidatorProfileOptions profileOptions = arguments.hasReceiver(ValidatorProfileOptions.class)
+                ? arguments.getReceiver(ValidatorProfileOptions.class)
+                : null;
+        List<ValidatorProfile> profiles = Collections.synchronizedList(new ArrayList<>());
+
         if (validatedResult == null) {
             ModelAssembler assembler = createModelAssembler(classLoader);
 
@@ -163,6 +170,10 @@ final class ModelBuilder {
             AtomicInteger issueCount = new AtomicInteger();
             assembler.validationEventListener(createStatusUpdater(standardOptions, colors, stderr, issueCount));
 
+            if (profileOptions != null && profileOptions.profile()) {
+                assembler.validatorProfileListener(profiles::add);
+            }
+
             handleModelDiscovery(assembler, classLoader, config);
             handleUnknownTraitsOption(buildOptions, assembler);
 
@@ -206,6 +217,11 @@ final class ModelBuilder {
             validationOutputFormat.endPrinting(validationPrinter);
         }
 
+        // Print the profile before checking the result so that it's shown when validation fails too.
+        if (profileOptions != null && profileOptions.profile()) {
+            profileOptions.print(validationPrinter, profiles);
+        }
+
         env.flush();
         // Note: disabling validation will still show a summary of failures if the model can't be loaded.
         Validator.validate(validationMode != Validator.Mode.ENABLE, colors, stderr, validatedResult);
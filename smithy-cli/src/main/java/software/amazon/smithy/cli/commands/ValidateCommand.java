@@ -38,6 +38,7 @@ final class ValidateCommand implements Command {
         arguments.addReceiver(new ValidatorOptions());
         arguments.addReceiver(new BuildOptions());
         arguments.addReceiver(new ValidationEventFormatOptions());
+        arguments.addReceiver(new ValidatorProfileOptions());
 
         CommandAction action = HelpActionWrapper.fromCommand(
                 this,
@@ -0,0 +1,133 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.cli.commands;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import software.amazon.smithy.cli.ArgumentReceiver;
+import software.amazon.smithy.cli.CliError;
+import software.amazon.smithy.cli.CliPrinter;
+import software.amazon.smithy.cli.HelpPrinter;
+import software.amazon.smithy.model.SourceLocation;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.validation.ValidatorProfile;
+
+/**
+ * Options used to profile the validators run when validating a model.
+ */
+final class ValidatorProfileOptions implements ArgumentReceiver {
+
+    static final String PROFILE = "--profile";
+    static final String PROFILE_FORMAT = "--profile-format";
+
+    enum Format {
+        TEXT {
+            @Override
+            void print(CliPrinter printer, List<ValidatorProfile> profiles) {
+                long total = 0;
+                for (ValidatorProfile profile : profiles) {
+                    total += profile.getWallTimeNanos();
+                }
+
+                printer.println(String.format("%12s %7s %8s %12s  %s", "TIME (ms)", "%", "EVENTS", "ALLOC (KB)",
+                        "VALIDATOR"));
+                for (ValidatorProfile profile : profiles) {
+                    printer.println(String.format("%12.3f %7.2f %8d %12s  %s",
+                            profile.getWallTimeNanos() / 1_000_000.0,
+                            total == 0 ? 0.0 : profile.getWallTimeNanos() * 100.0 / total,
+                            profile.getEventCount(),
+                            profile.getAllocatedBytes() < 0 ? "-" : String.valueOf(profile.getAllocatedBytes() / 1024),
+                            formatName(profile)));
+                }
+                printer.println(String.format("%12.3f %7.2f %8s %12s  %s",
+                        total / 1_000_000.0,
+                        100.0,
+                        "",
+                        "",
+                        "TOTAL (" + profiles.size() + " validators)"));
+            }
+
+            private String formatName(ValidatorProfile profile) {
+                SourceLocation location = profile.getSourceLocation();
+                return location.equals(SourceLocation.NONE) ? profile.getName() : profile.getName() + " @ " + location;
+            }
+        },
+
+        JSON {
+            @Override
+            void print(CliPrinter printer, List<ValidatorProfile> profiles) {
+                List<Node> nodes = new ArrayList<>(profiles.size());
+                for (ValidatorProfile profile : profiles) {
+                    nodes.add(profile.toNode());
+                }
+                printer.println(Node.prettyPrintJson(Node.fromNodes(nodes)));
+            }
+        };
+
+        abstract void print(CliPrinter printer, List<ValidatorProfile> profiles);
+    }
+
+    private boolean profile;
+    private Format format = Format.TEXT;
+
+    @Override
+    public void registerHelp(HelpPrinter printer) {
+        printer.option(PROFILE,
+                null,
+                "Reports how long each validator took to run, how many events it emitted, and approximately "
+                        + "how much memory it allocated, sorted from slowest to fastest.");
+        printer.param(PROFILE_FORMAT,
+                null,
+                "text|json",
+                "Specifies the format used to write the " + PROFILE + " report (text or json). Defaults to text.");
+    }
+
+    @Override
+    public boolean testOption(String name) {
+        if (PROFILE.equals(name)) {
+            profile = true;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public Consumer<String> testParameter(String name) {
+        if (name.equals(PROFILE_FORMAT)) {
+            return s -> {
+                switch (s) {
+                    case "json":
+                        format = Format.JSON;
+                        break;
+                    case "text":
+                        format = Format.TEXT;
+                        break;
+                    default:
+                        throw new CliError("Unexpected " + PROFILE_FORMAT + ": `" + s + "`");
+                }
+            };
+        }
+        return null;
+    }
+
+    boolean profile() {
+        return profile;
+    }
+
+    /**
+     * Prints profiles sorted from the slowest to the fastest validator.
+     *
+     * @param printer Printer to write to.
+     * @param profiles Profiles to print.
+     */
+    void print(CliPrinter printer, List<ValidatorProfile> profiles) {
+        List<ValidatorProfile> sorted = new ArrayList<>(profiles);
+        sorted.sort(Comparator.comparingLong(ValidatorProfile::getWallTimeNanos).reversed()
+                .thenComparing(ValidatorProfile::getName));
+        format.print(printer, sorted);
+    }
+}
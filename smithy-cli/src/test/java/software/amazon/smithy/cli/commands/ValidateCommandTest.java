@@ -249,6 +249,41 @@ public class ValidateCommandTest {
         assertThat(result.stdout(), not(containsString("FAILURE"))); // stderr
     }
 
+    @Test
+    public void canProfileValidators() throws Exception {
+        Path validationEventsModel = Paths.get(getClass().getResource("validation-events.smithy").toURI());
+        CliUtils.Result result = CliUtils.runSmithy("validate", "--profile", validationEventsModel.toString());
+
+        assertThat(result.code(), not(0));
+        assertThat(result.stdout(), containsString("TIME (ms)"));
+        assertThat(result.stdout(), containsString("EmitWarnings @ "));
+        assertThat(result.stdout(), containsString("TraitValue"));
+        assertThat(result.stdout(), containsString("TOTAL"));
+    }
+
+    @Test
+    public void canProfileValidatorsAsJson() throws Exception {
+        Path validationEventsModel = Paths.get(getClass().getResource("valid-model.smithy").toURI());
+        CliUtils.Result result = CliUtils.runSmithy("validate",
+                "--profile",
+                "--profile-format",
+                "json",
+                validationEventsModel.toString());
+
+        assertThat(result.code(), equalTo(0));
+        assertThat(result.stdout(), containsString("\"name\": \"TraitValue\""));
+        assertThat(result.stdout(), containsString("\"wallTimeNanos\""));
+        assertThat(result.stdout(), containsString("\"allocatedBytes\""));
+    }
+
+    @Test
+    public void profileFormatMustBeValid() {
+        CliUtils.Result result = CliUtils.runSmithy("validate", "--profile-format", "HELLO");
+
+        assertThat(result.code(), not(0));
+        assertThat(result.stderr(), containsString("Unexpected --profile-format: `HELLO`"));
+    }
+
     @Test
     public void outputFormatMustBeValid() {
         CliUtils.Result result = CliUtils.runSmithy("validate", "--format", "HELLO");
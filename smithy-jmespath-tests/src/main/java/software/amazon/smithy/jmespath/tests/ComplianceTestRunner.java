@@ -11,6 +11,7 @@ import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import software.amazon.smithy.jmespath.JmespathException;
 import software.amazon.smithy.jmespath.JmespathExceptionType;
@@ -120,9 +121,67 @@ public class ComplianceTestRunner<T> {
 
         @Override
         public void run() {
+            run(parsed -> new Evaluator<>(given, runtime).visit(parsed));
+            run(parsed -> parsed.compile(runtime).evaluate(given));
+            String json = toJson(given);
+            run(parsed -> parsed.evaluateJson(json, runtime));
+        }
+
+        // Unlike JmespathRuntime#toString, escapes strings so the result can be parsed again.
+        private String toJson(T value) {
+            StringBuilder builder = new StringBuilder();
+            appendJson(builder, value);
+            return builder.toString();
+        }
+
+        private void appendJson(StringBuilder builder, T value) {
+            switch (runtime.typeOf(value)) {
+                case STRING -> appendJsonString(builder, runtime.asString(value));
+                case ARRAY -> {
+                    builder.append('[');
+                    for (T element : runtime.asIterable(value)) {
+                        if (builder.charAt(builder.length() - 1) != '[') {
+                            builder.append(',');
+                        }
+                        appendJson(builder, element);
+                    }
+                    builder.append(']');
+                }
+                case OBJECT -> {
+                    builder.append('{');
+                    for (T key : runtime.asIterable(value)) {
+                        if (builder.charAt(builder.length() - 1) != '{') {
+                            builder.append(',');
+                        }
+                        appendJsonString(builder, runtime.asString(key));
+                        builder.append(':');
+                        appendJson(builder, runtime.value(value, key));
+                    }
+                    builder.append('}');
+                }
+                default -> builder.append(runtime.toString(value));
+            }
+        }
+
+        private static void appendJsonString(StringBuilder builder, String value) {
+            builder.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\') {
+                    builder.append('\\').append(c);
+                } else if (c < 0x20) {
+                    builder.append(String.format("\\u%04x", (int) c));
+                } else {
+                    builder.append(c);
+                }
+            }
+            builder.append('"');
+        }
+
+        private void run(Function<JmespathExpression, T> evaluator) {
             try {
                 var parsed = JmespathExpression.parse(expression);
-                var result = new Evaluator<>(given, runtime).visit(parsed);
+                var result = evaluator.apply(parsed);
                 if (benchmark != null) {
                     // Benchmarks don't include expected results or errors
                     return;
@@ -4,6 +4,7 @@
  */
 plugins {
     id("smithy.module-conventions")
+    id("smithy.profiling-conventions")
 }
 
 description = "A standalone JMESPath parser"
@@ -13,4 +14,6 @@ extra["moduleName"] = "software.amazon.smithy.jmespath"
 
 dependencies {
     api(project(":smithy-utils"))
+
+    jmh(project(":smithy-utils"))
 }
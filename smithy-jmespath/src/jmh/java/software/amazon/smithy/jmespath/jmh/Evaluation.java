@@ -0,0 +1,80 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.jmespath.jmh;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.smithy.jmespath.JmespathExpression;
+import software.amazon.smithy.jmespath.LiteralExpressionJmespathRuntime;
+import software.amazon.smithy.jmespath.ast.LiteralExpression;
+import software.amazon.smithy.jmespath.evaluation.CompiledExpression;
+
+/**
+ * Compares evaluating parsed JMESPath expressions with evaluating compiled expressions, using expressions like
+ * the ones used by waiters.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class Evaluation {
+
+    @State(Scope.Thread)
+    public static class ExpressionState {
+        @Param({
+                "Table.TableStatus",
+                "Reservations[].Instances[].State.Name",
+                "length(Reservations[].Instances[?State.Name == 'running']) > `0`",
+                "sort_by(Reservations[].Instances[], &InstanceId)[0].InstanceId"
+        })
+        public String expression;
+
+        public JmespathExpression parsed;
+        public CompiledExpression<LiteralExpression> compiled;
+        public LiteralExpression output;
+
+        @Setup
+        public void prepare() {
+            parsed = JmespathExpression.parse(expression);
+            compiled = parsed.compile();
+            StringBuilder json = new StringBuilder("{\"Table\": {\"TableStatus\": \"ACTIVE\"}, \"Reservations\": [");
+            for (int i = 0; i < 10; i++) {
+                json.append(i == 0 ? "" : ",").append("{\"Instances\": [");
+                for (int j = 0; j < 10; j++) {
+                    json.append(j == 0 ? "" : ",")
+                            .append("{\"InstanceId\": \"i-")
+                            .append(99 - i * 10 - j)
+                            .append("\", \"State\": {\"Name\": \"")
+                            .append(j % 3 == 0 ? "pending" : "running")
+                            .append("\"}}");
+                }
+                json.append("]}");
+            }
+            json.append("]}");
+            output = JmespathExpression.parseJson(json.toString(), LiteralExpressionJmespathRuntime.INSTANCE);
+        }
+    }
+
+    @Benchmark
+    public LiteralExpression interpreted(ExpressionState state) {
+        return state.parsed.evaluate(state.output);
+    }
+
+    @Benchmark
+    public LiteralExpression compiled(ExpressionState state) {
+        return state.compiled.evaluate(state.output);
+    }
+}
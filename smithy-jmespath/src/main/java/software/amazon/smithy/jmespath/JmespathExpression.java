@@ -7,6 +7,7 @@ package software.amazon.smithy.jmespath;
 import java.util.Set;
 import java.util.TreeSet;
 import software.amazon.smithy.jmespath.ast.LiteralExpression;
+import software.amazon.smithy.jmespath.evaluation.CompiledExpression;
 import software.amazon.smithy.jmespath.evaluation.Evaluator;
 import software.amazon.smithy.jmespath.evaluation.JmespathRuntime;
 
@@ -17,6 +18,7 @@ public abstract class JmespathExpression {
 
     private final int line;
     private final int column;
+    private volatile JsonSelection jsonSelection;
 
     protected JmespathExpression(int line, int column) {
         this.line = line;
@@ -59,6 +61,42 @@ public abstract class JmespathExpression {
         return lexer.parseJsonValue();
     }
 
+    /**
+     * Parse only the parts of a JSON value that this expression can observe.
+     *
+     * <p>Members of objects that the expression only navigates through are skipped unless the expression can
+     * reach them, while values that the expression can compare, test, pass to functions, or return are parsed
+     * entirely. Evaluating this expression against the returned value gives the same result as evaluating it
+     * against the entire JSON value, without materializing the subtrees the expression never visits. Skipped
+     * values are only checked for closed strings and balanced brackets.
+     *
+     * @param text JSON value to parse.
+     * @param runtime The JmespathRuntime used to instantiate the parsed JSON value.
+     * @return Returns the parts of the JSON value this expression can observe.
+     * @throws JmespathException if the text is invalid.
+     */
+    public <T> T selectJson(String text, JmespathRuntime<T> runtime) {
+        JsonSelection selection = jsonSelection;
+        if (selection == null) {
+            selection = JsonSelection.of(this);
+            jsonSelection = selection;
+        }
+        return new Lexer<>(text, runtime).parseJsonValue(selection);
+    }
+
+    /**
+     * Evaluate the expression against a JSON value, parsing only the parts of the value the expression can observe.
+     *
+     * @param text JSON value to use as the current node.
+     * @param runtime The JmespathRuntime used to manipulate node values.
+     * @return Returns the result of evaluating the expression.
+     * @throws JmespathException if the text is invalid.
+     * @see #selectJson
+     */
+    public <T> T evaluateJson(String text, JmespathRuntime<T> runtime) {
+        return evaluate(selectJson(text, runtime), runtime);
+    }
+
     /**
      * Get the approximate line where the node was defined.
      *
@@ -129,4 +167,23 @@ public abstract class JmespathExpression {
     public <T> T evaluate(T currentNode, JmespathRuntime<T> runtime) {
         return new Evaluator<>(currentNode, runtime).visit(this);
     }
+
+    /**
+     * Compile the expression so that it can be efficiently evaluated many times.
+     *
+     * @return Returns the compiled expression.
+     */
+    public CompiledExpression<LiteralExpression> compile() {
+        return compile(LiteralExpressionJmespathRuntime.INSTANCE);
+    }
+
+    /**
+     * Compile the expression so that it can be efficiently evaluated many times.
+     *
+     * @param runtime The JmespathRuntime used to manipulate node values.
+     * @return Returns the compiled expression.
+     */
+    public <T> CompiledExpression<T> compile(JmespathRuntime<T> runtime) {
+        return CompiledExpression.compile(this, runtime);
+    }
 }
@@ -0,0 +1,269 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.jmespath;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import software.amazon.smithy.jmespath.ast.AndExpression;
+import software.amazon.smithy.jmespath.ast.ComparatorExpression;
+import software.amazon.smithy.jmespath.ast.CurrentExpression;
+import software.amazon.smithy.jmespath.ast.ExpressionTypeExpression;
+import software.amazon.smithy.jmespath.ast.FieldExpression;
+import software.amazon.smithy.jmespath.ast.FilterProjectionExpression;
+import software.amazon.smithy.jmespath.ast.FlattenExpression;
+import software.amazon.smithy.jmespath.ast.FunctionExpression;
+import software.amazon.smithy.jmespath.ast.IndexExpression;
+import software.amazon.smithy.jmespath.ast.LiteralExpression;
+import software.amazon.smithy.jmespath.ast.MultiSelectHashExpression;
+import software.amazon.smithy.jmespath.ast.MultiSelectListExpression;
+import software.amazon.smithy.jmespath.ast.NotExpression;
+import software.amazon.smithy.jmespath.ast.ObjectProjectionExpression;
+import software.amazon.smithy.jmespath.ast.OrExpression;
+import software.amazon.smithy.jmespath.ast.ProjectionExpression;
+import software.amazon.smithy.jmespath.ast.SliceExpression;
+import software.amazon.smithy.jmespath.ast.Subexpression;
+
+/**
+ * Describes the parts of a JSON value that an expression can observe.
+ *
+ * <p>A selection either includes the entire value, or only the type of the value plus the selected object
+ * members and array elements. Values that are only partially selected keep their type, and arrays keep every
+ * element so that indexes and lengths are unchanged, but objects only keep the selected members.
+ *
+ * <p>Selections are conservative: any value whose contents could affect the result of an expression, like a value
+ * that's compared, tested for truthiness, passed to a function, or returned, is selected entirely. Only values
+ * that are navigated through with fields, indexes, slices, and projections are partially selected.
+ */
+final class JsonSelection {
+
+    /** Selects the entire value. */
+    static final JsonSelection ALL = new JsonSelection(true, Collections.emptyMap(), null, null);
+
+    /** Selects only the type of the value. */
+    static final JsonSelection NONE = new JsonSelection(false, Collections.emptyMap(), null, null);
+
+    private final boolean all;
+    private final Map<String, JsonSelection> fields;
+    private final JsonSelection members;
+    private final JsonSelection elements;
+
+    private JsonSelection(
+            boolean all,
+            Map<String, JsonSelection> fields,
+            JsonSelection members,
+            JsonSelection elements
+    ) {
+        this.all = all;
+        this.fields = fields;
+        this.members = members;
+        this.elements = elements;
+    }
+
+    /**
+     * Computes the parts of the current node that an expression can observe.
+     *
+     * @param expression Expression to analyze.
+     * @return Returns the selection of the current node.
+     */
+    static JsonSelection of(JmespathExpression expression) {
+        return of(expression, ALL);
+    }
+
+    // Computes the selection of the current node needed to produce the given selection of the expression's result.
+    private static JsonSelection of(JmespathExpression expression, JsonSelection result) {
+        return expression.accept(new Collector(result));
+    }
+
+    boolean isAll() {
+        return all;
+    }
+
+    /**
+     * Gets the selection of an object member.
+     *
+     * @param name Name of the member.
+     * @return Returns the selection of the member, or null if the member isn't selected.
+     */
+    JsonSelection member(String name) {
+        if (all) {
+            return ALL;
+        }
+        JsonSelection field = fields.get(name);
+        return field == null ? members : members == null ? field : field.union(members);
+    }
+
+    /**
+     * @return Returns true if any object member can be selected, or false if only the names in {@link #fieldNames}
+     *   can be selected.
+     */
+    boolean selectsAnyMember() {
+        return all || members != null;
+    }
+
+    /**
+     * @return Returns the names of object members that are selected.
+     */
+    Iterable<String> fieldNames() {
+        return fields.keySet();
+    }
+
+    /**
+     * @return Returns the selection of each array element.
+     */
+    JsonSelection element() {
+        return all ? ALL : elements == null ? NONE : elements;
+    }
+
+    JsonSelection union(JsonSelection other) {
+        if (all || other == NONE) {
+            return this;
+        } else if (other.all || this == NONE) {
+            return other;
+        }
+
+        Map<String, JsonSelection> mergedFields = new HashMap<>(fields);
+        for (Map.Entry<String, JsonSelection> entry : other.fields.entrySet()) {
+            mergedFields.merge(entry.getKey(), entry.getValue(), (a, b) -> a.union(b));
+        }
+        return new JsonSelection(false, mergedFields, union(members, other.members), union(elements, other.elements));
+    }
+
+    private static JsonSelection union(JsonSelection a, JsonSelection b) {
+        return a == null ? b : b == null ? a : a.union(b);
+    }
+
+    private static JsonSelection field(String name, JsonSelection selection) {
+        return new JsonSelection(false, Collections.singletonMap(name, selection), null, null);
+    }
+
+    private static JsonSelection anyMember(JsonSelection selection) {
+        return new JsonSelection(false, Collections.emptyMap(), selection, null);
+    }
+
+    private static JsonSelection elements(JsonSelection selection) {
+        return new JsonSelection(false, Collections.emptyMap(), null, selection);
+    }
+
+    private static final class Collector implements ExpressionVisitor<JsonSelection> {
+
+        private final JsonSelection result;
+
+        Collector(JsonSelection result) {
+            this.result = result;
+        }
+
+        private static JsonSelection all(JmespathExpression... expressions) {
+            JsonSelection selection = NONE;
+            for (JmespathExpression expression : expressions) {
+                selection = selection.union(of(expression, ALL));
+            }
+            return selection;
+        }
+
+        @Override
+        public JsonSelection visitComparator(ComparatorExpression expression) {
+            return all(expression.getLeft(), expression.getRight());
+        }
+
+        @Override
+        public JsonSelection visitCurrentNode(CurrentExpression expression) {
+            return result;
+        }
+
+        @Override
+        public JsonSelection visitExpressionType(ExpressionTypeExpression expression) {
+            return of(expression.getExpression(), result);
+        }
+
+        @Override
+        public JsonSelection visitFlatten(FlattenExpression expression) {
+            // Flattened elements come from the array or from arrays nested in it.
+            JsonSelection element = result.element();
+            return of(expression.getExpression(), elements(element.union(elements(element))));
+        }
+
+        @Override
+        public JsonSelection visitFunction(FunctionExpression expression) {
+            return all(expression.getArguments().toArray(new JmespathExpression[0]));
+        }
+
+        @Override
+        public JsonSelection visitField(FieldExpression expression) {
+            return field(expression.getName(), result);
+        }
+
+        @Override
+        public JsonSelection visitIndex(IndexExpression expression) {
+            return elements(result);
+        }
+
+        @Override
+        public JsonSelection visitLiteral(LiteralExpression expression) {
+            return NONE;
+        }
+
+        @Override
+        public JsonSelection visitMultiSelectList(MultiSelectListExpression expression) {
+            JsonSelection selection = NONE;
+            for (JmespathExpression value : expression.getExpressions()) {
+                selection = selection.union(of(value, result.element()));
+            }
+            return selection;
+        }
+
+        @Override
+        public JsonSelection visitMultiSelectHash(MultiSelectHashExpression expression) {
+            JsonSelection selection = NONE;
+            for (Map.Entry<String, JmespathExpression> entry : expression.getExpressions().entrySet()) {
+                JsonSelection member = result.member(entry.getKey());
+                selection = selection.union(of(entry.getValue(), member == null ? NONE : member));
+            }
+            return selection;
+        }
+
+        @Override
+        public JsonSelection visitAnd(AndExpression expression) {
+            return of(expression.getLeft(), ALL).union(of(expression.getRight(), result));
+        }
+
+        @Override
+        public JsonSelection visitOr(OrExpression expression) {
+            return of(expression.getLeft(), ALL).union(of(expression.getRight(), result));
+        }
+
+        @Override
+        public JsonSelection visitNot(NotExpression expression) {
+            return all(expression.getExpression());
+        }
+
+        @Override
+        public JsonSelection visitProjection(ProjectionExpression expression) {
+            return of(expression.getLeft(), elements(of(expression.getRight(), result.element())));
+        }
+
+        @Override
+        public JsonSelection visitFilterProjection(FilterProjectionExpression expression) {
+            JsonSelection element = of(expression.getComparison(), ALL)
+                    .union(of(expression.getRight(), result.element()));
+            return of(expression.getLeft(), elements(element));
+        }
+
+        @Override
+        public JsonSelection visitObjectProjection(ObjectProjectionExpression expression) {
+            return of(expression.getLeft(), anyMember(of(expression.getRight(), result.element())));
+        }
+
+        @Override
+        public JsonSelection visitSlice(SliceExpression expression) {
+            return elements(result.element());
+        }
+
+        @Override
+        public JsonSelection visitSubexpression(Subexpression expression) {
+            return of(expression.getLeft(), of(expression.getRight(), result));
+        }
+    }
+}
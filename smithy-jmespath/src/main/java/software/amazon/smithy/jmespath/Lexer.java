@@ -513,6 +513,18 @@ final class Lexer<T> {
     }
 
     T parseJsonValue() {
+        return parseJsonValue(JsonSelection.ALL);
+    }
+
+    /**
+     * Parses a JSON value, skipping the parts of objects that aren't selected.
+     *
+     * <p>Skipped values are only checked for closed strings and balanced brackets.
+     *
+     * @param selection Parts of the value to parse.
+     * @return Returns the parsed value.
+     */
+    T parseJsonValue(JsonSelection selection) {
         ws();
         switch (expect('\"', '{', '[', 't', 'f', 'n', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', '-')) {
             case 't':
@@ -537,9 +549,9 @@ final class Lexer<T> {
                 column--;
                 return runtime.createString(parseString().value.expectStringValue());
             case '{':
-                return parseJsonObject();
+                return parseJsonObject(selection);
             case '[':
-                return parseJsonArray();
+                return parseJsonArray(selection);
             default: // - | 0-9
                 // Backtrack.
                 position--;
@@ -548,9 +560,10 @@ final class Lexer<T> {
         }
     }
 
-    private T parseJsonArray() {
+    private T parseJsonArray(JsonSelection selection) {
         increaseNestingLevel();
         JmespathRuntime.ArrayBuilder<T> builder = runtime.arrayBuilder();
+        JsonSelection element = selection.element();
         ws();
 
         if (peek() == ']') {
@@ -560,7 +573,7 @@ final class Lexer<T> {
         }
 
         while (!eof() && peek() != '`') {
-            builder.add(parseJsonValue());
+            builder.add(parseJsonValue(element));
             ws();
             if (expect(',', ']') == ',') {
                 ws();
@@ -573,7 +586,7 @@ final class Lexer<T> {
         throw syntax("Unclosed JSON array");
     }
 
-    private T parseJsonObject() {
+    private T parseJsonObject(JsonSelection selection) {
         increaseNestingLevel();
         JmespathRuntime.ObjectBuilder<T> builder = runtime.objectBuilder();
         ws();
@@ -585,11 +598,18 @@ final class Lexer<T> {
         }
 
         while (!eof() && peek() != '`') {
-            String key = parseString().value.expectStringValue();
+            String key = selection.selectsAnyMember()
+                    ? parseString().value.expectStringValue()
+                    : parseSelectedKey(selection);
+            JsonSelection member = key == null ? null : selection.member(key);
             ws();
             expect(':');
             ws();
-            builder.put(runtime.createString(key), parseJsonValue());
+            if (member == null) {
+                skipJsonValue();
+            } else {
+                builder.put(runtime.createString(key), parseJsonValue(member));
+            }
             ws();
             if (expect(',', '}') == ',') {
                 ws();
@@ -602,6 +622,86 @@ final class Lexer<T> {
         throw syntax("Unclosed JSON object");
     }
 
+    // Parses an object key, returning null if the key isn't one of the field names of the selection. Keys without
+    // escapes or line breaks are compared in place so that skipped keys don't allocate.
+    private String parseSelectedKey(JsonSelection selection) {
+        if (peek() == '"') {
+            int start = position + 1;
+            for (int end = start; end < length; end++) {
+                char c = expression.charAt(end);
+                if (c == '"') {
+                    column += end + 1 - position;
+                    position = end + 1;
+                    for (String name : selection.fieldNames()) {
+                        if (name.length() == end - start && expression.regionMatches(start, name, 0, name.length())) {
+                            return name;
+                        }
+                    }
+                    return null;
+                } else if (c == '\\' || c == '\n' || c == '\r' || c == '`') {
+                    break;
+                }
+            }
+        }
+
+        String key = parseString().value.expectStringValue();
+        return selection.member(key) == null ? null : key;
+    }
+
+    private void skipJsonValue() {
+        switch (peek()) {
+            case '"':
+                skipJsonString();
+                return;
+            case '{':
+            case '[':
+                break;
+            default:
+                parseJsonValue();
+                return;
+        }
+
+        int depth = 0;
+        while (!eof()) {
+            switch (peek()) {
+                case '"':
+                    skipJsonString();
+                    continue;
+                case '{':
+                case '[':
+                    depth++;
+                    break;
+                case '}':
+                case ']':
+                    if (--depth == 0) {
+                        skip();
+                        return;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            skip();
+        }
+
+        throw syntax("Unclosed JSON value");
+    }
+
+    private void skipJsonString() {
+        skip();
+        while (!eof()) {
+            char c = peek();
+            skip();
+            if (c == '"') {
+                return;
+            } else if (c == '\\') {
+                skip();
+            }
+        }
+
+        throw syntax("Unclosed quotes");
+    }
+
     private void ws() {
         while (!eof()) {
             switch (peek()) {
@@ -0,0 +1,411 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.jmespath.evaluation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+import software.amazon.smithy.jmespath.ExpressionVisitor;
+import software.amazon.smithy.jmespath.JmespathException;
+import software.amazon.smithy.jmespath.JmespathExceptionType;
+import software.amazon.smithy.jmespath.JmespathExpression;
+import software.amazon.smithy.jmespath.RuntimeType;
+import software.amazon.smithy.jmespath.ast.AndExpression;
+import software.amazon.smithy.jmespath.ast.ComparatorExpression;
+import software.amazon.smithy.jmespath.ast.CurrentExpression;
+import software.amazon.smithy.jmespath.ast.ExpressionTypeExpression;
+import software.amazon.smithy.jmespath.ast.FieldExpression;
+import software.amazon.smithy.jmespath.ast.FilterProjectionExpression;
+import software.amazon.smithy.jmespath.ast.FlattenExpression;
+import software.amazon.smithy.jmespath.ast.FunctionExpression;
+import software.amazon.smithy.jmespath.ast.IndexExpression;
+import software.amazon.smithy.jmespath.ast.LiteralExpression;
+import software.amazon.smithy.jmespath.ast.MultiSelectHashExpression;
+import software.amazon.smithy.jmespath.ast.MultiSelectListExpression;
+import software.amazon.smithy.jmespath.ast.NotExpression;
+import software.amazon.smithy.jmespath.ast.ObjectProjectionExpression;
+import software.amazon.smithy.jmespath.ast.OrExpression;
+import software.amazon.smithy.jmespath.ast.ProjectionExpression;
+import software.amazon.smithy.jmespath.ast.SliceExpression;
+import software.amazon.smithy.jmespath.ast.Subexpression;
+
+/**
+ * A JMESPath expression compiled for a specific {@link JmespathRuntime}.
+ *
+ * <p>Compiling an expression converts the AST into a tree of closures that are each specialized for a single
+ * node of the expression. Literals are converted into runtime values once, field names are converted into runtime
+ * strings once, and functions are resolved once. Unlike {@link Evaluator}, evaluating a compiled expression
+ * doesn't allocate a visitor for every element of a projection.
+ *
+ * <p>Compiled expressions are immutable and thread safe, so they can be compiled once and evaluated any number
+ * of times. Evaluating a compiled expression produces the same results and errors as {@link Evaluator}.
+ *
+ * @param <T> Type of value the runtime operates on.
+ */
+public final class CompiledExpression<T> {
+
+    private final JmespathExpression expression;
+    private final JmespathRuntime<T> runtime;
+    private final Operation<T> root;
+
+    private CompiledExpression(JmespathExpression expression, JmespathRuntime<T> runtime, Operation<T> root) {
+        this.expression = expression;
+        this.runtime = runtime;
+        this.root = root;
+    }
+
+    /**
+     * Compiles an expression for the given runtime.
+     *
+     * @param expression Expression to compile.
+     * @param runtime The JmespathRuntime used to manipulate values.
+     * @param <T> Type of value the runtime operates on.
+     * @return Returns the compiled expression.
+     */
+    public static <T> CompiledExpression<T> compile(JmespathExpression expression, JmespathRuntime<T> runtime) {
+        return new CompiledExpression<>(expression, runtime, expression.accept(new Compiler<>(runtime)));
+    }
+
+    // Wraps an expression that's evaluated with an Evaluator, used for expression arguments of interpreted functions.
+    static <T> CompiledExpression<T> interpreted(JmespathExpression expression, JmespathRuntime<T> runtime) {
+        return new CompiledExpression<>(expression, runtime, current -> expression.evaluate(current, runtime));
+    }
+
+    /**
+     * Evaluates the expression for the given current node.
+     *
+     * @param currentNode The value to set as the current node.
+     * @return Returns the result of evaluating the expression.
+     */
+    public T evaluate(T currentNode) {
+        return root.evaluate(currentNode);
+    }
+
+    /**
+     * Evaluates the expression against a JSON value, parsing only the parts of the value the expression can observe.
+     *
+     * @param text JSON value to use as the current node.
+     * @return Returns the result of evaluating the expression.
+     * @see JmespathExpression#selectJson
+     */
+    public T evaluateJson(String text) {
+        return evaluate(expression.selectJson(text, runtime));
+    }
+
+    /**
+     * @return Returns the expression that was compiled.
+     */
+    public JmespathExpression getExpression() {
+        return expression;
+    }
+
+    /**
+     * @return Returns the runtime the expression was compiled for.
+     */
+    public JmespathRuntime<T> getRuntime() {
+        return runtime;
+    }
+
+    @FunctionalInterface
+    private interface Operation<T> {
+        T evaluate(T current);
+    }
+
+    private static final class Compiler<T> implements ExpressionVisitor<Operation<T>> {
+
+        private final JmespathRuntime<T> runtime;
+
+        Compiler(JmespathRuntime<T> runtime) {
+            this.runtime = runtime;
+        }
+
+        private Operation<T> compile(JmespathExpression expression) {
+            return expression.accept(this);
+        }
+
+        @Override
+        public Operation<T> visitComparator(ComparatorExpression comparatorExpression) {
+            Operation<T> left = compile(comparatorExpression.getLeft());
+            Operation<T> right = compile(comparatorExpression.getRight());
+            switch (comparatorExpression.getComparator()) {
+                case EQUAL:
+                    return current -> runtime.createBoolean(runtime.equal(left.evaluate(current),
+                            right.evaluate(current)));
+                case NOT_EQUAL:
+                    return current -> runtime.createBoolean(!runtime.equal(left.evaluate(current),
+                            right.evaluate(current)));
+                // NOTE: Ordering operators >, >=, <, <= are only valid for numbers. All invalid
+                // comparisons return null.
+                case LESS_THAN:
+                    return ordering(left, right, comparison -> comparison < 0);
+                case LESS_THAN_EQUAL:
+                    return ordering(left, right, comparison -> comparison <= 0);
+                case GREATER_THAN:
+                    return ordering(left, right, comparison -> comparison > 0);
+                case GREATER_THAN_EQUAL:
+                    return ordering(left, right, comparison -> comparison >= 0);
+                default:
+                    throw new IllegalArgumentException("Unsupported comparator: "
+                            + comparatorExpression.getComparator());
+            }
+        }
+
+        private Operation<T> ordering(Operation<T> left, Operation<T> right, IntPredicate test) {
+            return current -> {
+                T l = left.evaluate(current);
+                T r = right.evaluate(current);
+                if (runtime.is(l, RuntimeType.NUMBER) && runtime.is(r, RuntimeType.NUMBER)) {
+                    return runtime.createBoolean(test.test(runtime.compare(l, r)));
+                } else {
+                    return runtime.createNull();
+                }
+            };
+        }
+
+        @Override
+        public Operation<T> visitCurrentNode(CurrentExpression currentExpression) {
+            return current -> current;
+        }
+
+        @Override
+        public Operation<T> visitExpressionType(ExpressionTypeExpression expressionTypeExpression) {
+            return compile(expressionTypeExpression.getExpression());
+        }
+
+        @Override
+        public Operation<T> visitFlatten(FlattenExpression flattenExpression) {
+            Operation<T> inner = compile(flattenExpression.getExpression());
+            return current -> {
+                T value = inner.evaluate(current);
+
+                // Only lists can be flattened.
+                if (!runtime.is(value, RuntimeType.ARRAY)) {
+                    return runtime.createNull();
+                }
+                JmespathRuntime.ArrayBuilder<T> flattened = runtime.arrayBuilder();
+                for (T val : runtime.asIterable(value)) {
+                    if (runtime.is(val, RuntimeType.ARRAY)) {
+                        flattened.addAll(val);
+                    } else {
+                        flattened.add(val);
+                    }
+                }
+                return flattened.build();
+            };
+        }
+
+        @Override
+        public Operation<T> visitFunction(FunctionExpression functionExpression) {
+            Function function = FunctionRegistry.lookup(functionExpression.getName());
+            if (function == null) {
+                // Unknown functions are only an error if they're evaluated.
+                return current -> {
+                    throw new JmespathException(JmespathExceptionType.UNKNOWN_FUNCTION, functionExpression.getName());
+                };
+            }
+
+            // Expression arguments are the same for every evaluation, so only value arguments are evaluated.
+            List<JmespathExpression> expressions = functionExpression.getArguments();
+            int size = expressions.size();
+            List<FunctionArgument<T>> constantArguments = new ArrayList<>(size);
+            List<Operation<T>> valueArguments = new ArrayList<>(size);
+            for (JmespathExpression expr : expressions) {
+                if (expr instanceof ExpressionTypeExpression) {
+                    JmespathExpression argument = ((ExpressionTypeExpression) expr).getExpression();
+                    constantArguments.add(FunctionArgument.of(runtime,
+                            new CompiledExpression<>(argument, runtime, compile(argument))));
+                    valueArguments.add(null);
+                } else {
+                    constantArguments.add(null);
+                    valueArguments.add(compile(expr));
+                }
+            }
+
+            return current -> {
+                List<FunctionArgument<T>> arguments = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    Operation<T> value = valueArguments.get(i);
+                    arguments.add(value == null
+                            ? constantArguments.get(i)
+                            : FunctionArgument.of(runtime, value.evaluate(current)));
+                }
+                return function.apply(runtime, arguments);
+            };
+        }
+
+        @Override
+        public Operation<T> visitField(FieldExpression fieldExpression) {
+            T name = runtime.createString(fieldExpression.getName());
+            return current -> runtime.value(current, name);
+        }
+
+        @Override
+        public Operation<T> visitIndex(IndexExpression indexExpression) {
+            int index = indexExpression.getIndex();
+            return current -> {
+                if (!runtime.is(current, RuntimeType.ARRAY)) {
+                    return runtime.createNull();
+                }
+                int length = runtime.length(current);
+                // Negative indices indicate reverse indexing in JMESPath
+                int resolved = index < 0 ? length + index : index;
+                if (length <= resolved || resolved < 0) {
+                    return runtime.createNull();
+                }
+                return runtime.element(current, resolved);
+            };
+        }
+
+        @Override
+        public Operation<T> visitLiteral(LiteralExpression literalExpression) {
+            // Literals don't depend on the current node, so they're converted into a runtime value once.
+            T value = new Evaluator<>(runtime.createNull(), runtime).visit(literalExpression);
+            return current -> value;
+        }
+
+        @Override
+        public Operation<T> visitMultiSelectList(MultiSelectListExpression multiSelectListExpression) {
+            List<Operation<T>> operations = new ArrayList<>();
+            for (JmespathExpression exp : multiSelectListExpression.getExpressions()) {
+                operations.add(compile(exp));
+            }
+            return current -> {
+                if (runtime.is(current, RuntimeType.NULL)) {
+                    return current;
+                }
+                JmespathRuntime.ArrayBuilder<T> output = runtime.arrayBuilder();
+                for (Operation<T> operation : operations) {
+                    output.add(operation.evaluate(current));
+                }
+                return output.build();
+            };
+        }
+
+        @Override
+        public Operation<T> visitMultiSelectHash(MultiSelectHashExpression multiSelectHashExpression) {
+            List<T> keys = new ArrayList<>();
+            List<Operation<T>> operations = new ArrayList<>();
+            for (Map.Entry<String, JmespathExpression> entry : multiSelectHashExpression.getExpressions().entrySet()) {
+                keys.add(runtime.createString(entry.getKey()));
+                operations.add(compile(entry.getValue()));
+            }
+            return current -> {
+                if (runtime.is(current, RuntimeType.NULL)) {
+                    return current;
+                }
+                JmespathRuntime.ObjectBuilder<T> output = runtime.objectBuilder();
+                for (int i = 0; i < keys.size(); i++) {
+                    output.put(keys.get(i), operations.get(i).evaluate(current));
+                }
+                return output.build();
+            };
+        }
+
+        @Override
+        public Operation<T> visitAnd(AndExpression andExpression) {
+            Operation<T> left = compile(andExpression.getLeft());
+            Operation<T> right = compile(andExpression.getRight());
+            return current -> {
+                T value = left.evaluate(current);
+                return runtime.isTruthy(value) ? right.evaluate(current) : value;
+            };
+        }
+
+        @Override
+        public Operation<T> visitOr(OrExpression orExpression) {
+            Operation<T> left = compile(orExpression.getLeft());
+            Operation<T> right = compile(orExpression.getRight());
+            return current -> {
+                T value = left.evaluate(current);
+                return runtime.isTruthy(value) ? value : right.evaluate(current);
+            };
+        }
+
+        @Override
+        public Operation<T> visitNot(NotExpression notExpression) {
+            Operation<T> inner = compile(notExpression.getExpression());
+            return current -> runtime.createBoolean(!runtime.isTruthy(inner.evaluate(current)));
+        }
+
+        @Override
+        public Operation<T> visitProjection(ProjectionExpression projectionExpression) {
+            Operation<T> left = compile(projectionExpression.getLeft());
+            Operation<T> right = compile(projectionExpression.getRight());
+            return current -> {
+                T resultList = left.evaluate(current);
+                if (!runtime.is(resultList, RuntimeType.ARRAY)) {
+                    return runtime.createNull();
+                }
+                JmespathRuntime.ArrayBuilder<T> projectedResults = runtime.arrayBuilder();
+                for (T result : runtime.asIterable(resultList)) {
+                    T projected = right.evaluate(result);
+                    if (!runtime.is(projected, RuntimeType.NULL)) {
+                        projectedResults.add(projected);
+                    }
+                }
+                return projectedResults.build();
+            };
+        }
+
+        @Override
+        public Operation<T> visitFilterProjection(FilterProjectionExpression filterProjectionExpression) {
+            Operation<T> left = compile(filterProjectionExpression.getLeft());
+            Operation<T> comparison = compile(filterProjectionExpression.getComparison());
+            Operation<T> right = compile(filterProjectionExpression.getRight());
+            return current -> {
+                T values = left.evaluate(current);
+                if (!runtime.is(values, RuntimeType.ARRAY)) {
+                    return runtime.createNull();
+                }
+                JmespathRuntime.ArrayBuilder<T> results = runtime.arrayBuilder();
+                for (T val : runtime.asIterable(values)) {
+                    if (runtime.isTruthy(comparison.evaluate(val))) {
+                        T result = right.evaluate(val);
+                        if (!runtime.is(result, RuntimeType.NULL)) {
+                            results.add(result);
+                        }
+                    }
+                }
+                return results.build();
+            };
+        }
+
+        @Override
+        public Operation<T> visitObjectProjection(ObjectProjectionExpression objectProjectionExpression) {
+            Operation<T> left = compile(objectProjectionExpression.getLeft());
+            Operation<T> right = compile(objectProjectionExpression.getRight());
+            return current -> {
+                T resultObject = left.evaluate(current);
+                if (!runtime.is(resultObject, RuntimeType.OBJECT)) {
+                    return runtime.createNull();
+                }
+                JmespathRuntime.ArrayBuilder<T> projectedResults = runtime.arrayBuilder();
+                for (T member : runtime.asIterable(resultObject)) {
+                    T memberValue = runtime.value(resultObject, member);
+                    if (!runtime.is(memberValue, RuntimeType.NULL)) {
+                        T projectedResult = right.evaluate(memberValue);
+                        if (!runtime.is(projectedResult, RuntimeType.NULL)) {
+                            projectedResults.add(projectedResult);
+                        }
+                    }
+                }
+                return projectedResults.build();
+            };
+        }
+
+        @Override
+        public Operation<T> visitSlice(SliceExpression sliceExpression) {
+            return current -> Evaluator.slice(runtime, current, sliceExpression);
+        }
+
+        @Override
+        public Operation<T> visitSubexpression(Subexpression subexpression) {
+            Operation<T> left = compile(subexpression.getLeft());
+            Operation<T> right = compile(subexpression.getRight());
+            return current -> right.evaluate(left.evaluate(current));
+        }
+    }
+}
@@ -287,6 +287,10 @@ public class Evaluator<T> implements ExpressionVisitor<T> {
 
     @Override
     public T visitSlice(SliceExpression sliceExpression) {
+        return slice(runtime, current, sliceExpression);
+    }
+
+    static <T> T slice(JmespathRuntime<T> runtime, T current, SliceExpression sliceExpression) {
         if (!runtime.is(current, RuntimeType.ARRAY)) {
             return runtime.createNull();
         }
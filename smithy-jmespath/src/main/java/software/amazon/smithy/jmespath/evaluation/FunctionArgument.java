@@ -46,7 +46,15 @@ abstract class FunctionArgument<T> {
         throw new JmespathException(JmespathExceptionType.INVALID_TYPE, "invalid-type");
     }
 
+    public CompiledExpression<T> expectCompiledExpression() {
+        throw new JmespathException(JmespathExceptionType.INVALID_TYPE, "invalid-type");
+    }
+
     public static <T> FunctionArgument<T> of(JmespathRuntime<T> runtime, JmespathExpression expression) {
+        return new Expression<T>(runtime, CompiledExpression.interpreted(expression, runtime));
+    }
+
+    public static <T> FunctionArgument<T> of(JmespathRuntime<T> runtime, CompiledExpression<T> expression) {
         return new Expression<T>(runtime, expression);
     }
 
@@ -105,15 +113,20 @@ abstract class FunctionArgument<T> {
     }
 
     static class Expression<T> extends FunctionArgument<T> {
-        JmespathExpression expression;
+        CompiledExpression<T> expression;
 
-        public Expression(JmespathRuntime<T> runtime, JmespathExpression expression) {
+        public Expression(JmespathRuntime<T> runtime, CompiledExpression<T> expression) {
             super(runtime);
             this.expression = expression;
         }
 
         @Override
         public JmespathExpression expectExpression() {
+            return expression.getExpression();
+        }
+
+        @Override
+        public CompiledExpression<T> expectCompiledExpression() {
             return expression;
         }
     }
@@ -7,7 +7,6 @@ package software.amazon.smithy.jmespath.evaluation;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import software.amazon.smithy.jmespath.JmespathExpression;
 
 class SortByFunction implements Function {
     @Override
@@ -19,7 +18,7 @@ class SortByFunction implements Function {
     public <T> T apply(JmespathRuntime<T> runtime, List<FunctionArgument<T>> functionArguments) {
         checkArgumentCount(2, functionArguments);
         T array = functionArguments.get(0).expectArray();
-        JmespathExpression expression = functionArguments.get(1).expectExpression();
+        CompiledExpression<T> expression = functionArguments.get(1).expectCompiledExpression();
 
         List<T> elements = new ArrayList<>();
         for (T element : runtime.asIterable(array)) {
@@ -27,8 +26,8 @@ class SortByFunction implements Function {
         }
 
         Collections.sort(elements, (a, b) -> {
-            T aValue = expression.evaluate(a, runtime);
-            T bValue = expression.evaluate(b, runtime);
+            T aValue = expression.evaluate(a);
+            T bValue = expression.evaluate(b);
             return runtime.compare(aValue, bValue);
         });
 
@@ -0,0 +1,116 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.jmespath;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.smithy.jmespath.ast.LiteralExpression;
+
+public class JsonSelectionTest {
+
+    private static final LiteralExpressionJmespathRuntime RUNTIME = LiteralExpressionJmespathRuntime.INSTANCE;
+
+    private static final String DOCUMENT = json("{'a': {'b': [{'c': 1, 'd': {'e': true}}, {'c': 2, 'd': null}]},"
+            + " 'f': 'g', 'h': [[1, 2], [3, [4]]], 'i': {'j': {'k': 1}, 'l': {'k': 2}}}");
+
+    private static String json(String text) {
+        return text.replace('\'', '"');
+    }
+
+    @ParameterizedTest
+    @MethodSource("selections")
+    public void selectsObservableParts(String expression, String selected) {
+        LiteralExpression actual = JmespathExpression.parse(expression).selectJson(DOCUMENT, RUNTIME);
+        LiteralExpression expected = JmespathExpression.parseJson(json(selected), RUNTIME);
+
+        assertThat(RUNTIME.toString(actual), RUNTIME.equal(expected, actual), is(true));
+    }
+
+    public static Stream<Arguments> selections() {
+        String a = "{'b': [{'c': 1, 'd': {'e': true}}, {'c': 2, 'd': null}]}";
+        return Stream.of(
+                Arguments.of("f", "{'f': 'g'}"),
+                Arguments.of("a.b[0].c", "{'a': {'b': [{'c': 1}, {'c': 2}]}}"),
+                Arguments.of("a.b[*].d.e", "{'a': {'b': [{'d': {'e': true}}, {'d': null}]}}"),
+                Arguments.of("a.b[?c == `2`].d", "{'a': " + a + "}"),
+                Arguments.of("i.*.k", "{'i': {'j': {'k': 1}, 'l': {'k': 2}}}"),
+                Arguments.of("h[]", "{'h': [[1, 2], [3, [4]]]}"),
+                Arguments.of("{x: f, y: a.b[1].c}", "{'a': {'b': [{'c': 1}, {'c': 2}]}, 'f': 'g'}"),
+                Arguments.of("{x: f}.y", "{'f': 'g'}"),
+                Arguments.of("length(a)", "{'a': " + a + "}"),
+                Arguments.of("@", DOCUMENT));
+    }
+
+    @ParameterizedTest
+    @MethodSource("expressions")
+    public void evaluatesLikeEntireDocument(String expression) {
+        JmespathExpression parsed = JmespathExpression.parse(expression);
+        LiteralExpression expected = parsed.evaluate(JmespathExpression.parseJson(DOCUMENT, RUNTIME), RUNTIME);
+
+        assertThat(RUNTIME.equal(expected, parsed.evaluateJson(DOCUMENT, RUNTIME)), is(true));
+        assertThat(RUNTIME.equal(expected, parsed.compile().evaluateJson(DOCUMENT)), is(true));
+    }
+
+    public static Stream<String> expressions() {
+        return Stream.of(
+                "a.b[-1].c",
+                "a.b[::-1].c",
+                "a.b[].d",
+                "a.b[*].[c, d.e]",
+                "a.b[?d].c",
+                "a.b[?!d] | [0].c",
+                "a.missing || f",
+                "f && i.j",
+                "sort_by(a.b, &c)[0].d",
+                "max_by(values(i), &k).k",
+                "h[][]",
+                "h[1][1][0]",
+                "*.b",
+                "f.g",
+                "a.b.c",
+                "type(i.j)");
+    }
+
+    @Test
+    public void matchesEscapedKeys() {
+        LiteralExpression result = JmespathExpression.parse("\"a\\\"b\"")
+                .evaluateJson("{\"x\": 1, \"a\\\"b\": 2, \"a\\u0022c\": 3}", RUNTIME);
+
+        assertThat(result.expectNumberValue().intValue(), equalTo(2));
+    }
+
+    @Test
+    public void skipsStringsContainingBrackets() {
+        LiteralExpression result = JmespathExpression.parse("b")
+                .evaluateJson("{\"a\": [\"]}\\\"\", {\"x\": \"[\"}], \"b\": 1}", RUNTIME);
+
+        assertThat(result.expectNumberValue().intValue(), equalTo(1));
+    }
+
+    @Test
+    public void failsOnUnclosedSkippedValues() {
+        JmespathException e = Assertions.assertThrows(JmespathException.class,
+                () -> JmespathExpression.parse("b").evaluateJson(json("{'a': {'x': [1, 2}"), RUNTIME));
+
+        assertThat(e.getMessage(), containsString("Unclosed JSON value"));
+    }
+
+    @Test
+    public void tracksPositionsAcrossSkippedValues() {
+        JmespathException e = Assertions.assertThrows(JmespathException.class,
+                () -> JmespathExpression.parse("b").evaluateJson(json("{'a': {\n'x': 1\n},\n'b': tru}"), RUNTIME));
+
+        assertThat(e.getMessage(), containsString("line 4"));
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.linters;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds occurrences of many terms in text with a single case-insensitive scan.
+ *
+ * <p>This is an Aho-Corasick automaton compiled to a dense transition table, so scanning text takes one table
+ * lookup per character no matter how many terms are searched for, and the text is never copied or lowercased.
+ * Characters are compared by lowercasing each of them with {@link Character#toLowerCase(char)}, so match
+ * positions always refer to the original text.
+ *
+ * <p>Matchers are immutable and thread safe.
+ */
+final class MultiTermMatcher {
+
+    static final int NO_MATCH = -1;
+
+    private static final int[] NO_TERMS = new int[0];
+
+    private final int[] termLengths;
+
+    // Maps lowercase characters to symbols, where symbol 0 is used for characters that don't appear in any term.
+    private final int[] asciiSymbols = new int[128];
+    private final Map<Character, Integer> otherSymbols = new HashMap<>();
+    private final int symbolCount;
+
+    // Transitions from each state for each symbol, and the terms that end at each state.
+    private final int[] transitions;
+    private final int[][] outputs;
+
+    /**
+     * @param terms Terms to search for.
+     * @throws IllegalArgumentException if a term is empty.
+     */
+    MultiTermMatcher(List<String> terms) {
+        termLengths = new int[terms.size()];
+        int maxStates = 1;
+        int symbols = 1;
+        for (int i = 0; i < terms.size(); i++) {
+            String term = terms.get(i);
+            if (term.isEmpty()) {
+                throw new IllegalArgumentException("Invalid empty search term");
+            }
+            termLengths[i] = term.length();
+            maxStates += term.length();
+            for (int j = 0; j < term.length(); j++) {
+                char c = Character.toLowerCase(term.charAt(j));
+                if (c < asciiSymbols.length) {
+                    if (asciiSymbols[c] == 0) {
+                        asciiSymbols[c] = symbols++;
+                    }
+                } else if (!otherSymbols.containsKey(c)) {
+                    otherSymbols.put(c, symbols++);
+                }
+            }
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            asciiSymbols[c] = asciiSymbols[Character.toLowerCase(c)];
+        }
+        symbolCount = symbols;
+
+        // Build a trie of the terms, where -1 marks a missing edge.
+        int[] table = new int[maxStates * symbolCount];
+        Arrays.fill(table, -1);
+        int[][] terminals = new int[maxStates][];
+        int states = 1;
+        for (int i = 0; i < terms.size(); i++) {
+            String term = terms.get(i);
+            int state = 0;
+            for (int j = 0; j < term.length(); j++) {
+                int edge = state * symbolCount + symbol(term.charAt(j));
+                if (table[edge] == -1) {
+                    table[edge] = states++;
+                }
+                state = table[edge];
+            }
+            terminals[state] = append(terminals[state], i);
+        }
+
+        // Resolve missing edges through failure links in breadth-first order, so each state's failure state is
+        // complete before its children are visited.
+        outputs = new int[states][];
+        outputs[0] = NO_TERMS;
+        int[] failures = new int[states];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int symbol = 0; symbol < symbolCount; symbol++) {
+            int child = table[symbol];
+            if (child == -1) {
+                table[symbol] = 0;
+            } else {
+                outputs[child] = terminals[child] == null ? NO_TERMS : terminals[child];
+                queue.add(child);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            int base = state * symbolCount;
+            int failureBase = failures[state] * symbolCount;
+            for (int symbol = 0; symbol < symbolCount; symbol++) {
+                int child = table[base + symbol];
+                if (child == -1) {
+                    table[base + symbol] = table[failureBase + symbol];
+                } else {
+                    int failure = table[failureBase + symbol];
+                    failures[child] = failure;
+                    outputs[child] = concat(terminals[child], outputs[failure]);
+                    queue.add(child);
+                }
+            }
+        }
+
+        transitions = Arrays.copyOf(table, states * symbolCount);
+    }
+
+    /**
+     * @return Returns the number of terms the matcher searches for.
+     */
+    int size() {
+        return termLengths.length;
+    }
+
+    /**
+     * Checks if any term occurs in the given text.
+     *
+     * @param text Text to search.
+     * @return Returns true if any term is found.
+     */
+    boolean matchesAny(CharSequence text) {
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = transitions[state * symbolCount + symbol(text.charAt(i))];
+            if (outputs[state].length > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the first occurrence of each term in the given text.
+     *
+     * @param text Text to search.
+     * @return Returns the start index of the first occurrence of each term, indexed by the position of the term
+     *   in the list given to the constructor, or {@link #NO_MATCH} if the term isn't found.
+     */
+    int[] findFirstMatches(CharSequence text) {
+        int[] result = new int[termLengths.length];
+        Arrays.fill(result, NO_MATCH);
+        int remaining = result.length;
+        int state = 0;
+        for (int i = 0; i < text.length() && remaining > 0; i++) {
+            state = transitions[state * symbolCount + symbol(text.charAt(i))];
+            for (int term : outputs[state]) {
+                if (result[term] == NO_MATCH) {
+                    result[term] = i + 1 - termLengths[term];
+                    remaining--;
+                }
+            }
+        }
+        return result;
+    }
+
+    private int symbol(char c) {
+        if (c < asciiSymbols.length) {
+            return asciiSymbols[c];
+        }
+        char lower = Character.toLowerCase(c);
+        if (lower < asciiSymbols.length) {
+            return asciiSymbols[lower];
+        }
+        Integer symbol = otherSymbols.get(lower);
+        return symbol == null ? 0 : symbol;
+    }
+
+    private static int[] append(int[] values, int value) {
+        if (values == null) {
+            return new int[] {value};
+        }
+        int[] result = Arrays.copyOf(values, values.length + 1);
+        result[values.length] = value;
+        return result;
+    }
+
+    private static int[] concat(int[] first, int[] second) {
+        if (first == null) {
+            return second;
+        } else if (second.length == 0) {
+            return first;
+        }
+        int[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+}
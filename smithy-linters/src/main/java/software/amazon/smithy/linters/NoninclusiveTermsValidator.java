@@ -79,9 +79,11 @@ public final class NoninclusiveTermsValidator extends AbstractValidator {
         }
     }
 
-    private final Map<String, List<String>> termsMap;
+    private final List<Map.Entry<String, List<String>>> terms;
+    private final MultiTermMatcher termMatcher;
 
     private NoninclusiveTermsValidator(Config config) {
+        Map<String, List<String>> termsMap;
         Map<String, List<String>> termsMapInit = new HashMap<>(BUILT_IN_NONINCLUSIVE_TERMS);
         if (!config.getExcludeDefaults()) {
             termsMapInit.putAll(config.getTerms());
@@ -94,6 +96,10 @@ public final class NoninclusiveTermsValidator extends AbstractValidator {
             }
             termsMap = Collections.unmodifiableMap(config.getTerms());
         }
+
+        // Every term is found with a single scan of each text instance.
+        terms = new ArrayList<>(termsMap.entrySet());
+        termMatcher = new MultiTermMatcher(terms.stream().map(Map.Entry::getKey).collect(Collectors.toList()));
     }
 
     /**
@@ -107,11 +113,8 @@ public final class NoninclusiveTermsValidator extends AbstractValidator {
      */
     @Override
     public List<ValidationEvent> validate(Model model) {
-        TextIndex textIndex = TextIndex.of(model);
         List<ValidationEvent> validationEvents = new ArrayList<>();
-        for (TextInstance text : textIndex.getTextInstances()) {
-            validationEvents.addAll(getValidationEvents(text));
-        }
+        TextIndex.of(model).textInstances().forEach(text -> validationEvents.addAll(getValidationEvents(text)));
         return validationEvents;
     }
 
@@ -122,11 +125,13 @@ public final class NoninclusiveTermsValidator extends AbstractValidator {
      */
     private Collection<ValidationEvent> getValidationEvents(TextInstance instance) {
         final Collection<ValidationEvent> events = new ArrayList<>();
-        for (Map.Entry<String, List<String>> termEntry : termsMap.entrySet()) {
-            final String termLower = termEntry.getKey().toLowerCase();
-            final int startIndex = instance.getText().toLowerCase().indexOf(termLower);
-            if (startIndex != -1) {
-                final String matchedText = instance.getText().substring(startIndex, startIndex + termLower.length());
+        final String text = instance.getText();
+        final int[] startIndexes = termMatcher.findFirstMatches(text);
+        for (int i = 0; i < startIndexes.length; i++) {
+            final int startIndex = startIndexes[i];
+            if (startIndex != MultiTermMatcher.NO_MATCH) {
+                final Map.Entry<String, List<String>> termEntry = terms.get(i);
+                final String matchedText = text.substring(startIndex, startIndex + termEntry.getKey().length());
                 events.add(constructValidationEvent(instance, termEntry.getValue(), matchedText));
             }
         }
@@ -14,6 +14,10 @@ final class WildcardMatcher implements Predicate<String> {
 
     private final List<Predicate<String>> predicates = new ArrayList<>();
 
+    // Needles of "*foo*" patterns are found with a single scan of the text. Rebuilt when needles are added.
+    private final List<String> containsNeedles = new ArrayList<>();
+    private MultiTermMatcher containsMatcher;
+
     @Override
     public boolean test(String text) {
         if (StringUtils.isEmpty(text)) {
@@ -21,6 +25,15 @@ final class WildcardMatcher implements Predicate<String> {
         }
 
         text = text.toLowerCase(Locale.ENGLISH);
+        if (!containsNeedles.isEmpty()) {
+            if (containsMatcher == null) {
+                containsMatcher = new MultiTermMatcher(containsNeedles);
+            }
+            if (containsMatcher.matchesAny(text)) {
+                return true;
+            }
+        }
+
         for (Predicate<String> predicate : predicates) {
             if (predicate.test(text)) {
                 return true;
@@ -36,11 +49,11 @@ final class WildcardMatcher implements Predicate<String> {
         } else if (pattern.equals("*")) {
             throw new IllegalArgumentException("Invalid wildcard pattern: *");
         } else {
-            predicates.add(parseWildcardPattern(pattern));
+            parseWildcardPattern(pattern);
         }
     }
 
-    private static Predicate<String> parseWildcardPattern(String pattern) {
+    private void parseWildcardPattern(String pattern) {
         boolean suffix = false;
         boolean prefix = false;
 
@@ -62,14 +75,18 @@ final class WildcardMatcher implements Predicate<String> {
         }
 
         String needle = result.toString();
-        if (suffix && prefix) {
-            return text -> text.contains(needle);
+        if (suffix && prefix && needle.isEmpty()) {
+            // "**" matches any non-empty text.
+            predicates.add(text -> true);
+        } else if (suffix && prefix) {
+            containsNeedles.add(needle);
+            containsMatcher = null;
         } else if (suffix) {
-            return text -> text.endsWith(needle);
+            predicates.add(text -> text.endsWith(needle));
         } else if (prefix) {
-            return text -> text.startsWith(needle);
+            predicates.add(text -> text.startsWith(needle));
         } else {
-            return text -> text.equals(needle);
+            predicates.add(text -> text.equals(needle));
         }
     }
 }
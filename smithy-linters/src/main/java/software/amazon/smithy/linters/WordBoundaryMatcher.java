@@ -4,8 +4,10 @@
  */
 package software.amazon.smithy.linters;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -24,6 +26,10 @@ final class WordBoundaryMatcher implements Predicate<String> {
 
     private final Set<String> words = new HashSet<>();
 
+    // Words in iteration order, found with a single scan of the search text. Rebuilt when words are added.
+    private List<String> wordList;
+    private MultiTermMatcher wordMatcher;
+
     // Use an LRU cache that stores up to 128 canonicalized search strings (e.g. don't parse "member" over and over).
     private final Map<String, String> searchCache = new LinkedHashMap<String, String>(128, 1.0f, true) {
         @Override
@@ -44,6 +50,7 @@ final class WordBoundaryMatcher implements Predicate<String> {
         String wordPattern = parseWordPattern(terms);
         words.add(wordPattern);
         words.add(wordPattern.replace(" ", ""));
+        wordMatcher = null;
     }
 
     @Override
@@ -52,14 +59,7 @@ final class WordBoundaryMatcher implements Predicate<String> {
             return false;
         }
 
-        String haystack = searchCache.computeIfAbsent(text, WordBoundaryMatcher::splitWords);
-        for (String needle : words) {
-            if (testWordMatch(needle, haystack)) {
-                return true;
-            }
-        }
-
-        return false;
+        return getFirstMatch(text).isPresent();
     }
 
     /**
@@ -72,21 +72,26 @@ final class WordBoundaryMatcher implements Predicate<String> {
             return Optional.empty();
         }
 
+        if (wordMatcher == null) {
+            wordList = new ArrayList<>(words);
+            wordMatcher = new MultiTermMatcher(wordList);
+        }
+
         String haystack = searchCache.computeIfAbsent(text, WordBoundaryMatcher::splitWords);
-        for (String needle : words) {
-            if (testWordMatch(needle, haystack)) {
-                return Optional.of(needle);
+        int[] positions = wordMatcher.findFirstMatches(haystack);
+        for (int i = 0; i < positions.length; i++) {
+            if (testWordMatch(wordList.get(i), haystack, positions[i])) {
+                return Optional.of(wordList.get(i));
             }
         }
 
         return Optional.empty();
     }
 
-    private boolean testWordMatch(String needle, String haystack) {
-        int position = haystack.indexOf(needle);
+    private boolean testWordMatch(String needle, String haystack, int position) {
         int haystackLength = haystack.length();
         int needleLength = needle.length();
-        if (position == -1) {
+        if (position == MultiTermMatcher.NO_MATCH) {
             return false;
         } else if (needleLength == haystackLength) {
             return true;
@@ -0,0 +1,51 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.linters;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class MultiTermMatcherTest {
+
+    @ParameterizedTest
+    @MethodSource("matchProvider")
+    public void findsFirstMatchOfEachTerm(List<String> terms, String text, int[] expected) {
+        MultiTermMatcher matcher = new MultiTermMatcher(terms);
+
+        assertThat(matcher.findFirstMatches(text), equalTo(expected));
+        assertThat(matcher.matchesAny(text), is(Arrays.stream(expected).anyMatch(i -> i >= 0)));
+    }
+
+    public static Stream<Arguments> matchProvider() {
+        return Stream.of(
+                Arguments.of(Arrays.asList("he", "she", "his", "hers"), "ushers", new int[] {2, 1, -1, 2}),
+                Arguments.of(Arrays.asList("master", "slave"), "MasterSlaveMaster", new int[] {0, 6}),
+                Arguments.of(Arrays.asList("master", "aster"), "a_MASTER_b", new int[] {2, 3}),
+                Arguments.of(Arrays.asList("abcd", "bc"), "abcabcd", new int[] {3, 1}),
+                Arguments.of(Arrays.asList("aa", "aaa"), "aaaa", new int[] {0, 0}),
+                Arguments.of(Arrays.asList("foo", "Foo"), "xFOO", new int[] {1, 1}),
+                Arguments.of(Arrays.asList("straße", "ÉTÉ"), "STRAßE été", new int[] {0, 7}),
+                Arguments.of(Arrays.asList("foo", "bar"), "", new int[] {-1, -1}),
+                Arguments.of(Arrays.asList("foo", "bar"), "baz", new int[] {-1, -1}),
+                Arguments.of(Collections.emptyList(), "anything", new int[0]));
+    }
+
+    @Test
+    public void rejectsEmptyTerms() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new MultiTermMatcher(Arrays.asList("foo", "")));
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.smithy.model.shapes.ShapeId;
+
+/**
+ * Measures the throughput of {@link ShapeId#from} when threads parse IDs
+ * from a working set the size of a large model.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class ShapeIds {
+
+    private static final int SHAPE_COUNT = 60000;
+
+    @State(Scope.Benchmark)
+    public static class ShapeIdState {
+        public String[] ids;
+
+        // Keeps the interned IDs reachable, like the shapes of a loaded model would.
+        public List<ShapeId> model;
+
+        @Setup
+        public void prepare() {
+            ids = new String[SHAPE_COUNT];
+            model = new ArrayList<>(SHAPE_COUNT);
+            for (int i = 0; i < SHAPE_COUNT; i++) {
+                String id = "com.example.ns" + (i % 50) + "#Shape" + i + (i % 3 == 0 ? "$member" : "");
+                ids[i] = id;
+                model.add(ShapeId.from(id));
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int position;
+
+        String next(String[] ids) {
+            // Step through the IDs in a different order on each thread.
+            position = (position + 40503) % ids.length;
+            return ids[position];
+        }
+
+        @Setup
+        public void prepare() {
+            position = (int) (Thread.currentThread().getId() * 7919 % SHAPE_COUNT);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public ShapeId from1Thread(ShapeIdState state, Cursor cursor) {
+        return ShapeId.from(cursor.next(state.ids));
+    }
+
+    @Benchmark
+    @Threads(2)
+    public ShapeId from2Threads(ShapeIdState state, Cursor cursor) {
+        return ShapeId.from(cursor.next(state.ids));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public ShapeId from4Threads(ShapeIdState state, Cursor cursor) {
+        return ShapeId.from(cursor.next(state.ids));
+    }
+
+    @Benchmark
+    @Threads(8)
+    public ShapeId from8Threads(ShapeIdState state, Cursor cursor) {
+        return ShapeId.from(cursor.next(state.ids));
+    }
+
+    @Benchmark
+    @Threads(16)
+    public ShapeId from16Threads(ShapeIdState state, Cursor cursor) {
+        return ShapeId.from(cursor.next(state.ids));
+    }
+
+    @Benchmark
+    @Threads(32)
+    public ShapeId from32Threads(ShapeIdState state, Cursor cursor) {
+        return ShapeId.from(cursor.next(state.ids));
+    }
+}
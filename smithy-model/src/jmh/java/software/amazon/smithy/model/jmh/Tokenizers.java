@@ -0,0 +1,63 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.jmh;
+
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.smithy.model.loader.IdlToken;
+import software.amazon.smithy.model.loader.IdlTokenizer;
+import software.amazon.smithy.utils.IoUtils;
+
+/**
+ * Measures how long it takes to tokenize IDL models, without parsing or
+ * assembling them.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class Tokenizers {
+
+    @State(Scope.Thread)
+    public static class TokenizerState {
+
+        @Param({"prelude.smithy", "test-model.smithy", "http-model.smithy"})
+        public String corpus;
+
+        public String model;
+
+        @Setup
+        public void prepare() {
+            // The prelude is loaded from smithy-model itself, and the other models from the benchmark resources.
+            URL url = corpus.equals("prelude.smithy")
+                    ? IdlTokenizer.class.getResource(corpus)
+                    : Tokenizers.class.getResource(corpus);
+            model = IoUtils.readUtf8Url(url);
+        }
+    }
+
+    @Benchmark
+    public int tokenize(TokenizerState state) {
+        IdlTokenizer tokenizer = IdlTokenizer.create(state.corpus, state.model);
+        int tokens = 0;
+        while (tokenizer.getCurrentToken() != IdlToken.EOF) {
+            tokenizer.next();
+            tokens++;
+        }
+        return tokens;
+    }
+}
@@ -74,10 +74,16 @@ public final class Model implements ToSmithyBuilder<Model> {
     private final Map<ShapeId, Shape> shapeMap;
 
     /** A cache of shapes of a specific type. */
-    private final Map<Class<? extends Shape>, Set<? extends Shape>> cachedTypes = new ConcurrentHashMap<>();
+    private final Map<Class<? extends Shape>, Set<? extends Shape>> cachedTypes;
 
     /** Cache of computed {@link KnowledgeIndex} instances. */
-    private final Map<String, KnowledgeIndex> blackboard = new ConcurrentSkipListMap<>();
+    private final Map<String, KnowledgeIndex> blackboard;
+
+    /** The model that owns the caches used by this model, or null if this model owns its own caches. */
+    private final Model parent;
+
+    /** Receives the queries made against the model, or null if queries aren't observed. */
+    private final QueryListener queryListener;
 
     /** Lazily computed trait mappings. */
     private volatile TraitCache traitCache;
@@ -86,8 +92,26 @@ public final class Model implements ToSmithyBuilder<Model> {
     private int hash;
 
     private Model(Builder builder) {
-        shapeMap = builder.shapeMap.copy();
-        metadata = builder.metadata.copy();
+        this(builder.metadata.copy(), builder.shapeMap.copy());
+    }
+
+    // Used by ModelSnapshot to create a model backed by an immutable shape map that creates shapes on demand.
+    Model(Map<String, Node> metadata, Map<ShapeId, Shape> shapeMap) {
+        this.metadata = metadata;
+        this.shapeMap = shapeMap;
+        this.cachedTypes = new ConcurrentHashMap<>();
+        this.blackboard = new ConcurrentSkipListMap<>();
+        this.parent = null;
+        this.queryListener = null;
+    }
+
+    private Model(Model parent, QueryListener queryListener) {
+        this.metadata = parent.metadata;
+        this.shapeMap = parent.shapeMap;
+        this.cachedTypes = parent.cachedTypes;
+        this.blackboard = parent.blackboard;
+        this.parent = parent;
+        this.queryListener = queryListener;
     }
 
     /**
@@ -163,11 +187,18 @@ public final class Model implements ToSmithyBuilder<Model> {
      * @return Returns the immutable set of matching shapes.
      */
     public Set<Shape> getShapesWithTrait(ToShapeId trait) {
+        if (queryListener != null) {
+            queryListener.traitQueried(trait.toShapeId());
+        }
         Map<ShapeId, Set<Shape>> mappings = getTraitCache().traitIdsToShapes;
         return Collections.unmodifiableSet(mappings.getOrDefault(trait.toShapeId(), Collections.emptySet()));
     }
 
     private TraitCache getTraitCache() {
+        if (parent != null) {
+            return parent.getTraitCache();
+        }
+
         TraitCache cache = traitCache;
         if (cache == null) {
             synchronized (this) {
@@ -186,6 +217,7 @@ public final class Model implements ToSmithyBuilder<Model> {
      * @return Returns the shape IDs.
      */
     public Set<ShapeId> getShapeIds() {
+        modelQueried();
         return shapeMap.keySet();
     }
 
@@ -199,6 +231,9 @@ public final class Model implements ToSmithyBuilder<Model> {
      * @return Returns the immutable set of matching shapes.
      */
     public Set<Shape> getShapesWithTrait(Class<? extends Trait> trait) {
+        if (queryListener != null) {
+            queryListener.traitQueried(trait);
+        }
         Map<Class<? extends Trait>, Set<Shape>> mappings = getTraitCache().traitsToShapes;
         return Collections.unmodifiableSet(mappings.getOrDefault(trait, Collections.emptySet()));
     }
@@ -667,6 +702,7 @@ public final class Model implements ToSmithyBuilder<Model> {
      * @return Returns the shape IDs of traits used in the model.
      */
     public Set<ShapeId> getAppliedTraits() {
+        modelQueried();
         return Collections.unmodifiableSet(getTraitCache().traitIdsToShapes.keySet());
     }
 
@@ -687,6 +723,9 @@ public final class Model implements ToSmithyBuilder<Model> {
      * @return Returns the optional shape.
      */
     public Optional<Shape> getShape(ShapeId id) {
+        if (queryListener != null) {
+            queryListener.shapeQueried(id);
+        }
         return Optional.ofNullable(shapeMap.get(id));
     }
 
@@ -734,6 +773,7 @@ public final class Model implements ToSmithyBuilder<Model> {
      * @return Returns a stream of shapes.
      */
     public Stream<Shape> shapes() {
+        modelQueried();
         return shapeMap.values().stream();
     }
 
@@ -762,6 +802,9 @@ public final class Model implements ToSmithyBuilder<Model> {
      */
     @SuppressWarnings("unchecked")
     public <T extends Shape> Set<T> toSet(Class<T> shapeType) {
+        if (queryListener != null) {
+            queryListener.typeQueried(shapeType);
+        }
         return (Set<T>) cachedTypes.computeIfAbsent(shapeType, t -> {
             Set<T> result = new HashSet<>();
             for (Shape shape : shapeMap.values()) {
@@ -779,6 +822,7 @@ public final class Model implements ToSmithyBuilder<Model> {
      * @return Returns an unmodifiable set of shapes.
      */
     public Set<Shape> toSet() {
+        modelQueried();
         return new AbstractSet<Shape>() {
             @Override
             public int size() {
@@ -831,6 +875,7 @@ public final class Model implements ToSmithyBuilder<Model> {
 
     @Override
     public Builder toBuilder() {
+        modelQueried();
         return builder()
                 .metadata(getMetadata())
                 .addShapes(this);
@@ -848,7 +893,7 @@ public final class Model implements ToSmithyBuilder<Model> {
     public <T extends KnowledgeIndex> T getKnowledge(Class<T> type) {
         return getKnowledge(type, m -> {
             try {
-                return type.getConstructor(Model.class).newInstance(this);
+                return type.getConstructor(Model.class).newInstance(m);
             } catch (NoSuchMethodException e) {
                 String message = String.format(
                         "KnowledgeIndex for type `%s` does not expose a public constructor that accepts a Model",
@@ -885,7 +930,76 @@ public final class Model implements ToSmithyBuilder<Model> {
      */
     @SuppressWarnings("unchecked")
     public <T extends KnowledgeIndex> T getKnowledge(Class<T> type, Function<Model, T> constructor) {
-        return (T) blackboard.computeIfAbsent(type.getName(), t -> constructor.apply(this));
+        modelQueried();
+        // Indexes are shared with the model that owns the blackboard and may hold weak references to it.
+        Model owner = parent == null ? this : parent;
+        return (T) blackboard.computeIfAbsent(type.getName(), t -> constructor.apply(owner));
+    }
+
+    /**
+     * Creates a view of the model that notifies the given listener of
+     * the queries made against it.
+     *
+     * <p>The returned model is equal to this model and shares its
+     * computed caches and knowledge indexes. Queries are reported from
+     * whichever thread makes them, so listeners must be thread-safe.
+     *
+     * @param queryListener Listener to notify of queries.
+     * @return Returns the created view of the model.
+     */
+    Model withQueryListener(QueryListener queryListener) {
+        return new Model(parent == null ? this : parent, Objects.requireNonNull(queryListener));
+    }
+
+    private void modelQueried() {
+        if (queryListener != null) {
+            queryListener.modelQueried();
+        }
+    }
+
+    /**
+     * Receives the queries made against a model created by
+     * {@link #withQueryListener}.
+     *
+     * <p>This is used to determine which parts of a model a computation
+     * depends on, so that the computation only needs to be repeated when
+     * those parts change. Queries that can't be attributed to specific
+     * shapes, traits, or shape types, like streaming every shape or
+     * creating knowledge indexes, are reported through {@link #modelQueried()}.
+     */
+    interface QueryListener {
+        /**
+         * Invoked when a shape is retrieved by ID, regardless of whether it exists.
+         *
+         * @param id ID of the shape that was retrieved.
+         */
+        void shapeQueried(ShapeId id);
+
+        /**
+         * Invoked when the shapes of a specific type are retrieved.
+         *
+         * @param type Type of shape that was retrieved.
+         */
+        void typeQueried(Class<? extends Shape> type);
+
+        /**
+         * Invoked when the shapes marked with a trait are retrieved by trait shape ID.
+         *
+         * @param trait Shape ID of the trait.
+         */
+        void traitQueried(ShapeId trait);
+
+        /**
+         * Invoked when the shapes marked with a trait are retrieved by trait class.
+         *
+         * @param trait Class of the trait.
+         */
+        void traitQueried(Class<? extends Trait> trait);
+
+        /**
+         * Invoked when the query could depend on any part of the model.
+         */
+        void modelQueried();
     }
 
     /**
@@ -0,0 +1,521 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.internal.BinaryNodeReader;
+import software.amazon.smithy.model.node.internal.BinaryNodeWriter;
+import software.amazon.smithy.model.shapes.AbstractShapeBuilder;
+import software.amazon.smithy.model.shapes.MemberShape;
+import software.amazon.smithy.model.shapes.OperationShape;
+import software.amazon.smithy.model.shapes.ResourceShape;
+import software.amazon.smithy.model.shapes.ServiceShape;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.ShapeType;
+import software.amazon.smithy.model.traits.DynamicTrait;
+import software.amazon.smithy.model.traits.Trait;
+import software.amazon.smithy.model.traits.TraitFactory;
+import software.amazon.smithy.model.traits.synthetic.SyntheticEnumTrait;
+
+/**
+ * Writes and reads compact binary snapshots of a {@link Model}.
+ *
+ * <p>A snapshot stores shapes, traits, metadata, and source locations using
+ * a shared string table and an index of shape offsets. Reading a snapshot
+ * only decodes this index: shapes and their traits are decoded the first
+ * time they are accessed through the returned model, so tools that only
+ * touch a small part of a large model avoid materializing the rest of it.
+ * Operations that need every shape, like {@link Model#shapes()}, decode all
+ * remaining shapes.
+ *
+ * <p>Unlike the {@link software.amazon.smithy.model.shapes.ModelSerializer},
+ * snapshots retain synthetic traits so that a model read from a snapshot is
+ * equal to the model that was written. Synthetic traits are created using the
+ * trait factory and fall back to {@link DynamicTrait} when the factory does
+ * not know about them. The synthetic enum trait of enum shapes is not written
+ * because shape builders recompute it.
+ *
+ * <p>Snapshots are not a stable interchange format and should only be read
+ * by the same version of Smithy that wrote them.
+ */
+public final class ModelSnapshot {
+
+    private ModelSnapshot() {}
+
+    /**
+     * Writes a snapshot of the model.
+     *
+     * @param model Model to write.
+     * @return Returns the snapshot bytes.
+     */
+    public static byte[] write(Model model) {
+        BinaryNodeWriter writer = new BinaryNodeWriter();
+
+        Map<String, Node> metadata = model.getMetadata();
+        writer.writeVarInt(metadata.size());
+        for (Map.Entry<String, Node> entry : metadata.entrySet()) {
+            writer.writeString(entry.getKey());
+            writer.writeNode(entry.getValue());
+        }
+
+        // Members are written as part of their containers. Sort shapes so snapshots are deterministic.
+        Map<ShapeId, Integer> offsets = new TreeMap<>();
+        Map<ShapeId, Collection<String>> memberNames = new HashMap<>();
+        for (Shape shape : model.toSet()) {
+            if (!shape.isMemberShape()) {
+                offsets.put(shape.getId(), 0);
+                memberNames.put(shape.getId(), shape.getMemberNames());
+            }
+        }
+
+        for (Map.Entry<ShapeId, Integer> entry : offsets.entrySet()) {
+            entry.setValue(writer.position());
+            writeShape(writer, model.expectShape(entry.getKey()));
+        }
+
+        int indexOffset = writer.position();
+        writer.writeVarInt(offsets.size());
+        for (Map.Entry<ShapeId, Integer> entry : offsets.entrySet()) {
+            writer.writeString(entry.getKey().toString());
+            writer.writeVarInt(entry.getValue());
+            Collection<String> names = memberNames.get(entry.getKey());
+            writer.writeVarInt(names.size());
+            for (String name : names) {
+                writer.writeString(name);
+            }
+        }
+
+        writer.writeInt(indexOffset);
+        return writer.toByteArray();
+    }
+
+    /**
+     * Writes a snapshot of the model to a file.
+     *
+     * @param model Model to write.
+     * @param path File to write to.
+     * @throws UncheckedIOException if the file cannot be written.
+     */
+    public static void write(Model model, Path path) {
+        try {
+            Files.write(path, write(model));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads a snapshot using the default trait factory.
+     *
+     * @param data Snapshot bytes to read.
+     * @return Returns the model.
+     * @throws IllegalArgumentException if the data is not a valid snapshot.
+     */
+    public static Model read(byte[] data) {
+        return read(data, LazyTraitFactoryHolder.INSTANCE);
+    }
+
+    /**
+     * Reads a snapshot using a custom trait factory.
+     *
+     * @param data Snapshot bytes to read.
+     * @param traitFactory Factory used to create traits when shapes are decoded.
+     * @return Returns the model.
+     * @throws IllegalArgumentException if the data is not a valid snapshot.
+     */
+    public static Model read(byte[] data, TraitFactory traitFactory) {
+        return read(ByteBuffer.wrap(data), traitFactory);
+    }
+
+    /**
+     * Memory-maps and reads a snapshot file using the default trait factory.
+     *
+     * @param path Snapshot file to read.
+     * @return Returns the model.
+     * @throws UncheckedIOException if the file cannot be read.
+     * @throws IllegalArgumentException if the file is not a valid snapshot.
+     */
+    public static Model read(Path path) {
+        return read(path, LazyTraitFactoryHolder.INSTANCE);
+    }
+
+    /**
+     * Memory-maps and reads a snapshot file using a custom trait factory.
+     *
+     * <p>The file is mapped for as long as the returned model is reachable
+     * and must not be modified while it is in use.
+     *
+     * @param path Snapshot file to read.
+     * @param traitFactory Factory used to create traits when shapes are decoded.
+     * @return Returns the model.
+     * @throws UncheckedIOException if the file cannot be read.
+     * @throws IllegalArgumentException if the file is not a valid snapshot.
+     */
+    public static Model read(Path path, TraitFactory traitFactory) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), traitFactory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Model read(ByteBuffer buffer, TraitFactory traitFactory) {
+        BinaryNodeReader reader = new BinaryNodeReader(buffer, null);
+
+        int size = reader.readVarInt();
+        Map<String, Node> metadata = new LinkedHashMap<>(size);
+        for (int i = 0; i < size; i++) {
+            metadata.put(reader.readString(), reader.readNode());
+        }
+
+        BinaryNodeReader index = reader.at(reader.at(reader.getBodyLength() - 4).readInt());
+        int rootCount = index.readVarInt();
+        Map<ShapeId, Integer> offsets = new HashMap<>(rootCount * 2);
+        Set<ShapeId> ids = new LinkedHashSet<>(rootCount * 2);
+        for (int i = 0; i < rootCount; i++) {
+            ShapeId id = ShapeId.from(index.readString());
+            offsets.put(id, index.readVarInt());
+            ids.add(id);
+            int memberCount = index.readVarInt();
+            for (int j = 0; j < memberCount; j++) {
+                ids.add(id.withMember(index.readString()));
+            }
+        }
+
+        LazyShapeMap shapes = new LazyShapeMap(reader, traitFactory, offsets, Collections.unmodifiableSet(ids));
+        return new Model(Collections.unmodifiableMap(metadata), shapes);
+    }
+
+    private static void writeShape(BinaryNodeWriter writer, Shape shape) {
+        writer.writeString(shape.getType().toString());
+        writer.writeSourceLocation(shape.getSourceLocation());
+        writeTraits(writer, shape);
+        writeIds(writer, shape.getMixins());
+
+        // Only write members that aren't strictly inherited from mixins, mirroring Shape#toBuilder.
+        List<MemberShape> members = new ArrayList<>();
+        for (MemberShape member : shape.members()) {
+            if (member.getMixins().isEmpty() || !member.getIntroducedTraits().isEmpty()) {
+                members.add(member);
+            }
+        }
+
+        writer.writeVarInt(members.size());
+        for (MemberShape member : members) {
+            writer.writeString(member.getMemberName());
+            writer.writeSourceLocation(member.getSourceLocation());
+            writer.writeString(member.getTarget().toString());
+            writeTraits(writer, member);
+            writeIds(writer, member.getMixins());
+        }
+
+        switch (shape.getType()) {
+            case OPERATION:
+                OperationShape operation = (OperationShape) shape;
+                writer.writeString(operation.getInputShape().toString());
+                writer.writeString(operation.getOutputShape().toString());
+                writeIds(writer, operation.getIntroducedErrorsSet());
+                break;
+            case SERVICE:
+                ServiceShape service = (ServiceShape) shape;
+                writer.writeString(service.getIntroducedVersion());
+                writeIds(writer, service.getIntroducedErrorsSet());
+                writer.writeVarInt(service.getIntroducedRename().size());
+                for (Map.Entry<ShapeId, String> entry : service.getIntroducedRename().entrySet()) {
+                    writer.writeString(entry.getKey().toString());
+                    writer.writeString(entry.getValue());
+                }
+                writeIds(writer, service.getIntroducedOperations());
+                writeIds(writer, service.getIntroducedResources());
+                break;
+            case RESOURCE:
+                ResourceShape resource = (ResourceShape) shape;
+                writeIdMap(writer, resource.getIdentifiers());
+                writeIdMap(writer, resource.getProperties());
+                writeOptionalId(writer, resource.getPut());
+                writeOptionalId(writer, resource.getCreate());
+                writeOptionalId(writer, resource.getRead());
+                writeOptionalId(writer, resource.getUpdate());
+                writeOptionalId(writer, resource.getDelete());
+                writeOptionalId(writer, resource.getList());
+                writeIds(writer, resource.getOperations());
+                writeIds(writer, resource.getCollectionOperations());
+                writeIds(writer, resource.getResources());
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static void writeTraits(BinaryNodeWriter writer, Shape shape) {
+        List<Trait> traits = new ArrayList<>(shape.getIntroducedTraits().size());
+        for (Trait trait : shape.getIntroducedTraits().values()) {
+            if (!(trait instanceof SyntheticEnumTrait)) {
+                traits.add(trait);
+            }
+        }
+
+        writer.writeVarInt(traits.size());
+        for (Trait trait : traits) {
+            writer.writeString(trait.toShapeId().toString());
+            writer.writeNode(trait.toNode());
+        }
+    }
+
+    private static void writeIds(BinaryNodeWriter writer, Collection<ShapeId> ids) {
+        writer.writeVarInt(ids.size());
+        for (ShapeId id : ids) {
+            writer.writeString(id.toString());
+        }
+    }
+
+    private static void writeIdMap(BinaryNodeWriter writer, Map<String, ShapeId> ids) {
+        writer.writeVarInt(ids.size());
+        for (Map.Entry<String, ShapeId> entry : ids.entrySet()) {
+            writer.writeString(entry.getKey());
+            writer.writeString(entry.getValue().toString());
+        }
+    }
+
+    private static void writeOptionalId(BinaryNodeWriter writer, Optional<ShapeId> id) {
+        if (id.isPresent()) {
+            writer.writeByte(1);
+            writer.writeString(id.get().toString());
+        } else {
+            writer.writeByte(0);
+        }
+    }
+
+    // Lazy initialization holder class idiom to hold a default trait factory.
+    private static final class LazyTraitFactoryHolder {
+        static final TraitFactory INSTANCE = TraitFactory.createServiceFactory(ModelSnapshot.class.getClassLoader());
+    }
+
+    /**
+     * An immutable shape map that knows every shape ID up front and decodes shapes the first time they are needed.
+     */
+    private static final class LazyShapeMap extends AbstractMap<ShapeId, Shape> {
+        private final BinaryNodeReader reader;
+        private final TraitFactory traitFactory;
+        private final Map<ShapeId, Integer> offsets;
+        private final Set<ShapeId> ids;
+        private final Map<ShapeId, Shape> decoded = new ConcurrentHashMap<>();
+        private final Set<Map.Entry<ShapeId, Shape>> entrySet = new EntrySet();
+
+        LazyShapeMap(
+                BinaryNodeReader reader,
+                TraitFactory traitFactory,
+                Map<ShapeId, Integer> offsets,
+                Set<ShapeId> ids
+        ) {
+            this.reader = reader;
+            this.traitFactory = traitFactory;
+            this.offsets = offsets;
+            this.ids = ids;
+        }
+
+        @Override
+        public Shape get(Object key) {
+            if (!(key instanceof ShapeId)) {
+                return null;
+            }
+
+            ShapeId id = (ShapeId) key;
+            if (id.hasMember()) {
+                Shape container = get(id.withoutMember());
+                return container == null ? null : container.getMember(id.getMember().get()).orElse(null);
+            }
+
+            Shape shape = decoded.get(id);
+            if (shape == null) {
+                Integer offset = offsets.get(id);
+                if (offset == null) {
+                    return null;
+                }
+                // computeIfAbsent isn't used because decoding a shape recursively decodes its mixins.
+                shape = decodeShape(reader.at(offset), id);
+                Shape previous = decoded.putIfAbsent(id, shape);
+                if (previous != null) {
+                    shape = previous;
+                }
+            }
+
+            return shape;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return ids.contains(key);
+        }
+
+        @Override
+        public int size() {
+            return ids.size();
+        }
+
+        @Override
+        public Set<ShapeId> keySet() {
+            return ids;
+        }
+
+        @Override
+        public Set<Map.Entry<ShapeId, Shape>> entrySet() {
+            return entrySet;
+        }
+
+        private Shape decodeShape(BinaryNodeReader in, ShapeId id) {
+            ShapeType type = ShapeType.fromString(in.readString())
+                    .orElseThrow(() -> new IllegalArgumentException("Invalid shape type in snapshot for " + id));
+            AbstractShapeBuilder<?, ?> builder = type.createBuilderForType();
+            builder.id(id);
+            builder.source(in.readSourceLocation());
+            builder.addTraits(readTraits(in, id));
+            for (ShapeId mixin : readIds(in)) {
+                builder.addMixin(expectShape(mixin));
+            }
+
+            int memberCount = in.readVarInt();
+            for (int i = 0; i < memberCount; i++) {
+                ShapeId memberId = id.withMember(in.readString());
+                MemberShape.Builder member = MemberShape.builder()
+                        .id(memberId)
+                        .source(in.readSourceLocation())
+                        .target(ShapeId.from(in.readString()))
+                        .addTraits(readTraits(in, memberId));
+                for (ShapeId mixin : readIds(in)) {
+                    member.addMixin(expectShape(mixin));
+                }
+                builder.addMember(member.build());
+            }
+
+            switch (type) {
+                case OPERATION:
+                    ((OperationShape.Builder) builder)
+                            .input(ShapeId.from(in.readString()))
+                            .output(ShapeId.from(in.readString()))
+                            .errors(readIds(in));
+                    break;
+                case SERVICE:
+                    ServiceShape.Builder service = (ServiceShape.Builder) builder;
+                    service.version(in.readString());
+                    service.errors(readIds(in));
+                    int renameCount = in.readVarInt();
+                    for (int i = 0; i < renameCount; i++) {
+                        service.putRename(ShapeId.from(in.readString()), in.readString());
+                    }
+                    service.operations(readIds(in));
+                    service.resources(readIds(in));
+                    break;
+                case RESOURCE:
+                    ResourceShape.Builder resource = (ResourceShape.Builder) builder;
+                    resource.identifiers(readIdMap(in));
+                    resource.properties(readIdMap(in));
+                    resource.put(readOptionalId(in));
+                    resource.create(readOptionalId(in));
+                    resource.read(readOptionalId(in));
+                    resource.update(readOptionalId(in));
+                    resource.delete(readOptionalId(in));
+                    resource.list(readOptionalId(in));
+                    resource.operations(readIds(in));
+                    resource.collectionOperations(readIds(in));
+                    resource.resources(readIds(in));
+                    break;
+                default:
+                    break;
+            }
+
+            return builder.build();
+        }
+
+        private Shape expectShape(ShapeId id) {
+            Shape shape = get(id);
+            if (shape == null) {
+                throw new IllegalArgumentException("Shape not found in snapshot: " + id);
+            }
+            return shape;
+        }
+
+        private List<Trait> readTraits(BinaryNodeReader in, ShapeId target) {
+            int count = in.readVarInt();
+            List<Trait> traits = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                ShapeId traitId = ShapeId.from(in.readString());
+                Node value = in.readNode();
+                traits.add(traitFactory.createTrait(traitId, target, value)
+                        .orElseGet(() -> new DynamicTrait(traitId, value)));
+            }
+            return traits;
+        }
+
+        private static List<ShapeId> readIds(BinaryNodeReader in) {
+            int count = in.readVarInt();
+            List<ShapeId> ids = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                ids.add(ShapeId.from(in.readString()));
+            }
+            return ids;
+        }
+
+        private static Map<String, ShapeId> readIdMap(BinaryNodeReader in) {
+            int count = in.readVarInt();
+            Map<String, ShapeId> ids = new LinkedHashMap<>(count);
+            for (int i = 0; i < count; i++) {
+                ids.put(in.readString(), ShapeId.from(in.readString()));
+            }
+            return ids;
+        }
+
+        private static ShapeId readOptionalId(BinaryNodeReader in) {
+            return in.readByte() == 0 ? null : ShapeId.from(in.readString());
+        }
+
+        private final class EntrySet extends AbstractSet<Map.Entry<ShapeId, Shape>> {
+            @Override
+            public Iterator<Map.Entry<ShapeId, Shape>> iterator() {
+                Iterator<ShapeId> delegate = ids.iterator();
+                return new Iterator<Map.Entry<ShapeId, Shape>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return delegate.hasNext();
+                    }
+
+                    @Override
+                    public Map.Entry<ShapeId, Shape> next() {
+                        ShapeId id = delegate.next();
+                        return new AbstractMap.SimpleImmutableEntry<>(id, get(id));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return ids.size();
+            }
+        }
+    }
+}
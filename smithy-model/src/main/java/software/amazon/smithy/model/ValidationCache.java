@@ -0,0 +1,251 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.StringNode;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.traits.Trait;
+import software.amazon.smithy.model.validation.ValidationEvent;
+import software.amazon.smithy.utils.SmithyInternalApi;
+
+/**
+ * Caches the events emitted by each validator of a model validator, along with the parts of the
+ * model each validator queried, so that validators that can't be affected by changes to a model don't
+ * need to run again when the model is revalidated.
+ *
+ * <p>Validators are identified by a key given by the caller, and each validator is given a view of the
+ * model that records the shapes, shape types, and traits it queries. Only {@link Model} can create such
+ * a view, which is why this class is in the same package as {@code Model} rather than the package of
+ * the model validator that uses it. When the next model is validated, the shapes that were added,
+ * removed, or changed are computed, and a cached result is only reused if the validator didn't query
+ * any of them. Shapes are considered changed if they aren't equal or if their source locations or the
+ * source locations of their traits differ, since events refer to source locations. Validators that
+ * stream every shape or that use knowledge indexes always run again, as does every validator when
+ * metadata changes.
+ *
+ * <p>Cached events have not been decorated, so suppressions and severity overrides are applied to
+ * them again each time they are reused.
+ */
+@SmithyInternalApi
+public final class ValidationCache {
+
+    private Model model;
+    private Map<String, Entry> entries = Collections.emptyMap();
+    private Model nextModel;
+    private Map<String, Entry> pending;
+    private Delta delta;
+
+    /**
+     * Starts validating a model.
+     *
+     * @param nextModel Model that is about to be validated.
+     */
+    public void begin(Model nextModel) {
+        this.nextModel = nextModel;
+        pending = new ConcurrentHashMap<>();
+        if (model == null || !model.getMetadata().equals(nextModel.getMetadata())) {
+            delta = null;
+        } else {
+            delta = Delta.compute(model, nextModel);
+        }
+    }
+
+    /**
+     * Retains the results of the validators that ran or were reused since {@link #begin}.
+     *
+     * <p>Results of validators that didn't run, for example because validation stopped early, are
+     * discarded.
+     */
+    public void end() {
+        model = nextModel;
+        entries = pending;
+        nextModel = null;
+        pending = null;
+        delta = null;
+    }
+
+    /**
+     * Gets the events of a validator, only running it if changes to the model can affect its events.
+     *
+     * @param key Key that identifies the validator.
+     * @param validator Function that runs the validator against the given view of the model.
+     * @return Returns the events emitted by the validator before they were decorated.
+     */
+    public List<ValidationEvent> validate(String key, Function<Model, List<ValidationEvent>> validator) {
+        Entry entry = entries.get(key);
+        if (entry == null || delta == null || delta.affects(entry.queries)) {
+            Queries queries = new Queries();
+            entry = new Entry(queries, validator.apply(nextModel.withQueryListener(queries)));
+        }
+        pending.put(key, entry);
+        return entry.events;
+    }
+
+    private static final class Entry {
+        private final Queries queries;
+        private final List<ValidationEvent> events;
+
+        Entry(Queries queries, List<ValidationEvent> events) {
+            this.queries = queries;
+            this.events = events;
+        }
+    }
+
+    /**
+     * Records the queries made by a validator. Validators may query the model from multiple threads.
+     */
+    private static final class Queries implements Model.QueryListener {
+        private final Set<ShapeId> shapes = ConcurrentHashMap.newKeySet();
+        private final Set<Class<? extends Shape>> types = ConcurrentHashMap.newKeySet();
+        private final Set<ShapeId> traitIds = ConcurrentHashMap.newKeySet();
+        private final Set<Class<? extends Trait>> traitClasses = ConcurrentHashMap.newKeySet();
+        private volatile boolean wholeModel;
+
+        @Override
+        public void shapeQueried(ShapeId id) {
+            shapes.add(id);
+        }
+
+        @Override
+        public void typeQueried(Class<? extends Shape> type) {
+            types.add(type);
+        }
+
+        @Override
+        public void traitQueried(ShapeId trait) {
+            traitIds.add(trait);
+        }
+
+        @Override
+        public void traitQueried(Class<? extends Trait> trait) {
+            traitClasses.add(trait);
+        }
+
+        @Override
+        public void modelQueried() {
+            wholeModel = true;
+        }
+    }
+
+    // The shapes that differ between two models, and the types and traits of their old and new versions.
+    private static final class Delta {
+        private final Set<ShapeId> shapes = new HashSet<>();
+        private final Set<Class<? extends Shape>> types = new HashSet<>();
+        private final Set<ShapeId> traitIds = new HashSet<>();
+        private final Set<Class<? extends Trait>> traitClasses = new HashSet<>();
+
+        static Delta compute(Model previous, Model next) {
+            Delta delta = new Delta();
+
+            for (Shape shape : next.toSet()) {
+                Shape old = previous.getShape(shape.getId()).orElse(null);
+                if (old == null) {
+                    delta.add(shape);
+                } else if (old != shape && (!old.equals(shape) || !sameLocations(old, shape))) {
+                    delta.add(old);
+                    delta.add(shape);
+                }
+            }
+
+            for (Shape shape : previous.toSet()) {
+                if (!next.getShape(shape.getId()).isPresent()) {
+                    delta.add(shape);
+                }
+            }
+
+            return delta;
+        }
+
+        private static boolean sameLocations(Shape a, Shape b) {
+            if (!a.getSourceLocation().equals(b.getSourceLocation())) {
+                return false;
+            }
+            for (Trait trait : a.getAllTraits().values()) {
+                Trait other = b.getAllTraits().get(trait.toShapeId());
+                if (other == null
+                        || !trait.getSourceLocation().equals(other.getSourceLocation())
+                        || !sameLocations(trait.toNode(), other.toNode())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // Nodes are equal at this point, so only their locations need to be compared.
+        private static boolean sameLocations(Node a, Node b) {
+            if (!a.getSourceLocation().equals(b.getSourceLocation())) {
+                return false;
+            } else if (a.isArrayNode()) {
+                List<Node> elements = a.expectArrayNode().getElements();
+                List<Node> others = b.expectArrayNode().getElements();
+                for (int i = 0; i < elements.size(); i++) {
+                    if (!sameLocations(elements.get(i), others.get(i))) {
+                        return false;
+                    }
+                }
+            } else if (a.isObjectNode()) {
+                // Members that were reordered are treated as moved.
+                Iterator<Map.Entry<StringNode, Node>> others = b.expectObjectNode().getMembers().entrySet().iterator();
+                for (Map.Entry<StringNode, Node> entry : a.expectObjectNode().getMembers().entrySet()) {
+                    Map.Entry<StringNode, Node> other = others.next();
+                    if (!entry.getKey().equals(other.getKey())
+                            || !sameLocations(entry.getKey(), other.getKey())
+                            || !sameLocations(entry.getValue(), other.getValue())) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private void add(Shape shape) {
+            shapes.add(shape.getId());
+            types.add(shape.getClass());
+            for (Trait trait : shape.getAllTraits().values()) {
+                traitIds.add(trait.toShapeId());
+                traitClasses.add(trait.getClass());
+            }
+        }
+
+        boolean affects(Queries queries) {
+            if (queries.wholeModel
+                    || containsAny(queries.shapes, shapes)
+                    || containsAny(queries.traitIds, traitIds)
+                    || containsAny(queries.traitClasses, traitClasses)) {
+                return true;
+            }
+
+            // Shapes can be queried by a supertype, like NumberShape.
+            for (Class<? extends Shape> queried : queries.types) {
+                for (Class<? extends Shape> changed : types) {
+                    if (queried.isAssignableFrom(changed)) {
+                        return true;
+                    }
+                }
+            }
+
+            return false;
+        }
+
+        private static <T> boolean containsAny(Set<T> queried, Set<T> changed) {
+            for (T value : changed) {
+                if (queried.contains(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -4,6 +4,8 @@
  */
 package software.amazon.smithy.model.knowledge;
 
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -11,13 +13,17 @@ import java.util.Collections;
 import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.loader.Prelude;
 import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.node.ObjectNode;
 import software.amazon.smithy.model.shapes.MemberShape;
 import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
 import software.amazon.smithy.model.traits.ReferencesTrait;
 import software.amazon.smithy.model.traits.Trait;
 import software.amazon.smithy.model.validation.validators.TraitValueValidator;
@@ -25,35 +31,109 @@ import software.amazon.smithy.utils.SmithyUnstableApi;
 
 /**
  * Index containing the full set of {@link TextInstance}s associated with a model.
+ *
+ * <p>Text instances are computed on demand, and the list returned by {@link #getTextInstances()} is only softly
+ * referenced, so the index doesn't keep the text of every shape and trait value alive for the lifetime of the model.
+ * Use {@link #textInstances()} to scan the text of a model one shape at a time, optionally in parallel.
  */
 @SmithyUnstableApi
 public final class TextIndex implements KnowledgeIndex {
-    private final List<TextInstance> textInstanceList = new ArrayList<>();
+    private final WeakReference<Model> model;
+    private final boolean validatePrelude;
+    private volatile Set<ShapeId> namespaceShapes;
+    private volatile SoftReference<List<TextInstance>> textInstances = new SoftReference<>(null);
 
     public TextIndex(Model model) {
-        Set<String> visitedNamespaces = new HashSet<>();
+        this.model = new WeakReference<>(model);
         // Validating the prelude is a feature for internal-only Smithy development
         Node validatePreludeNode = model.getMetadata().get(TraitValueValidator.VALIDATE_PRELUDE);
-        boolean validatePrelude = validatePreludeNode != null
+        validatePrelude = validatePreludeNode != null
                 ? validatePreludeNode.expectBooleanNode().getValue()
                 : false;
-
-        for (final Shape shape : model.toSet()) {
-            if (validatePrelude || !Prelude.isPreludeShape(shape)) {
-                if (visitedNamespaces.add(shape.getId().getNamespace())) {
-                    textInstanceList.add(TextInstance.createNamespaceText(shape.getId().getNamespace()));
-                }
-                computeShapeTextInstances(shape, textInstanceList, model);
-            }
-        }
     }
 
     public static TextIndex of(Model model) {
         return model.getKnowledge(TextIndex.class, TextIndex::new);
     }
 
+    /**
+     * Gets all of the text instances of the model.
+     *
+     * <p>The list is softly referenced, so it's computed again if the garbage collector reclaims it.
+     *
+     * @return Returns the text instances of the model.
+     */
     public Collection<TextInstance> getTextInstances() {
-        return Collections.unmodifiableList(textInstanceList);
+        List<TextInstance> result = textInstances.get();
+        if (result == null) {
+            result = Collections.unmodifiableList(textInstances().collect(Collectors.toList()));
+            textInstances = new SoftReference<>(result);
+        }
+        return result;
+    }
+
+    /**
+     * Lazily computes the text instances of the model.
+     *
+     * <p>The text instances of each shape are only computed when the stream reaches the shape, and the stream is
+     * split by shape when run in parallel. The text instance of each namespace precedes the text instances of the
+     * first shape in that namespace.
+     *
+     * @return Returns a stream of the text instances of the model.
+     */
+    public Stream<TextInstance> textInstances() {
+        Model m = getModel();
+        Set<ShapeId> firstShapes = getNamespaceShapes(m);
+        return m.shapes().filter(this::isIndexed).flatMap(shape -> {
+            List<TextInstance> instances = getTextInstances(shape, m);
+            if (firstShapes.contains(shape.getId())) {
+                instances.add(0, TextInstance.createNamespaceText(shape.getId().getNamespace()));
+            }
+            return instances.stream();
+        });
+    }
+
+    /**
+     * Computes the text instances of a single shape, including the shape's name and the text of its traits.
+     *
+     * <p>The text instance of the shape's namespace isn't included.
+     *
+     * @param shape Shape to get the text instances of.
+     * @return Returns the text instances of the shape.
+     */
+    public List<TextInstance> getTextInstances(Shape shape) {
+        return getTextInstances(shape, getModel());
+    }
+
+    private Model getModel() {
+        return Objects.requireNonNull(model.get(), "The dereferenced WeakReference<Model> is null");
+    }
+
+    private boolean isIndexed(Shape shape) {
+        return validatePrelude || !Prelude.isPreludeShape(shape);
+    }
+
+    // Finds the first indexed shape of each namespace, which is the shape its namespace text instance is
+    // reported with. Only shape IDs are retained, so this doesn't keep any text alive.
+    private Set<ShapeId> getNamespaceShapes(Model m) {
+        Set<ShapeId> result = namespaceShapes;
+        if (result == null) {
+            Set<String> visitedNamespaces = new HashSet<>();
+            result = new HashSet<>();
+            for (Shape shape : m.toSet()) {
+                if (isIndexed(shape) && visitedNamespaces.add(shape.getId().getNamespace())) {
+                    result.add(shape.getId());
+                }
+            }
+            namespaceShapes = result;
+        }
+        return result;
+    }
+
+    private static List<TextInstance> getTextInstances(Shape shape, Model model) {
+        List<TextInstance> textInstances = new ArrayList<>();
+        computeShapeTextInstances(shape, textInstances, model);
+        return textInstances;
     }
 
     private static void computeShapeTextInstances(
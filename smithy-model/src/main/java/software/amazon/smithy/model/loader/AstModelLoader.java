@@ -117,15 +117,28 @@ final class AstModelLoader {
         LoaderUtils.checkForAdditionalProperties(model, null, TOP_LEVEL_PROPERTIES).ifPresent(this::emit);
         StringNode versionNode = model.expectStringMember("smithy");
         consumer.accept(new LoadOperation.ModelVersion(modelVersion, versionNode.getSourceLocation()));
-        loadMetadata();
+        loadMetadata(model);
         loadShapes();
     }
 
+    /**
+     * Loads top-level members of a streamed model that were parsed after its shapes.
+     *
+     * <p>The members that precede the shapes are loaded by {@link #parse}, and each shape is then loaded with
+     * {@link #loadShape} as soon as it's parsed.
+     *
+     * @param members Members that followed the shapes.
+     */
+    void parseTrailingMembers(ObjectNode members) {
+        LoaderUtils.checkForAdditionalProperties(members, null, TOP_LEVEL_PROPERTIES).ifPresent(this::emit);
+        loadMetadata(members);
+    }
+
     private void emit(ValidationEvent event) {
         operations.accept(new LoadOperation.Event(event));
     }
 
-    private void loadMetadata() {
+    private void loadMetadata(ObjectNode model) {
         try {
             model.getObjectMember(METADATA).ifPresent(metadata -> {
                 for (Map.Entry<String, Node> entry : metadata.getStringMap().entrySet()) {
@@ -140,23 +153,27 @@ final class AstModelLoader {
     private void loadShapes() {
         model.getObjectMember(SHAPES).ifPresent(shapes -> {
             for (Map.Entry<StringNode, Node> entry : shapes.getMembers().entrySet()) {
-                ShapeId id = entry.getKey().expectShapeId();
-                ObjectNode definition = entry.getValue().expectObjectNode();
-                String type = definition.expectStringMember(TYPE).getValue();
-                try {
-                    // Note: loadShape() returns null when using apply for traits.
-                    LoadOperation.DefineShape defineShape = loadShape(id, type, definition);
-                    if (defineShape != null) {
-                        operations.accept(defineShape);
-                    }
-                } catch (SourceException e) {
-                    ValidationEvent event = ValidationEvent.fromSourceException(e).toBuilder().shapeId(id).build();
-                    emit(event);
-                }
+                loadShape(entry.getKey(), entry.getValue());
             }
         });
     }
 
+    void loadShape(StringNode key, Node value) {
+        ShapeId id = key.expectShapeId();
+        ObjectNode definition = value.expectObjectNode();
+        String type = definition.expectStringMember(TYPE).getValue();
+        try {
+            // Note: loadShape() returns null when using apply for traits.
+            LoadOperation.DefineShape defineShape = loadShape(id, type, definition);
+            if (defineShape != null) {
+                operations.accept(defineShape);
+            }
+        } catch (SourceException e) {
+            ValidationEvent event = ValidationEvent.fromSourceException(e).toBuilder().shapeId(id).build();
+            emit(event);
+        }
+    }
+
     private LoadOperation.DefineShape loadShape(ShapeId id, String type, ObjectNode value) {
         switch (type) {
             case "blob":
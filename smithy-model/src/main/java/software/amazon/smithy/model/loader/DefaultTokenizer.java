@@ -4,6 +4,7 @@
  */
 package software.amazon.smithy.model.loader;
 
+import java.nio.CharBuffer;
 import java.util.NoSuchElementException;
 import software.amazon.smithy.model.SourceLocation;
 import software.amazon.smithy.utils.NumberUtils;
@@ -11,8 +12,19 @@ import software.amazon.smithy.utils.SimpleParser;
 
 class DefaultTokenizer implements IdlTokenizer {
 
+    // Identifier characters (ALPHA / DIGIT / "_") indexed by ASCII code.
+    private static final boolean[] IDENTIFIER_CHARS = new boolean[128];
+
+    static {
+        for (int c = 0; c < IDENTIFIER_CHARS.length; c++) {
+            IDENTIFIER_CHARS[c] = ParserUtils.isValidIdentifierCharacter(c);
+        }
+    }
+
     private final String filename;
     private final SimpleParser parser;
+    private final CharSequence input;
+    private final int length;
     private IdlToken currentTokenType;
     private int currentTokenStart = -1;
     private int currentTokenEnd = -1;
@@ -25,6 +37,8 @@ class DefaultTokenizer implements IdlTokenizer {
     DefaultTokenizer(String filename, CharSequence model) {
         this.filename = filename;
         this.parser = new SimpleParser(model, 64);
+        this.input = model;
+        this.length = model.length();
     }
 
     @Override
@@ -251,6 +265,14 @@ class DefaultTokenizer implements IdlTokenizer {
                 + location.getColumn() + ": " + message, location);
     }
 
+    // Finishes a token whose characters were scanned directly from the input rather than through the parser.
+    // The scanned characters must not contain line breaks.
+    private IdlToken advanceTo(int end, IdlToken type) {
+        parser.rewind(end, currentTokenLine, currentTokenColumn + end - currentTokenStart);
+        currentTokenEnd = end;
+        return currentTokenType = type;
+    }
+
     private IdlToken singleCharToken(IdlToken type) {
         parser.skip();
         currentTokenEnd = parser.position();
@@ -264,9 +286,15 @@ class DefaultTokenizer implements IdlTokenizer {
     }
 
     private IdlToken tokenizeSpace() {
-        parser.consumeWhile(c -> c == ' ' || c == '\t');
-        currentTokenEnd = parser.position();
-        return currentTokenType = IdlToken.SPACE;
+        int end = currentTokenStart + 1;
+        while (end < length) {
+            char c = input.charAt(end);
+            if (c != ' ' && c != '\t') {
+                break;
+            }
+            end++;
+        }
+        return advanceTo(end, IdlToken.SPACE);
     }
 
     private IdlToken parseColon() {
@@ -304,7 +332,16 @@ class DefaultTokenizer implements IdlTokenizer {
             type = IdlToken.DOC_COMMENT;
         }
 
-        parser.consumeRemainingCharactersOnLine();
+        // Skip the rest of the line, stopping at the same characters as consumeRemainingCharactersOnLine.
+        int end = parser.position();
+        while (end < length) {
+            char c = input.charAt(end);
+            if (c == '\n' || c == '\r' || c == SimpleParser.EOF) {
+                break;
+            }
+            end++;
+        }
+        parser.rewind(end, currentTokenLine, currentTokenColumn + end - currentTokenStart);
 
         // Include the newline in the comment and doc comment lexeme.
         if (parser.expect('\r', '\n', SimpleParser.EOF) == '\r' && parser.peek() == '\n') {
@@ -333,6 +370,19 @@ class DefaultTokenizer implements IdlTokenizer {
     }
 
     private IdlToken parseIdentifier() {
+        // Identifiers that start with a letter are always valid, so only leading underscores need to be validated.
+        if (input.charAt(currentTokenStart) != '_') {
+            int end = currentTokenStart + 1;
+            while (end < length) {
+                char c = input.charAt(end);
+                if (c >= IDENTIFIER_CHARS.length || !IDENTIFIER_CHARS[c]) {
+                    break;
+                }
+                end++;
+            }
+            return advanceTo(end, IdlToken.IDENTIFIER);
+        }
+
         try {
             ParserUtils.consumeIdentifier(parser);
             currentTokenType = IdlToken.IDENTIFIER;
@@ -360,6 +410,19 @@ class DefaultTokenizer implements IdlTokenizer {
             }
         }
 
+        // Strings without escapes, line breaks, or control characters are their own contents, so they're scanned
+        // directly and sliced from the input.
+        int contentStart = parser.position();
+        for (int end = contentStart; end < length; end++) {
+            char c = input.charAt(end);
+            if (c == '"') {
+                currentTokenStringSlice = CharBuffer.wrap(input, contentStart, end);
+                return advanceTo(end + 1, IdlToken.STRING);
+            } else if (c == '\\' || (c < 0x20 && c != '\t')) {
+                break;
+            }
+        }
+
         try {
             // Parse the contents of a quoted string.
             currentTokenStringSlice = parseQuotedTextAndTextBlock(false);
@@ -0,0 +1,157 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.loader;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.validation.ValidationEvent;
+import software.amazon.smithy.utils.Pair;
+
+/**
+ * Buffers the operations created while parsing a single model file, and records
+ * what the file contributed so that it doesn't need to be parsed again when the
+ * model is reassembled.
+ *
+ * <p>Operations are buffered until they are replayed into a processor, and then
+ * any subsequent operations are forwarded directly to the processor. Loaders can
+ * emit operations after parsing has completed (e.g., when forward references are
+ * resolved while the model is built), and those operations need to reach the
+ * processor too.
+ *
+ * <p>Dependencies on mixins and resources are only known once forward references
+ * are resolved, so {@link #finish()} must be called after the model is built.
+ * Traits are applied when forward references are resolved too, so the traits and
+ * metadata a file contributed are recorded as its operations pass through it.
+ * Files that aren't retained for reassembly only buffer their operations.
+ */
+final class LoadedModelFile implements Consumer<LoadOperation> {
+
+    private List<LoadOperation> buffer = new ArrayList<>();
+    private Consumer<LoadOperation> delegate;
+    private final List<ValidationEvent> events;
+    private List<LoadOperation.DefineShape> definitions;
+    private Set<ShapeId> definedShapes = Collections.emptySet();
+    private Set<ShapeId> dependencies = Collections.emptySet();
+    private final Set<Pair<ShapeId, ShapeId>> appliedTraits;
+    private final Set<String> metadataKeys;
+
+    /**
+     * @param record Whether to record what the file contributed, or only buffer its operations.
+     */
+    LoadedModelFile(boolean record) {
+        events = record ? new ArrayList<>() : null;
+        definitions = record ? new ArrayList<>() : null;
+        appliedTraits = record ? new HashSet<>() : null;
+        metadataKeys = record ? new HashSet<>() : null;
+    }
+
+    @Override
+    public void accept(LoadOperation operation) {
+        if (events != null) {
+            if (operation instanceof LoadOperation.Event) {
+                events.add(((LoadOperation.Event) operation).event);
+            } else if (operation instanceof LoadOperation.DefineShape && definitions != null) {
+                definitions.add((LoadOperation.DefineShape) operation);
+            } else if (operation instanceof LoadOperation.ApplyTrait) {
+                LoadOperation.ApplyTrait applyTrait = (LoadOperation.ApplyTrait) operation;
+                appliedTraits.add(Pair.of(applyTrait.target, applyTrait.trait));
+            } else if (operation instanceof LoadOperation.PutMetadata) {
+                metadataKeys.add(((LoadOperation.PutMetadata) operation).key);
+            }
+        }
+
+        if (delegate != null) {
+            delegate.accept(operation);
+        } else {
+            buffer.add(operation);
+        }
+    }
+
+    /**
+     * Sends buffered operations to the processor, and forwards subsequent operations to it.
+     *
+     * @param processor Processor to receive operations.
+     */
+    void replay(Consumer<LoadOperation> processor) {
+        delegate = processor;
+        buffer.forEach(processor);
+        buffer = null;
+    }
+
+    /**
+     * Records dependencies after the model is built and releases the processor and shape builders.
+     */
+    void finish() {
+        if (definitions != null) {
+            definedShapes = collectDefinedShapes();
+            Set<ShapeId> result = new LinkedHashSet<>();
+            for (LoadOperation.DefineShape definition : definitions) {
+                result.addAll(definition.dependencies());
+            }
+            dependencies = result;
+            definitions = null;
+            delegate = null;
+        }
+    }
+
+    /**
+     * Gets the events emitted while parsing the file.
+     *
+     * @return Returns the parse events.
+     */
+    List<ValidationEvent> events() {
+        return events;
+    }
+
+    /**
+     * Gets the root shapes defined in the file.
+     *
+     * @return Returns the defined shape IDs.
+     */
+    Set<ShapeId> definedShapes() {
+        return definitions == null ? definedShapes : collectDefinedShapes();
+    }
+
+    /**
+     * Gets the shapes that shapes in the file depend on, like mixins.
+     *
+     * @return Returns the dependencies. This is empty until {@link #finish()} is called.
+     */
+    Set<ShapeId> dependencies() {
+        return dependencies;
+    }
+
+    /**
+     * Gets the traits the file applied to shapes, including traits defined inline with a shape.
+     *
+     * @return Returns pairs of the shape ID each trait was applied to and the trait ID.
+     */
+    Set<Pair<ShapeId, ShapeId>> appliedTraits() {
+        return appliedTraits;
+    }
+
+    /**
+     * Gets the metadata keys the file set.
+     *
+     * @return Returns the metadata keys.
+     */
+    Set<String> metadataKeys() {
+        return metadataKeys;
+    }
+
+    private Set<ShapeId> collectDefinedShapes() {
+        Set<ShapeId> result = new LinkedHashSet<>(definitions.size());
+        for (LoadOperation.DefineShape definition : definitions) {
+            result.add(definition.toShapeId());
+        }
+        return result;
+    }
+}
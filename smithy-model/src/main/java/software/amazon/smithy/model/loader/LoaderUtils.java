@@ -6,9 +6,17 @@ package software.amazon.smithy.model.loader;
 
 import static java.lang.String.format;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import software.amazon.smithy.model.FromSourceLocation;
 import software.amazon.smithy.model.SourceLocation;
 import software.amazon.smithy.model.node.ExpectationNotMetException;
@@ -102,6 +110,106 @@ final class LoaderUtils {
         return false;
     }
 
+    /**
+     * Applies a function to each value in parallel and returns the results in the order of the values.
+     *
+     * <p>If no executor is given, values are mapped using a parallel stream on the common fork-join pool.
+     * Otherwise, tasks that each map the next unmapped value are submitted to the executor, and the calling
+     * thread maps values too. Every value is mapped even if the executor never runs a task, so the executor
+     * can be the one that the caller is running on. If mapping a value fails, no more values are mapped,
+     * tasks that haven't started are cancelled, and the failure is rethrown once mapping stops.
+     *
+     * @param values Values to map.
+     * @param mapper Function to apply to each value.
+     * @param executor Executor used to run tasks, or null to use a parallel stream.
+     * @param <T> Type of value to map.
+     * @param <R> Type of result.
+     * @return Returns the results in the same order as the given values.
+     */
+    static <T, R> List<R> parallelMap(List<T> values, Function<T, R> mapper, Executor executor) {
+        if (executor == null) {
+            return values.parallelStream().map(mapper).collect(Collectors.toList());
+        }
+
+        ParallelMap<T, R> map = new ParallelMap<>(values, mapper);
+        List<CompletableFuture<Void>> futures = new ArrayList<>(values.size());
+        for (int i = 1; i < values.size(); i++) {
+            futures.add(CompletableFuture.runAsync(map, executor));
+        }
+
+        map.run();
+
+        // Every value has been claimed, so tasks that haven't started have nothing left to do.
+        for (CompletableFuture<Void> future : futures) {
+            future.cancel(false);
+        }
+
+        return map.join();
+    }
+
+    // Maps values claimed one at a time by any number of threads. Each result is written by the thread that
+    // claimed its value, and the latch makes every result visible to the thread that joins.
+    private static final class ParallelMap<T, R> implements Runnable {
+        private final List<T> values;
+        private final Function<T, R> mapper;
+        private final List<R> results;
+        private final AtomicInteger next = new AtomicInteger();
+        private final CountDownLatch remaining;
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        ParallelMap(List<T> values, Function<T, R> mapper) {
+            this.values = values;
+            this.mapper = mapper;
+            results = new ArrayList<>(values.size());
+            for (int i = 0; i < values.size(); i++) {
+                results.add(null);
+            }
+            remaining = new CountDownLatch(values.size());
+        }
+
+        @Override
+        public void run() {
+            for (int i = next.getAndIncrement(); i < values.size(); i = next.getAndIncrement()) {
+                try {
+                    if (failure.get() == null) {
+                        results.set(i, mapper.apply(values.get(i)));
+                    }
+                } catch (RuntimeException | Error e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    remaining.countDown();
+                }
+            }
+        }
+
+        // Waits for values claimed by other threads, and rethrows what a mapper threw, like a SourceException,
+        // just as a parallel stream would.
+        List<R> join() {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    remaining.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+
+            Throwable e = failure.get();
+            if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            } else if (e instanceof Error) {
+                throw (Error) e;
+            }
+
+            return results;
+        }
+    }
+
     static ValidationEvent emitBadDocComment(SourceLocation location, String comments) {
         String message = "Found documentation comments ('///') attached to nothing. Documentation comments must "
                 + "appear on their own lines, directly before shapes and members, and before any traits.";
@@ -17,19 +17,28 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.SourceException;
+import software.amazon.smithy.model.SourceLocation;
+import software.amazon.smithy.model.ValidationCache;
+import software.amazon.smithy.model.node.ArrayNode;
 import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.shapes.AbstractShapeBuilder;
+import software.amazon.smithy.model.shapes.MemberShape;
 import software.amazon.smithy.model.shapes.Shape;
 import software.amazon.smithy.model.shapes.ShapeId;
 import software.amazon.smithy.model.traits.Trait;
@@ -39,6 +48,7 @@ import software.amazon.smithy.model.validation.ValidationEvent;
 import software.amazon.smithy.model.validation.ValidationEventDecorator;
 import software.amazon.smithy.model.validation.Validator;
 import software.amazon.smithy.model.validation.ValidatorFactory;
+import software.amazon.smithy.model.validation.ValidatorProfile;
 import software.amazon.smithy.utils.Pair;
 
 /**
@@ -72,6 +82,17 @@ public final class ModelAssembler {
      */
     public static final String DISABLE_JAR_CACHE = "assembler.disableJarCache";
 
+    /**
+     * Parses model files in parallel.
+     *
+     * <p>When this property is set to true, each model file added to the
+     * assembler is tokenized and parsed on a worker thread into its own
+     * buffer of load operations. The buffers are then replayed into the
+     * loader in the order in which files were added, so shape resolution
+     * and emitted validation events remain deterministic.
+     */
+    public static final String PARALLEL_LOADING = "assembler.parallelLoading";
+
     private static final Logger LOGGER = Logger.getLogger(ModelAssembler.class.getName());
 
     private static final Consumer<ValidationEvent> DEFAULT_EVENT_LISTENER = ValidationEvent -> {
@@ -91,7 +112,12 @@ public final class ModelAssembler {
     private final Map<String, Object> properties = new HashMap<>();
     private boolean disablePrelude;
     private Consumer<ValidationEvent> validationEventListener = DEFAULT_EVENT_LISTENER;
+    private Consumer<ValidatorProfile> validatorProfileListener;
+    private Executor executor;
     private StringTable stringTable;
+    private boolean reassemblyEnabled;
+    private LoadState loadState;
+    private ValidationCache validationCache;
 
     // Lazy initialization holder class idiom to hold a default trait factory.
     static final class LazyTraitFactoryHolder {
@@ -118,7 +144,10 @@ public final class ModelAssembler {
         assembler.properties.putAll(properties);
         assembler.disableValidation = disableValidation;
         assembler.validationEventListener = validationEventListener;
+        assembler.validatorProfileListener = validatorProfileListener;
+        assembler.executor = executor;
         assembler.stringTable = stringTable;
+        assembler.reassemblyEnabled = reassemblyEnabled;
         return assembler;
     }
 
@@ -138,6 +167,8 @@ public final class ModelAssembler {
      *     <li>Metadata registered via {@link #putMetadata}</li>
      *     <li>Validation is re-enabled if it was disabled.</li>
      *     <li>Validation event listener via {@link #validationEventListener(Consumer)}</li>
+     *     <li>Validator profile listener via {@link #validatorProfileListener(Consumer)}</li>
+     *     <li>The state used by {@link #reassemble} to reuse previously loaded files and validation results.</li>
      * </ul>
      *
      * <p>The state of {@link #disablePrelude} is reset such that the prelude
@@ -156,6 +187,9 @@ public final class ModelAssembler {
         disablePrelude = false;
         disableValidation = false;
         validationEventListener = DEFAULT_EVENT_LISTENER;
+        validatorProfileListener = null;
+        loadState = null;
+        validationCache = null;
         return this;
     }
 
@@ -182,6 +216,7 @@ public final class ModelAssembler {
      */
     public ModelAssembler validatorFactory(ValidatorFactory validatorFactory) {
         this.validatorFactory = Objects.requireNonNull(validatorFactory);
+        validationCache = null;
         return this;
     }
 
@@ -193,6 +228,7 @@ public final class ModelAssembler {
      */
     public ModelAssembler addValidator(Validator validator) {
         validators.add(Objects.requireNonNull(validator));
+        validationCache = null;
         return this;
     }
 
@@ -323,6 +359,24 @@ public final class ModelAssembler {
         return this;
     }
 
+    /**
+     * Retains the state needed by {@link #reassemble} each time a model is assembled.
+     *
+     * <p>By default, the assembler doesn't keep anything from a model once it
+     * has been assembled, and model files are loaded directly into the model.
+     * When reassembly is enabled, the assembler keeps the most recently
+     * assembled model, along with what each model file contributed to it and
+     * the results of each validator, until the assembler is {@link #reset}.
+     * This allows {@link #reassemble} to only load and validate what changed,
+     * at the cost of keeping the previous model in memory.
+     *
+     * @return Returns the assembler.
+     */
+    public ModelAssembler enableReassembly() {
+        reassemblyEnabled = true;
+        return this;
+    }
+
     /**
      * Disables automatically loading the prelude models.
      *
@@ -496,6 +550,54 @@ public final class ModelAssembler {
         return this;
     }
 
+    /**
+     * Sets a listener that receives a {@link ValidatorProfile} each time a
+     * {@link Validator} runs, including validators defined in metadata.
+     *
+     * <p>Profiles record how long each validator took, how many events it
+     * emitted, and approximately how many bytes it allocated, and are used to
+     * find validators that dominate validation time. Validators that don't run,
+     * like validators whose results are reused by {@link #reassemble}, are not
+     * reported.
+     *
+     * <p>The consumer could be invoked simultaneously by multiple threads. It's
+     * up to the consumer to perform any necessary synchronization.
+     *
+     * @param profileListener Listener invoked for each validator, or null to stop profiling validators.
+     * @return Returns the assembler.
+     */
+    public ModelAssembler validatorProfileListener(Consumer<ValidatorProfile> profileListener) {
+        validatorProfileListener = profileListener;
+        return this;
+    }
+
+    /**
+     * Sets the executor used to run validators in parallel, and to parse
+     * model files in parallel when {@link #PARALLEL_LOADING} is enabled.
+     *
+     * <p>Validators, and model files, are claimed one at a time by tasks
+     * submitted to the executor, so a validator that takes a long time to
+     * run doesn't delay validators queued behind it while other threads are
+     * idle. The thread that assembles the model claims them too, so the
+     * executor can be one that the model is assembled on, even if all of its
+     * threads are busy. If a validator or model file fails, tasks that
+     * haven't started are cancelled. Results are combined in the same order
+     * regardless of the executor, so validation events remain deterministic.
+     * By default, these tasks run on the common fork-join pool. Providing an
+     * executor keeps them off of that pool, and allows executors that use
+     * virtual threads to be used.
+     *
+     * <p>The assembler does not shut down the executor. Validators that
+     * use parallel streams internally still use the common fork-join pool.
+     *
+     * @param executor Executor to use, or null to use the common fork-join pool.
+     * @return Returns the assembler.
+     */
+    public ModelAssembler executor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
     /**
      * Assembles the model and returns the validated result.
      *
@@ -503,27 +605,8 @@ public final class ModelAssembler {
      *  and validation events.
      */
     public ValidatedResult<Model> assemble() {
-        if (traitFactory == null) {
-            traitFactory = LazyTraitFactoryHolder.INSTANCE;
-        }
-
-        if (validatorFactory == null) {
-            validatorFactory = ModelValidator.defaultValidationFactory();
-        }
-
-        // Create a singular, composed event decorator used to modify events.
-        ValidationEventDecorator decorator = ValidationEventDecorator.compose(validatorFactory.loadDecorators());
-
-        Model prelude = disablePrelude ? null : Prelude.getPreludeModel();
-
-        // As issues are encountered, they are decorated and then emitted.
-        LoadOperationProcessor processor = new LoadOperationProcessor(
-                traitFactory,
-                prelude,
-                areUnknownTraitsAllowed(),
-                validationEventListener,
-                decorator);
-        List<ValidationEvent> events = processor.events();
+        ValidationEventDecorator decorator = initialize();
+        LoadOperationProcessor processor = createProcessor(decorator);
 
         // Register manually added metadata.
         addMetadataToProcessor(metadata, processor);
@@ -547,16 +630,17 @@ public final class ModelAssembler {
             }
         }
 
-        if (stringTable == null) {
-            stringTable = new StringTable();
-        }
-
-        // Load model files into the processor.
-        for (Map.Entry<String, Supplier<InputStream>> entry : inputStreamModels.entrySet()) {
-            try {
-                ModelLoader.load(traitFactory, properties, entry.getKey(), processor, entry.getValue(), stringTable);
-            } catch (SourceException e) {
-                processor.accept(new LoadOperation.Event(ValidationEvent.fromSourceException(e)));
+        // Load model files into the processor. Files are only buffered when they're parsed in parallel or when
+        // what they contributed needs to be retained for reassembly.
+        Map<String, LoadedModelFile> files = Collections.emptyMap();
+        if (reassemblyEnabled || (isParallelLoadingEnabled() && inputStreamModels.size() > 1)) {
+            files = parseModelFiles(inputStreamModels);
+            for (LoadedModelFile file : files.values()) {
+                file.replay(processor);
+            }
+        } else {
+            for (Map.Entry<String, Supplier<InputStream>> entry : inputStreamModels.entrySet()) {
+                loadModelFile(entry.getKey(), entry.getValue(), processor, getStringTable());
             }
         }
 
@@ -566,12 +650,223 @@ public final class ModelAssembler {
             processor.accept(LoadOperation.ApplyTrait.from(entry.getKey(), entry.getValue()));
         }
 
+        return buildAndValidate(processor, decorator, files);
+    }
+
+    /**
+     * Assembles the model again after model files have changed, reusing a
+     * result previously returned by this assembler.
+     *
+     * <p>Shapes, traits, and metadata that changed and removed files
+     * contributed to the previous model are removed, and only the changed
+     * files are parsed again. Files that define shapes that depend on shapes
+     * from a changed file, like shapes that use a mixin defined in a changed
+     * file, are parsed again too. Everything else is reused from the previous
+     * model, including shapes, traits, and metadata that were added to the
+     * assembler directly; only changes to model files are applied.
+     *
+     * <p>The resulting model is validated incrementally: the shapes, shape
+     * types, and traits each validator queries are recorded, and validators
+     * that didn't query anything that changed since the model was last
+     * validated are not run again. Their previous events are
+     * reused instead, with suppressions and severity overrides applied again.
+     * Validators that query the entire model, like those that use knowledge
+     * indexes or selectors, are always run again, as is every validator when
+     * metadata changes. The first call to this method validates the model in
+     * full.
+     *
+     * <p>Changed files that have not been added to the assembler are imported
+     * using {@link #addImport(Path)}, and removed files are removed from the
+     * assembler. Changed files are read again from disk unless they were
+     * registered using {@link #addUnparsedModel(String, String)} with their
+     * absolute path as the source location, in which case the most recently
+     * registered contents are used.
+     *
+     * <p>Calling this method enables reassembly (see {@link #enableReassembly()}).
+     * The model is assembled from scratch using {@link #assemble()} if reassembly
+     * wasn't enabled when the previous result was assembled, if the
+     * previous result is not the most recent result created by this assembler,
+     * if the previous model could not be loaded without errors, if the
+     * changes alter how shape references in unchanged files are resolved, or
+     * if a changed file applies a trait to a shape or sets a metadata key that
+     * an unchanged file also does, since their values are merged or conflict.
+     *
+     * @param previous Result previously returned by this assembler.
+     * @param changedFiles Files that were added or modified since the previous result was assembled.
+     * @param removedFiles Files that were removed since the previous result was assembled.
+     * @return Returns the validated result that optionally contains a Model
+     *  and validation events.
+     */
+    public ValidatedResult<Model> reassemble(
+            ValidatedResult<Model> previous,
+            Collection<Path> changedFiles,
+            Collection<Path> removedFiles
+    ) {
+        Set<String> dirty = new HashSet<>();
+        for (Path file : changedFiles) {
+            String filename = file.toAbsolutePath().toString();
+            if (!inputStreamModels.containsKey(filename)) {
+                addImport(file);
+            }
+            dirty.add(filename);
+        }
+        for (Path file : removedFiles) {
+            String filename = file.toAbsolutePath().toString();
+            inputStreamModels.remove(filename);
+            dirty.add(filename);
+        }
+
+        reassemblyEnabled = true;
+        if (validationCache == null) {
+            validationCache = new ValidationCache();
+        }
+
+        LoadState state = loadState;
+        Model previousModel = previous.getResult().orElse(null);
+        if (state == null
+                || previousModel != state.model
+                || state.hasLoadErrors
+                || !addDependentFiles(state, dirty)) {
+            return assemble();
+        }
+
+        Map<String, LoadedModelFile> retained = new LinkedHashMap<>();
+        List<LoadedModelFile> removed = new ArrayList<>();
+        for (Map.Entry<String, LoadedModelFile> entry : state.files.entrySet()) {
+            if (dirty.contains(entry.getKey())) {
+                removed.add(entry.getValue());
+            } else {
+                retained.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        // A trait or metadata value that dirty and unchanged files both contributed to is merged from each of their
+        // values, so what the dirty files contributed can't be removed from it.
+        if (sharesContributions(removed, retained.values())) {
+            return assemble();
+        }
+
+        // Parse changed files before touching the processor so that a full assembly can still be performed
+        // without having emitted any events.
+        Map<String, Supplier<InputStream>> changedModels = new LinkedHashMap<>();
+        for (Map.Entry<String, Supplier<InputStream>> entry : inputStreamModels.entrySet()) {
+            if (dirty.contains(entry.getKey())) {
+                changedModels.put(entry.getKey(), entry.getValue());
+            }
+        }
+        Map<String, LoadedModelFile> changed = parseModelFiles(changedModels);
+        if (changesPreludeShadowing(state, dirty, changed)) {
+            return assemble();
+        }
+
+        // Events are held until the model is built, since traits that changed files apply are only known then, and
+        // a full assembly is performed if they're merged with traits from unchanged files.
+        ValidationEventDecorator decorator = initialize();
+        HeldEventListener loadEvents = new HeldEventListener(validationEventListener);
+        LoadOperationProcessor processor = createProcessor(decorator, loadEvents);
+        Map<String, LoadedModelFile> files = new LinkedHashMap<>(retained);
+
+        // Reuse what unchanged files contributed, including the events emitted while parsing them.
+        for (LoadedModelFile file : retained.values()) {
+            for (ValidationEvent event : file.events()) {
+                processor.accept(new LoadOperation.Event(event));
+            }
+        }
+
+        addMetadataToProcessor(removeMetadataFromFiles(previousModel.getMetadata(), dirty), processor);
+
+        List<Pair<ShapeId, Trait>> retainedTraits = new ArrayList<>();
+        for (Shape shape : previousModel.toSet()) {
+            if (!shape.isMemberShape() && !Prelude.isPreludeShape(shape)) {
+                if (dirty.contains(shape.getSourceLocation().getFilename())) {
+                    // Keep traits applied to the shape from elsewhere since the shape's own file is parsed again.
+                    collectTraitsFromOtherFiles(shape, dirty, retainedTraits);
+                } else {
+                    processor.putCreatedShape(removeTraitsFromFiles(shape, dirty));
+                }
+            }
+        }
+
+        for (Map.Entry<String, LoadedModelFile> entry : changed.entrySet()) {
+            files.put(entry.getKey(), entry.getValue());
+            entry.getValue().replay(processor);
+        }
+
+        for (Pair<ShapeId, Trait> entry : retainedTraits) {
+            processor.accept(LoadOperation.ApplyTrait.from(entry.getKey(), entry.getValue()));
+        }
+
+        Model processedModel = buildModel(processor, files);
+        if (sharesContributions(changed.values(), retained.values())) {
+            return assemble();
+        }
+
+        loadEvents.release();
+        return validate(processedModel, processor, decorator, files);
+    }
+
+    private ValidationEventDecorator initialize() {
+        if (traitFactory == null) {
+            traitFactory = LazyTraitFactoryHolder.INSTANCE;
+        }
+
+        if (validatorFactory == null) {
+            validatorFactory = ModelValidator.defaultValidationFactory();
+        }
+
+        // Create a singular, composed event decorator used to modify events.
+        return ValidationEventDecorator.compose(validatorFactory.loadDecorators());
+    }
+
+    private LoadOperationProcessor createProcessor(ValidationEventDecorator decorator) {
+        return createProcessor(decorator, validationEventListener);
+    }
+
+    private LoadOperationProcessor createProcessor(
+            ValidationEventDecorator decorator,
+            Consumer<ValidationEvent> eventListener
+    ) {
+        Model prelude = disablePrelude ? null : Prelude.getPreludeModel();
+
+        // As issues are encountered, they are decorated and then emitted.
+        return new LoadOperationProcessor(
+                traitFactory,
+                prelude,
+                areUnknownTraitsAllowed(),
+                eventListener,
+                decorator);
+    }
+
+    private ValidatedResult<Model> buildAndValidate(
+            LoadOperationProcessor processor,
+            ValidationEventDecorator decorator,
+            Map<String, LoadedModelFile> files
+    ) {
+        return validate(buildModel(processor, files), processor, decorator, files);
+    }
+
+    private static Model buildModel(LoadOperationProcessor processor, Map<String, LoadedModelFile> files) {
         Model processedModel = processor.buildModel();
+        for (LoadedModelFile file : files.values()) {
+            file.finish();
+        }
+        return processedModel;
+    }
+
+    private ValidatedResult<Model> validate(
+            Model processedModel,
+            LoadOperationProcessor processor,
+            ValidationEventDecorator decorator,
+            Map<String, LoadedModelFile> files
+    ) {
+        List<ValidationEvent> events = processor.events();
 
         // Do the 1.0 -> 2.0 transform before full-model validation.
         Model transformed = new ModelInteropTransformer(processedModel, events, processor::getShapeVersion).transform();
+        boolean hasLoadErrors = LoaderUtils.containsErrorEvents(events);
+        loadState = reassemblyEnabled ? new LoadState(transformed, files, hasLoadErrors) : null;
 
-        if (disableValidation || LoaderUtils.containsErrorEvents(events)) {
+        if (disableValidation || hasLoadErrors) {
             // All events have been emitted and decorated at this point.
             return new ValidatedResult<>(transformed, events);
         }
@@ -583,6 +878,9 @@ public final class ModelAssembler {
                     .eventListener(validationEventListener)
                     .includeEvents(events)
                     .legacyValidationMode((boolean) properties.getOrDefault("LEGACY_VALIDATION_MODE", false))
+                    .validationCache(validationCache)
+                    .profileListener(validatorProfileListener)
+                    .executor(executor)
                     .build()
                     .validate(transformed);
             return new ValidatedResult<>(transformed, mergedEvents);
@@ -592,12 +890,272 @@ public final class ModelAssembler {
         }
     }
 
+    // When parallel loading is enabled, each file is parsed using its own StringTable since StringTable is
+    // not thread-safe. The returned map preserves the insertion order of the given files, so files are
+    // replayed into the processor in exactly the same order that a sequential load would have used.
+    private Map<String, LoadedModelFile> parseModelFiles(Map<String, Supplier<InputStream>> models) {
+        Map<String, LoadedModelFile> result = new LinkedHashMap<>();
+
+        if (isParallelLoadingEnabled() && models.size() > 1) {
+            List<Map.Entry<String, Supplier<InputStream>>> entries = new ArrayList<>(models.entrySet());
+            List<LoadedModelFile> parsed = LoaderUtils.parallelMap(entries,
+                    entry -> parseModelFile(entry.getKey(), entry.getValue(), new StringTable()),
+                    executor);
+            for (int i = 0; i < entries.size(); i++) {
+                result.put(entries.get(i).getKey(), parsed.get(i));
+            }
+        } else {
+            StringTable table = getStringTable();
+            for (Map.Entry<String, Supplier<InputStream>> entry : models.entrySet()) {
+                result.put(entry.getKey(), parseModelFile(entry.getKey(), entry.getValue(), table));
+            }
+        }
+
+        return result;
+    }
+
+    private LoadedModelFile parseModelFile(
+            String filename,
+            Supplier<InputStream> contentSupplier,
+            StringTable table
+    ) {
+        LoadedModelFile file = new LoadedModelFile(reassemblyEnabled);
+        loadModelFile(filename, contentSupplier, file, table);
+        return file;
+    }
+
+    private void loadModelFile(
+            String filename,
+            Supplier<InputStream> contentSupplier,
+            Consumer<LoadOperation> operationConsumer,
+            StringTable table
+    ) {
+        try {
+            ModelLoader.load(traitFactory, properties, filename, operationConsumer, contentSupplier, table);
+        } catch (SourceException e) {
+            operationConsumer.accept(new LoadOperation.Event(ValidationEvent.fromSourceException(e)));
+        }
+    }
+
+    private StringTable getStringTable() {
+        if (stringTable == null) {
+            stringTable = new StringTable();
+        }
+        return stringTable;
+    }
+
+    // Adds files that depend on shapes defined in dirty files to the dirty set until no more files are added.
+    // Returns false if a dependent file can't be parsed again because it isn't a model file of this assembler.
+    private boolean addDependentFiles(LoadState state, Set<String> dirty) {
+        boolean added = true;
+        while (added) {
+            added = false;
+            for (Map.Entry<String, LoadedModelFile> entry : state.files.entrySet()) {
+                if (!dirty.contains(entry.getKey()) && dependsOnFiles(entry.getValue(), state.model, dirty)) {
+                    if (!inputStreamModels.containsKey(entry.getKey())) {
+                        return false;
+                    }
+                    dirty.add(entry.getKey());
+                    added = true;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean dependsOnFiles(LoadedModelFile file, Model model, Set<String> files) {
+        for (ShapeId dependency : file.dependencies()) {
+            Shape shape = model.getShape(dependency).orElse(null);
+            if (shape != null && files.contains(shape.getSourceLocation().getFilename())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Relative shape references that can't be resolved in the current namespace resolve to the prelude, so
+    // adding or removing a shape that shadows a prelude shape changes what references in other files target.
+    private boolean changesPreludeShadowing(LoadState state, Set<String> dirty, Map<String, LoadedModelFile> changed) {
+        if (disablePrelude) {
+            return false;
+        }
+
+        Set<ShapeId> before = new HashSet<>();
+        for (String filename : dirty) {
+            LoadedModelFile file = state.files.get(filename);
+            if (file != null) {
+                collectPreludeShadows(file.definedShapes(), before);
+            }
+        }
+
+        Set<ShapeId> after = new HashSet<>();
+        for (LoadedModelFile file : changed.values()) {
+            collectPreludeShadows(file.definedShapes(), after);
+        }
+
+        return !before.equals(after);
+    }
+
+    private static void collectPreludeShadows(Set<ShapeId> shapes, Set<ShapeId> result) {
+        Set<ShapeId> preludeShapes = Prelude.getPreludeModel().getShapeIds();
+        for (ShapeId id : shapes) {
+            if (preludeShapes.contains(ShapeId.fromParts(Prelude.NAMESPACE, id.getName()))) {
+                result.add(id);
+            }
+        }
+    }
+
+    // Checks if any of the given files applied the same trait to a shape or set the same metadata key as one of the
+    // other files, or as the traits and metadata that were added to the assembler directly.
+    private boolean sharesContributions(Collection<LoadedModelFile> files, Collection<LoadedModelFile> others) {
+        Set<Pair<ShapeId, ShapeId>> traits = new HashSet<>();
+        Set<String> keys = new HashSet<>(metadata.keySet());
+        for (Pair<ShapeId, Trait> entry : pendingTraits) {
+            traits.add(Pair.of(entry.getKey(), entry.getValue().toShapeId()));
+        }
+        for (Model model : mergeModels) {
+            keys.addAll(model.getMetadata().keySet());
+        }
+        for (LoadedModelFile file : others) {
+            traits.addAll(file.appliedTraits());
+            keys.addAll(file.metadataKeys());
+        }
+
+        for (LoadedModelFile file : files) {
+            if (!Collections.disjoint(traits, file.appliedTraits())
+                    || !Collections.disjoint(keys, file.metadataKeys())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Removes metadata, and elements of merged array metadata, that came from one of the given files.
+    private static Map<String, Node> removeMetadataFromFiles(Map<String, Node> metadata, Set<String> files) {
+        Map<String, Node> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Node> entry : metadata.entrySet()) {
+            Node value = entry.getValue();
+            boolean fromFile = files.contains(value.getSourceLocation().getFilename());
+            if (!value.isArrayNode()) {
+                if (!fromFile) {
+                    result.put(entry.getKey(), value);
+                }
+                continue;
+            }
+
+            List<Node> elements = new ArrayList<>();
+            for (Node element : value.expectArrayNode().getElements()) {
+                if (!files.contains(element.getSourceLocation().getFilename())) {
+                    elements.add(element);
+                }
+            }
+
+            if (!fromFile && elements.size() == value.expectArrayNode().size()) {
+                result.put(entry.getKey(), value);
+            } else if (!elements.isEmpty()) {
+                SourceLocation location = fromFile ? elements.get(0).getSourceLocation() : value.getSourceLocation();
+                result.put(entry.getKey(), new ArrayNode(elements, location));
+            }
+        }
+        return result;
+    }
+
+    // Removes traits that one of the given files applied to a shape or its members.
+    private static Shape removeTraitsFromFiles(Shape shape, Set<String> files) {
+        AbstractShapeBuilder<?, ?> builder = null;
+
+        for (Trait trait : shape.getIntroducedTraits().values()) {
+            if (files.contains(trait.getSourceLocation().getFilename())) {
+                if (builder == null) {
+                    builder = Shape.shapeToBuilder(shape);
+                }
+                builder.removeTrait(trait.toShapeId());
+            }
+        }
+
+        for (MemberShape member : shape.members()) {
+            Shape updated = removeTraitsFromFiles(member, files);
+            if (updated != member) {
+                if (builder == null) {
+                    builder = Shape.shapeToBuilder(shape);
+                }
+                builder.addMember((MemberShape) updated);
+            }
+        }
+
+        return builder == null ? shape : builder.build();
+    }
+
+    // Collects traits that files other than the given files applied to a shape or its members, along with
+    // traits that were added to the assembler directly.
+    private void collectTraitsFromOtherFiles(Shape shape, Set<String> files, List<Pair<ShapeId, Trait>> result) {
+        for (Trait trait : shape.getIntroducedTraits().values()) {
+            SourceLocation location = trait.getSourceLocation();
+            Pair<ShapeId, Trait> pair = Pair.of(shape.getId(), trait);
+            // Traits without a location, like the input trait of inline operation input, are created
+            // when the shape is parsed.
+            if (!trait.isSynthetic()
+                    && ((!location.equals(SourceLocation.NONE) && !files.contains(location.getFilename()))
+                            || pendingTraits.contains(pair))) {
+                result.add(pair);
+            }
+        }
+
+        for (MemberShape member : shape.members()) {
+            collectTraitsFromOtherFiles(member, files, result);
+        }
+    }
+
+    // The most recently assembled model and the files it was loaded from.
+    private static final class LoadState {
+        private final Model model;
+        private final Map<String, LoadedModelFile> files;
+        private final boolean hasLoadErrors;
+
+        LoadState(Model model, Map<String, LoadedModelFile> files, boolean hasLoadErrors) {
+            this.model = model;
+            this.files = files;
+            this.hasLoadErrors = hasLoadErrors;
+        }
+    }
+
+    // Metadata is merged the same way regardless of the version of the model file that set it. Metadata that
+    // reassemble keeps from unchanged files was only set by one of those files, so it isn't merged at all.
+    // Holds events until they're released, and then forwards subsequent events directly to the listener.
+    private static final class HeldEventListener implements Consumer<ValidationEvent> {
+        private final Consumer<ValidationEvent> listener;
+        private List<ValidationEvent> held = new ArrayList<>();
+
+        HeldEventListener(Consumer<ValidationEvent> listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public void accept(ValidationEvent event) {
+            if (held != null) {
+                held.add(event);
+            } else {
+                listener.accept(event);
+            }
+        }
+
+        void release() {
+            held.forEach(listener);
+            held = null;
+        }
+    }
+
     private void addMetadataToProcessor(Map<String, Node> metadataMap, LoadOperationProcessor processor) {
         for (Map.Entry<String, Node> entry : metadataMap.entrySet()) {
             processor.accept(new LoadOperation.PutMetadata(Version.UNKNOWN, entry.getKey(), entry.getValue()));
         }
     }
 
+    private boolean isParallelLoadingEnabled() {
+        Object parallel = properties.get(ModelAssembler.PARALLEL_LOADING);
+        return parallel != null && (boolean) parallel;
+    }
+
     private boolean areUnknownTraitsAllowed() {
         Object allowUnknown = properties.get(ModelAssembler.ALLOW_UNKNOWN_TRAITS);
         return allowUnknown != null && (boolean) allowUnknown;
@@ -7,8 +7,13 @@ package software.amazon.smithy.model.loader;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -20,8 +25,10 @@ import software.amazon.smithy.model.SourceLocation;
 import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.node.ObjectNode;
 import software.amazon.smithy.model.node.StringNode;
+import software.amazon.smithy.model.node.internal.StreamingNodeHandler;
 import software.amazon.smithy.model.traits.TraitFactory;
 import software.amazon.smithy.utils.IoUtils;
+import software.amazon.smithy.utils.Pair;
 
 /**
  * Used to load Smithy models from .json, .smithy, and .jar files.
@@ -29,6 +36,7 @@ import software.amazon.smithy.utils.IoUtils;
 final class ModelLoader {
 
     private static final Logger LOGGER = Logger.getLogger(ModelLoader.class.getName());
+    private static final String SHAPES = "shapes";
 
     private ModelLoader() {}
 
@@ -46,6 +54,7 @@ final class ModelLoader {
      * @param contentSupplier The supplier that provides an InputStream. The
      *   supplied {@code InputStream} is automatically closed when the loader
      *   has finished reading from it.
+     * @param stringTable Table used to intern strings.
      * @return Returns true if the file was loaded. Some JSON files might be ignored and return false.
      * @throws SourceException if there is an error reading from the contents.
      */
@@ -70,7 +79,7 @@ final class ModelLoader {
             } else if (filename.endsWith(".json") || filename.equals(SourceLocation.NONE.getFilename())) {
                 try (InputStream inputStream = contentSupplier.get()) {
                     // Assume it's JSON if there's an N/A filename.
-                    return loadParsedNode(Node.parse(inputStream, filename), operationConsumer);
+                    return loadStreamedNode(inputStream, filename, operationConsumer, stringTable);
                 }
             } else {
                 if (!filename.endsWith("manifest")) {
@@ -91,21 +100,146 @@ final class ModelLoader {
     static boolean loadParsedNode(Node node, Consumer<LoadOperation> operationConsumer) {
         if (node.isObjectNode()) {
             ObjectNode model = node.expectObjectNode();
-            if (model.containsMember("smithy")) {
-                StringNode versionNode = model.expectStringMember("smithy");
-                Version version = Version.fromString(versionNode.getValue());
+            Version version = getVersion(model);
+            if (version != null) {
+                new AstModelLoader(version, model).parse(operationConsumer);
+                return true;
+            }
+        }
+
+        LOGGER.info("Ignoring unrecognized JSON file: " + node.getSourceLocation());
+        return false;
+    }
+
+    // Returns the version of a JSON AST model, or null if the JSON doesn't contain a top-level "smithy" key.
+    private static Version getVersion(ObjectNode model) {
+        if (!model.containsMember("smithy")) {
+            return null;
+        }
+        StringNode versionNode = model.expectStringMember("smithy");
+        Version version = Version.fromString(versionNode.getValue());
+        if (version == null) {
+            throw new ModelSyntaxException("Unsupported Smithy version number: " + versionNode.getValue(),
+                    versionNode);
+        }
+        return version;
+    }
+
+    // Loads a JSON AST model while it's parsed rather than after the entire document is parsed into a Node. Each
+    // shape is loaded as soon as its definition is parsed, so only one shape definition is held in memory at a time
+    // and the only nodes that outlive parsing are the trait values and metadata referenced by load operations.
+    //
+    // Top-level members that precede "shapes" are loaded before the shapes, and members that follow "shapes", like
+    // trailing metadata, are loaded after them.
+    private static boolean loadStreamedNode(
+            InputStream inputStream,
+            String filename,
+            Consumer<LoadOperation> operationConsumer,
+            Function<CharSequence, String> stringTable
+    ) throws IOException {
+        ShapeStream stream = new ShapeStream(operationConsumer);
+        Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+        Node node = StreamingNodeHandler.parse(filename, reader, stringTable, SHAPES, stream);
+        return stream.finish(node);
+    }
+
+    // Shapes are loaded as they're parsed, but their operations are held until the end of the document. A JSON
+    // object with a repeated key keeps the last value in the position of the first, so a repeated shape replaces
+    // the operations of the earlier definition just as if the whole document had been parsed into a Node first.
+    // Shape builders are retained by the processor until the model is built anyway, so holding their operations
+    // doesn't keep anything alive that wouldn't otherwise be.
+    private static final class ShapeStream implements StreamingNodeHandler.MemberConsumer {
+
+        private final Consumer<LoadOperation> operationConsumer;
+        private final Map<String, List<LoadOperation>> shapes = new LinkedHashMap<>();
+        private List<LoadOperation> currentShape;
+        private AstModelLoader loader;
+        private ObjectNode preceding;
+
+        // Shapes that were parsed before it was known whether the JSON is a Smithy model.
+        private List<Pair<StringNode, Node>> pending;
+
+        ShapeStream(Consumer<LoadOperation> operationConsumer) {
+            this.operationConsumer = operationConsumer;
+        }
+
+        @Override
+        public void accept(ObjectNode preceding, StringNode key, Node value) {
+            if (loader == null && pending == null) {
+                Version version = getVersion(preceding);
                 if (version == null) {
-                    throw new ModelSyntaxException("Unsupported Smithy version number: " + versionNode.getValue(),
-                            versionNode);
+                    pending = new ArrayList<>();
                 } else {
-                    new AstModelLoader(version, model).parse(operationConsumer);
-                    return true;
+                    this.preceding = preceding;
+                    loader = new AstModelLoader(version, preceding);
+                    loader.parse(this::emit);
                 }
             }
+
+            if (loader != null) {
+                loadShape(key, value);
+            } else {
+                pending.add(Pair.of(key, value));
+            }
         }
 
-        LOGGER.info("Ignoring unrecognized JSON file: " + node.getSourceLocation());
-        return false;
+        private void emit(LoadOperation operation) {
+            if (currentShape != null) {
+                currentShape.add(operation);
+            } else {
+                operationConsumer.accept(operation);
+            }
+        }
+
+        private void loadShape(StringNode key, Node value) {
+            currentShape = new ArrayList<>(1);
+            try {
+                loader.loadShape(key, value);
+                shapes.put(key.getValue(), currentShape);
+            } finally {
+                currentShape = null;
+            }
+        }
+
+        private void flushShapes() {
+            for (List<LoadOperation> operations : shapes.values()) {
+                operations.forEach(operationConsumer);
+            }
+            shapes.clear();
+        }
+
+        boolean finish(Node node) {
+            if (loader != null) {
+                flushShapes();
+                ObjectNode.Builder trailing = ObjectNode.builder();
+                for (Map.Entry<StringNode, Node> entry : node.expectObjectNode().getMembers().entrySet()) {
+                    String name = entry.getKey().getValue();
+                    if (!name.equals(SHAPES) && !preceding.containsMember(name)) {
+                        trailing.withMember(entry.getKey(), entry.getValue());
+                    }
+                }
+                loader.parseTrailingMembers(trailing.build());
+                return true;
+            }
+
+            ObjectNode model = node.asObjectNode().orElse(null);
+            Version version = model == null ? null : getVersion(model);
+            if (version == null) {
+                LOGGER.info("Ignoring unrecognized JSON file: " + node.getSourceLocation());
+                return false;
+            }
+
+            // The version wasn't known until after the shapes were parsed, so they're loaded last.
+            loader = new AstModelLoader(version, model);
+            loader.parse(this::emit);
+            if (pending != null) {
+                for (Pair<StringNode, Node> shape : pending) {
+                    loadShape(shape.getLeft(), shape.getRight());
+                }
+                flushShapes();
+            }
+            return true;
+        }
     }
 
     // Allows importing JAR files by discovering models inside a JAR file.
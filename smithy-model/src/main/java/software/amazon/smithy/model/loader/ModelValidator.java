@@ -4,17 +4,23 @@
  */
 package software.amazon.smithy.model.loader;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.SourceLocation;
+import software.amazon.smithy.model.ValidationCache;
 import software.amazon.smithy.model.validation.Severity;
 import software.amazon.smithy.model.validation.ValidatedResult;
 import software.amazon.smithy.model.validation.ValidationEvent;
@@ -22,6 +28,8 @@ import software.amazon.smithy.model.validation.ValidationEventDecorator;
 import software.amazon.smithy.model.validation.ValidationUtils;
 import software.amazon.smithy.model.validation.Validator;
 import software.amazon.smithy.model.validation.ValidatorFactory;
+import software.amazon.smithy.model.validation.ValidatorProfile;
+import software.amazon.smithy.model.validation.ValidatorService;
 import software.amazon.smithy.model.validation.suppressions.ModelBasedEventDecorator;
 import software.amazon.smithy.model.validation.validators.ResourceCycleValidator;
 import software.amazon.smithy.model.validation.validators.TargetValidator;
@@ -72,6 +80,9 @@ final class ModelValidator implements Validator {
     private final ValidationEventDecorator validationEventDecorator;
     private final Consumer<ValidationEvent> eventListener;
     private final boolean legacyValidationMode;
+    private final ValidationCache validationCache;
+    private final Consumer<ValidatorProfile> profileListener;
+    private final Executor executor;
 
     ModelValidator(Builder builder) {
         this.validatorFactory = builder.validatorFactory;
@@ -81,6 +92,9 @@ final class ModelValidator implements Validator {
         this.validators = builder.validators.copy();
         this.criticalValidators = builder.criticalValidators.copy();
         this.legacyValidationMode = builder.legacyValidationMode;
+        this.validationCache = builder.validationCache;
+        this.profileListener = builder.profileListener;
+        this.executor = builder.executor;
     }
 
     @Override
@@ -105,6 +119,9 @@ final class ModelValidator implements Validator {
         private Consumer<ValidationEvent> eventListener = event -> {};
         private ValidationEventDecorator validationEventDecorator;
         private boolean legacyValidationMode = false;
+        private ValidationCache validationCache;
+        private Consumer<ValidatorProfile> profileListener;
+        private Executor executor;
 
         private Builder() {}
 
@@ -190,6 +207,43 @@ final class ModelValidator implements Validator {
             return this;
         }
 
+        /**
+         * Sets a cache used to skip validators that aren't affected by changes since the model the
+         * cache was last used with.
+         *
+         * <p>The cache is updated with the results of this validation, and must not be used by more
+         * than one validation at a time.
+         *
+         * @param validationCache Cache to use, or null to run every validator.
+         * @return Returns the builder.
+         */
+        Builder validationCache(ValidationCache validationCache) {
+            this.validationCache = validationCache;
+            return this;
+        }
+
+        /**
+         * Sets a listener that receives a {@link ValidatorProfile} each time a {@link Validator} is run.
+         *
+         * @param profileListener Listener to invoke, or null to not profile validators.
+         * @return Returns the builder.
+         */
+        Builder profileListener(Consumer<ValidatorProfile> profileListener) {
+            this.profileListener = profileListener;
+            return this;
+        }
+
+        /**
+         * Sets the executor used to run validators in parallel.
+         *
+         * @param executor Executor to use, or null to use parallel streams on the common fork-join pool.
+         * @return Returns the builder.
+         */
+        Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         @Override
         public ModelValidator build() {
             // Adding built-in validators is deferred to allow for a custom factory to be set on the builder.
@@ -207,6 +261,10 @@ final class ModelValidator implements Validator {
         private final ValidationEventDecorator validationEventDecorator;
         private final Consumer<ValidationEvent> eventListener;
         private final boolean legacyValidationMode;
+        private final ValidationCache validationCache;
+        private final Map<Validator, String> validatorKeys = new IdentityHashMap<>();
+        private final Consumer<ValidatorProfile> profileListener;
+        private final Executor executor;
 
         private LoadedModelValidator(Model model, ModelValidator validator) {
             this.model = model;
@@ -214,6 +272,9 @@ final class ModelValidator implements Validator {
             this.validators = new ArrayList<>(validator.validators);
             this.criticalValidators = Collections.unmodifiableList(validator.criticalValidators);
             this.legacyValidationMode = validator.legacyValidationMode;
+            this.validationCache = validator.validationCache;
+            this.profileListener = validator.profileListener;
+            this.executor = validator.executor;
 
             // Suppressing and elevating events is handled by composing a given decorator with a
             // ModelBasedEventDecorator.
@@ -292,6 +353,26 @@ final class ModelValidator implements Validator {
         }
 
         private List<ValidationEvent> validate() {
+            if (validationCache == null) {
+                return validateAll();
+            }
+
+            // Validators of the same class, like those created from metadata, are identified by their order.
+            Map<String, Integer> counts = new HashMap<>();
+            Stream.of(CORRECTNESS_VALIDATORS.values(), criticalValidators, validators)
+                    .flatMap(Collection::stream)
+                    .forEach(validator -> {
+                        String name = validator.getClass().getName();
+                        validatorKeys.put(validator, name + '#' + counts.merge(name, 1, Integer::sum));
+                    });
+
+            validationCache.begin(model);
+            List<ValidationEvent> result = validateAll();
+            validationCache.end();
+            return result;
+        }
+
+        private List<ValidationEvent> validateAll() {
             // Perform critical correctness validation before other critical validators.
             events.addAll(streamEvents(CORRECTNESS_VALIDATORS.values().stream()));
             if (LoaderUtils.containsErrorEvents(events)) {
@@ -299,25 +380,74 @@ final class ModelValidator implements Validator {
             }
 
             // Same thing, but for other critical validators.
-            events.addAll(streamEvents(criticalValidators.parallelStream()));
+            events.addAll(runInParallel(criticalValidators));
 
             // Only fail early here if legacy validation mode is enabled.
             if (!legacyValidationMode && LoaderUtils.containsErrorEvents(events)) {
                 return events;
             }
 
-            events.addAll(streamEvents(validators.parallelStream()));
+            events.addAll(runInParallel(validators));
             return events;
         }
 
         private List<ValidationEvent> streamEvents(Stream<Validator> validators) {
             return validators
-                    .flatMap(validator -> validator.validate(model).stream())
-                    .filter(this::filterPrelude)
+                    .flatMap(this::runValidator)
                     .map(this::updateAndEmitEvent)
                     .collect(Collectors.toList());
         }
 
+        // Each validator is a separate task so that idle threads can pick up the remaining validators. Events are
+        // emitted as each validator completes, but are returned in the order of the validators.
+        private List<ValidationEvent> runInParallel(List<Validator> validators) {
+            List<ValidationEvent> result = new ArrayList<>();
+            for (List<ValidationEvent> validatorEvents : LoaderUtils.parallelMap(validators,
+                    validator -> streamEvents(Stream.of(validator)),
+                    executor)) {
+                result.addAll(validatorEvents);
+            }
+            return result;
+        }
+
+        private Stream<ValidationEvent> runValidator(Validator validator) {
+            if (validationCache == null) {
+                return invoke(validator, model).stream().filter(this::filterPrelude);
+            }
+
+            return validationCache.validate(validatorKeys.get(validator), view -> invoke(validator, view)
+                    .stream()
+                    .filter(this::filterPrelude)
+                    .collect(Collectors.toList()))
+                    .stream();
+        }
+
+        private List<ValidationEvent> invoke(Validator validator, Model target) {
+            if (profileListener == null) {
+                return validator.validate(target);
+            }
+
+            long allocatedBefore = ThreadAllocations.get();
+            long start = System.nanoTime();
+            List<ValidationEvent> result = validator.validate(target);
+            long elapsed = System.nanoTime() - start;
+            long allocatedAfter = ThreadAllocations.get();
+
+            ValidatorProfile.Builder builder = ValidatorProfile.builder()
+                    .wallTimeNanos(elapsed)
+                    .eventCount(result.size())
+                    .allocatedBytes(allocatedBefore < 0 ? -1 : allocatedAfter - allocatedBefore);
+            if (validator instanceof ValidatorFromDefinitionFactory.DefinedValidator) {
+                ValidatorDefinition definition = ((ValidatorFromDefinitionFactory.DefinedValidator) validator)
+                        .getDefinition();
+                builder.name(definition.id).sourceLocation(definition.sourceLocation);
+            } else {
+                builder.name(ValidatorService.determineValidatorName(validator.getClass()));
+            }
+            profileListener.accept(builder.build());
+            return result;
+        }
+
         private boolean filterPrelude(ValidationEvent event) {
             // Don't emit any non-error events for prelude shapes and traits.
             // This prevents custom validators from unnecessarily needing to worry about prelude shapes and trait
@@ -327,4 +457,28 @@ final class ModelValidator implements Validator {
                     .isPresent();
         }
     }
+
+    // Reads the number of bytes allocated by the current thread, if the JVM supports it.
+    private static final class ThreadAllocations {
+        private static final com.sun.management.ThreadMXBean BEAN = load();
+
+        private static com.sun.management.ThreadMXBean load() {
+            try {
+                ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+                if (bean instanceof com.sun.management.ThreadMXBean) {
+                    com.sun.management.ThreadMXBean result = (com.sun.management.ThreadMXBean) bean;
+                    if (result.isThreadAllocatedMemorySupported() && result.isThreadAllocatedMemoryEnabled()) {
+                        return result;
+                    }
+                }
+            } catch (LinkageError | RuntimeException e) {
+                // Per-thread allocation counters aren't available on this JVM.
+            }
+            return null;
+        }
+
+        static long get() {
+            return BEAN == null ? -1 : BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+    }
 }
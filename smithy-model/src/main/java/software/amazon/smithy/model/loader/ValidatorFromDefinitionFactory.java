@@ -6,7 +6,9 @@ package software.amazon.smithy.model.loader;
 
 import static java.lang.String.format;
 
+import java.util.List;
 import java.util.Objects;
+import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.SourceException;
 import software.amazon.smithy.model.validation.Severity;
 import software.amazon.smithy.model.validation.ValidatedResult;
@@ -44,6 +46,28 @@ final class ValidatorFromDefinitionFactory {
     }
 
     private Validator mapValidator(ValidatorDefinition definition, Validator upstream) {
-        return model -> definition.map(model, upstream.validate(model));
+        return new DefinedValidator(definition, upstream);
+    }
+
+    /**
+     * A validator created from a definition in the "validators" metadata of a model.
+     */
+    static final class DefinedValidator implements Validator {
+        private final ValidatorDefinition definition;
+        private final Validator upstream;
+
+        DefinedValidator(ValidatorDefinition definition, Validator upstream) {
+            this.definition = definition;
+            this.upstream = upstream;
+        }
+
+        @Override
+        public List<ValidationEvent> validate(Model model) {
+            return definition.map(model, upstream.validate(model));
+        }
+
+        ValidatorDefinition getDefinition() {
+            return definition;
+        }
     }
 }
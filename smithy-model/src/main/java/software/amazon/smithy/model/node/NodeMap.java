@@ -0,0 +1,222 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.node;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * An immutable, insertion ordered map of object node members.
+ *
+ * <p>Members are stored in parallel key and value arrays rather than in hash map entries. Small maps are searched
+ * linearly, and larger maps use an open addressing table of array indexes with linear probing. Members can be looked
+ * up by string without creating a {@link StringNode} or a copy of the map with string keys.
+ */
+final class NodeMap extends AbstractMap<StringNode, Node> {
+
+    static final NodeMap EMPTY = new NodeMap(new StringNode[0], new Node[0]);
+
+    // Maps up to this size are searched linearly, which is faster than hashing and needs no index.
+    private static final int MAX_LINEAR_SIZE = 8;
+
+    private final StringNode[] keys;
+    private final Node[] values;
+
+    // Each slot holds the array index of a member plus one, or zero if the slot is empty. Null for small maps.
+    private final int[] slots;
+
+    private NodeMap(StringNode[] keys, Node[] values) {
+        this.keys = keys;
+        this.values = values;
+        this.slots = keys.length > MAX_LINEAR_SIZE ? createSlots(keys) : null;
+    }
+
+    /**
+     * Creates a map that contains the members of the given map in iteration order.
+     *
+     * @param map Map to copy.
+     * @return Returns the created map.
+     */
+    static NodeMap of(Map<StringNode, Node> map) {
+        if (map instanceof NodeMap) {
+            return (NodeMap) map;
+        } else if (map.isEmpty()) {
+            return EMPTY;
+        }
+
+        StringNode[] keys = new StringNode[map.size()];
+        Node[] values = new Node[keys.length];
+        int i = 0;
+        for (Map.Entry<StringNode, Node> entry : map.entrySet()) {
+            keys[i] = entry.getKey();
+            values[i] = entry.getValue();
+            i++;
+        }
+        return new NodeMap(keys, values);
+    }
+
+    private static int[] createSlots(StringNode[] keys) {
+        int[] slots = new int[Integer.highestOneBit(keys.length) << 2];
+        int mask = slots.length - 1;
+        for (int i = 0; i < keys.length; i++) {
+            int slot = hash(keys[i].getValue()) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = i + 1;
+        }
+        return slots;
+    }
+
+    private static int hash(String name) {
+        int h = name.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private int indexOf(String name) {
+        if (slots == null) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i].getValue().equals(name)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        int mask = slots.length - 1;
+        for (int slot = hash(name) & mask;; slot = (slot + 1) & mask) {
+            int entry = slots[slot];
+            if (entry == 0) {
+                return -1;
+            } else if (keys[entry - 1].getValue().equals(name)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    /**
+     * Gets the value of a member by name.
+     *
+     * @param name Name of the member.
+     * @return Returns the value, or null if the member doesn't exist.
+     */
+    Node getMember(String name) {
+        int index = indexOf(name);
+        return index == -1 ? null : values[index];
+    }
+
+    boolean containsMember(String name) {
+        return indexOf(name) != -1;
+    }
+
+    /**
+     * @return Returns a view of the map that uses the string values of keys.
+     */
+    Map<String, Node> stringView() {
+        return new StringView();
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof StringNode && containsMember(((StringNode) key).getValue());
+    }
+
+    @Override
+    public Node get(Object key) {
+        return key instanceof StringNode ? getMember(((StringNode) key).getValue()) : null;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super StringNode, ? super Node> action) {
+        for (int i = 0; i < keys.length; i++) {
+            action.accept(keys[i], values[i]);
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<StringNode, Node>> entrySet() {
+        return new EntrySet<StringNode>() {
+            @Override
+            StringNode key(int index) {
+                return keys[index];
+            }
+        };
+    }
+
+    private abstract class EntrySet<K> extends AbstractSet<Map.Entry<K, Node>> {
+        abstract K key(int index);
+
+        @Override
+        public int size() {
+            return keys.length;
+        }
+
+        @Override
+        public Iterator<Map.Entry<K, Node>> iterator() {
+            return new Iterator<Map.Entry<K, Node>>() {
+                private int position;
+
+                @Override
+                public boolean hasNext() {
+                    return position < keys.length;
+                }
+
+                @Override
+                public Map.Entry<K, Node> next() {
+                    if (position == keys.length) {
+                        throw new NoSuchElementException();
+                    }
+                    Map.Entry<K, Node> entry = new SimpleImmutableEntry<>(key(position), values[position]);
+                    position++;
+                    return entry;
+                }
+            };
+        }
+    }
+
+    private final class StringView extends AbstractMap<String, Node> {
+        @Override
+        public int size() {
+            return keys.length;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof String && containsMember((String) key);
+        }
+
+        @Override
+        public Node get(Object key) {
+            return key instanceof String ? getMember((String) key) : null;
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super String, ? super Node> action) {
+            for (int i = 0; i < keys.length; i++) {
+                action.accept(keys[i].getValue(), values[i]);
+            }
+        }
+
+        @Override
+        public Set<Map.Entry<String, Node>> entrySet() {
+            return new EntrySet<String>() {
+                @Override
+                String key(int index) {
+                    return keys[index].getValue();
+                }
+            };
+        }
+    }
+}
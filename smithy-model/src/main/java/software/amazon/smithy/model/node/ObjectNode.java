@@ -7,7 +7,6 @@ package software.amazon.smithy.model.node;
 import static java.lang.String.format;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -35,25 +34,22 @@ public final class ObjectNode extends Node implements ToSmithyBuilder<ObjectNode
     static final ObjectNode EMPTY = new ObjectNode(MapUtils.of(), SourceLocation.none(), false);
     private static final Logger LOGGER = Logger.getLogger(ObjectNode.class.getName());
 
-    private final Map<StringNode, Node> nodeMap;
-    /** A cache of computed string to Node values. */
-    private transient Map<String, Node> stringMap;
+    private final NodeMap nodeMap;
 
     public ObjectNode(Map<StringNode, Node> members, SourceLocation sourceLocation) {
         this(members, sourceLocation, true);
     }
 
-    // Constructor used internally to reduce copies.
+    // Constructor used internally. Members are always copied into a compact NodeMap, so the given map is never
+    // retained regardless of defensiveCopy.
     ObjectNode(Map<StringNode, Node> nodeMap, SourceLocation sourceLocation, boolean defensiveCopy) {
         super(sourceLocation);
-        this.nodeMap = defensiveCopy
-                ? Collections.unmodifiableMap(new LinkedHashMap<>(nodeMap))
-                : Collections.unmodifiableMap(nodeMap);
+        this.nodeMap = NodeMap.of(nodeMap);
     }
 
     private ObjectNode(Builder builder) {
         super(builder.sourceLocation);
-        this.nodeMap = builder.nodeMap.copy();
+        this.nodeMap = builder.nodeMap.hasValue() ? NodeMap.of(builder.nodeMap.peek()) : NodeMap.EMPTY;
     }
 
     public static ObjectNode fromStringMap(Map<String, String> map) {
@@ -169,7 +165,7 @@ public final class ObjectNode extends Node implements ToSmithyBuilder<ObjectNode
      * @return Returns a new object node.
      */
     public ObjectNode withoutMember(String memberName) {
-        if (!getStringMap().containsKey(memberName)) {
+        if (!nodeMap.containsMember(memberName)) {
             return this;
         }
         Map<StringNode, Node> copiedMembers = new LinkedHashMap<>(nodeMap);
@@ -194,7 +190,7 @@ public final class ObjectNode extends Node implements ToSmithyBuilder<ObjectNode
      * @return Returns true if this member is in the ObjectNode.
      */
     public boolean containsMember(String memberName) {
-        return getStringMap().containsKey(memberName);
+        return nodeMap.containsMember(memberName);
     }
 
     /**
@@ -204,7 +200,7 @@ public final class ObjectNode extends Node implements ToSmithyBuilder<ObjectNode
      * @return Returns the optional node with the given member name.
      */
     public Optional<Node> getMember(String memberName) {
-        return Optional.ofNullable(getStringMap().get(memberName));
+        return Optional.ofNullable(nodeMap.getMember(memberName));
     }
 
     /**
@@ -226,16 +222,7 @@ public final class ObjectNode extends Node implements ToSmithyBuilder<ObjectNode
      * @return Returns the immutable map.
      */
     public Map<String, Node> getStringMap() {
-        Map<String, Node> map = stringMap;
-        if (map == null) {
-            map = new LinkedHashMap<>(nodeMap.size());
-            for (Map.Entry<StringNode, Node> entry : nodeMap.entrySet()) {
-                map.put(entry.getKey().getValue(), entry.getValue());
-            }
-            stringMap = Collections.unmodifiableMap(map);
-        }
-
-        return stringMap;
+        return nodeMap.stringView();
     }
 
     /**
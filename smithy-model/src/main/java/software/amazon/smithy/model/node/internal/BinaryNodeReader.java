@@ -0,0 +1,291 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.node.internal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import software.amazon.smithy.model.SourceLocation;
+import software.amazon.smithy.model.node.ArrayNode;
+import software.amazon.smithy.model.node.BooleanNode;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.NullNode;
+import software.amazon.smithy.model.node.NumberNode;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.node.StringNode;
+import software.amazon.smithy.utils.SmithyInternalApi;
+
+/**
+ * Reads values written by {@link BinaryNodeWriter}.
+ *
+ * <p>Reads must be performed in the same order as the corresponding writes.
+ */
+@SmithyInternalApi
+public final class BinaryNodeReader {
+
+    private final ByteBuffer buffer;
+    private final String filename;
+    private final int[] stringOffsets;
+    private final int[] stringLengths;
+    private final String[] strings;
+    private final int bodyStart;
+
+    /**
+     * Creates a reader over encoded bytes.
+     *
+     * @param data Bytes to read.
+     * @throws IllegalArgumentException if the data is not in a supported format.
+     */
+    public BinaryNodeReader(byte[] data) {
+        this(ByteBuffer.wrap(data), null);
+    }
+
+    /**
+     * Creates a reader that relocates every decoded source location to the given filename.
+     *
+     * <p>This is used when the same encoded contents may be loaded from different files.
+     *
+     * @param data Bytes to read.
+     * @param filename Filename to assign to every source location, or null to use the encoded filenames.
+     * @throws IllegalArgumentException if the data is not in a supported format.
+     */
+    public BinaryNodeReader(byte[] data, String filename) {
+        this(ByteBuffer.wrap(data), filename);
+    }
+
+    /**
+     * Creates a reader over a buffer, such as a memory-mapped file.
+     *
+     * <p>Strings are only decoded from the string table the first time they are read.
+     *
+     * @param buffer Buffer to read starting at its current position.
+     * @param filename Filename to assign to every source location, or null to use the encoded filenames.
+     * @throws IllegalArgumentException if the data is not in a supported format.
+     */
+    public BinaryNodeReader(ByteBuffer buffer, String filename) {
+        this.buffer = buffer;
+        this.filename = filename;
+
+        if (buffer.remaining() < 4 || buffer.getInt() != BinaryNodeWriter.MAGIC) {
+            throw new IllegalArgumentException("Invalid binary node data");
+        }
+
+        int version = readVarInt();
+        if (version != BinaryNodeWriter.FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported binary node format version: " + version);
+        }
+
+        // Record where each string starts, but defer decoding until the string is needed.
+        int stringCount = readVarInt();
+        stringOffsets = new int[stringCount];
+        stringLengths = new int[stringCount];
+        strings = new String[stringCount];
+        for (int i = 0; i < stringCount; i++) {
+            stringLengths[i] = readVarInt();
+            stringOffsets[i] = buffer.position();
+            buffer.position(stringOffsets[i] + stringLengths[i]);
+        }
+
+        bodyStart = buffer.position();
+    }
+
+    private BinaryNodeReader(BinaryNodeReader parent, int offset) {
+        buffer = parent.buffer.duplicate();
+        buffer.position(parent.bodyStart + offset);
+        filename = parent.filename;
+        stringOffsets = parent.stringOffsets;
+        stringLengths = parent.stringLengths;
+        strings = parent.strings;
+        bodyStart = parent.bodyStart;
+    }
+
+    /**
+     * Creates a reader that shares this reader's string table and starts reading at the
+     * given offset of the encoded body.
+     *
+     * <p>Offsets are obtained when writing using {@link BinaryNodeWriter#position()}.
+     * Readers created by this method can be used concurrently from different threads.
+     *
+     * @param offset Offset from the start of the encoded body.
+     * @return Returns the created reader.
+     */
+    public BinaryNodeReader at(int offset) {
+        return new BinaryNodeReader(this, offset);
+    }
+
+    /**
+     * Gets the length of the encoded body that follows the string table.
+     *
+     * @return Returns the length of the body.
+     */
+    public int getBodyLength() {
+        return buffer.limit() - bodyStart;
+    }
+
+    /**
+     * Reads a node and all of its children.
+     *
+     * @return Returns the read node.
+     */
+    public Node readNode() {
+        byte type = readByte();
+        switch (type) {
+            case BinaryNodeWriter.NULL:
+                return new NullNode(readSourceLocation());
+            case BinaryNodeWriter.TRUE:
+                return new BooleanNode(true, readSourceLocation());
+            case BinaryNodeWriter.FALSE:
+                return new BooleanNode(false, readSourceLocation());
+            case BinaryNodeWriter.STRING:
+                String value = readString();
+                return new StringNode(value, readSourceLocation());
+            case BinaryNodeWriter.ARRAY:
+                return readArray();
+            case BinaryNodeWriter.OBJECT:
+                return readObject();
+            default:
+                Number number = readNumber(type);
+                return new NumberNode(number, readSourceLocation());
+        }
+    }
+
+    /**
+     * Reads a source location.
+     *
+     * @return Returns the read source location.
+     */
+    public SourceLocation readSourceLocation() {
+        String file = readString();
+        int line = readVarInt();
+        int column = readVarInt();
+        if (line == 0 && column == 0 && file.equals(SourceLocation.NONE.getFilename())) {
+            return SourceLocation.NONE;
+        }
+        return new SourceLocation(filename == null ? file : filename, line, column);
+    }
+
+    /**
+     * Reads a string from the string table.
+     *
+     * @return Returns the read string.
+     */
+    public String readString() {
+        int index = readVarInt();
+        String result = strings[index];
+        if (result == null) {
+            // Races are benign here since every thread decodes an equal string.
+            result = decodeString(stringOffsets[index], stringLengths[index]);
+            strings[index] = result;
+        }
+        return result;
+    }
+
+    /**
+     * Reads a variable-length encoded integer.
+     *
+     * @return Returns the read integer.
+     */
+    public int readVarInt() {
+        int result = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            result |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return result;
+    }
+
+    /**
+     * Reads a single byte.
+     *
+     * @return Returns the read byte.
+     */
+    public byte readByte() {
+        return buffer.get();
+    }
+
+    /**
+     * Reads a fixed-width int.
+     *
+     * @return Returns the read int.
+     */
+    public int readInt() {
+        return buffer.getInt();
+    }
+
+    /**
+     * Reads a fixed-width long.
+     *
+     * @return Returns the read long.
+     */
+    public long readLong() {
+        return buffer.getLong();
+    }
+
+    private String decodeString(int offset, int length) {
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + offset, length, StandardCharsets.UTF_8);
+        }
+
+        // Direct and memory-mapped buffers have no backing array, so copy the bytes out.
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset);
+        byte[] bytes = new byte[length];
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private ArrayNode readArray() {
+        SourceLocation location = readSourceLocation();
+        int size = readVarInt();
+        List<Node> elements = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            elements.add(readNode());
+        }
+        return new ArrayNode(elements, location);
+    }
+
+    private ObjectNode readObject() {
+        SourceLocation location = readSourceLocation();
+        int size = readVarInt();
+        Map<StringNode, Node> members = new LinkedHashMap<>(size + (size >> 1) + 1);
+        for (int i = 0; i < size; i++) {
+            String key = readString();
+            StringNode keyNode = new StringNode(key, readSourceLocation());
+            members.put(keyNode, readNode());
+        }
+        return new ObjectNode(members, location);
+    }
+
+    private Number readNumber(byte type) {
+        switch (type) {
+            case BinaryNodeWriter.LONG:
+                return readLong();
+            case BinaryNodeWriter.INTEGER:
+                return (int) readLong();
+            case BinaryNodeWriter.SHORT:
+                return (short) readLong();
+            case BinaryNodeWriter.BYTE:
+                return (byte) readLong();
+            case BinaryNodeWriter.DOUBLE:
+                return Double.longBitsToDouble(readLong());
+            case BinaryNodeWriter.FLOAT:
+                return (float) Double.longBitsToDouble(readLong());
+            case BinaryNodeWriter.BIG_INTEGER:
+                return new BigInteger(readString());
+            case BinaryNodeWriter.BIG_DECIMAL:
+                return new BigDecimal(readString());
+            default:
+                throw new IllegalArgumentException("Invalid binary node type: " + type);
+        }
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.node.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import software.amazon.smithy.model.SourceLocation;
+import software.amazon.smithy.model.node.ArrayNode;
+import software.amazon.smithy.model.node.BooleanNode;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.NodeVisitor;
+import software.amazon.smithy.model.node.NullNode;
+import software.amazon.smithy.model.node.NumberNode;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.node.StringNode;
+import software.amazon.smithy.utils.SmithyInternalApi;
+
+/**
+ * Writes {@link Node} values, including their source locations, to a compact binary format.
+ *
+ * <p>Every string written through the writer, including object keys and filenames, is
+ * stored once in a string table that precedes the encoded body. Values written with this
+ * class are read back using {@link BinaryNodeReader}.
+ */
+@SmithyInternalApi
+public final class BinaryNodeWriter {
+
+    static final int MAGIC = 0x534E4244; // "SNBD"
+    static final int FORMAT_VERSION = 1;
+
+    static final byte NULL = 0;
+    static final byte TRUE = 1;
+    static final byte FALSE = 2;
+    static final byte STRING = 3;
+    static final byte ARRAY = 4;
+    static final byte OBJECT = 5;
+    static final byte BYTE = 6;
+    static final byte SHORT = 7;
+    static final byte INTEGER = 8;
+    static final byte LONG = 9;
+    static final byte FLOAT = 10;
+    static final byte DOUBLE = 11;
+    static final byte BIG_INTEGER = 12;
+    static final byte BIG_DECIMAL = 13;
+
+    private final Map<String, Integer> stringIndex = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private final Buffer body = new Buffer();
+    private final NodeVisitor<Void> nodeWriter = new NodeEncoder();
+
+    /**
+     * Writes a node and all of its children.
+     *
+     * @param node Node to write.
+     */
+    public void writeNode(Node node) {
+        node.accept(nodeWriter);
+    }
+
+    /**
+     * Writes a source location as a filename, line, and column.
+     *
+     * @param location Location to write.
+     */
+    public void writeSourceLocation(SourceLocation location) {
+        writeString(location.getFilename());
+        writeVarInt(location.getLine());
+        writeVarInt(location.getColumn());
+    }
+
+    /**
+     * Writes a reference to a string stored in the string table.
+     *
+     * @param value String to write.
+     */
+    public void writeString(String value) {
+        Integer index = stringIndex.get(value);
+        if (index == null) {
+            index = strings.size();
+            strings.add(value);
+            stringIndex.put(value, index);
+        }
+        writeVarInt(index);
+    }
+
+    /**
+     * Writes a non-negative integer using a variable-length encoding.
+     *
+     * @param value Value to write.
+     */
+    public void writeVarInt(int value) {
+        body.writeVarInt(value);
+    }
+
+    /**
+     * Writes a single byte.
+     *
+     * @param value Byte to write.
+     */
+    public void writeByte(int value) {
+        body.write(value);
+    }
+
+    /**
+     * Writes an int using a fixed-width, big-endian encoding.
+     *
+     * @param value Value to write.
+     */
+    public void writeInt(int value) {
+        body.writeInt(value);
+    }
+
+    /**
+     * Writes a long using a fixed-width, big-endian encoding.
+     *
+     * @param value Value to write.
+     */
+    public void writeLong(long value) {
+        body.writeLong(value);
+    }
+
+    /**
+     * Gets the current offset into the encoded body.
+     *
+     * <p>The returned offset can be passed to {@link BinaryNodeReader#at(int)} to
+     * resume reading from this position.
+     *
+     * @return Returns the number of body bytes written so far.
+     */
+    public int position() {
+        return body.size();
+    }
+
+    /**
+     * Creates the encoded bytes containing the header, string table, and everything written so far.
+     *
+     * @return Returns the encoded bytes.
+     */
+    public byte[] toByteArray() {
+        Buffer result = new Buffer();
+        result.writeInt(MAGIC);
+        result.writeVarInt(FORMAT_VERSION);
+        result.writeVarInt(strings.size());
+        for (String value : strings) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            result.writeVarInt(bytes.length);
+            result.write(bytes, 0, bytes.length);
+        }
+        body.writeTo(result);
+        return result.toByteArray();
+    }
+
+    private final class NodeEncoder implements NodeVisitor<Void> {
+        @Override
+        public Void arrayNode(ArrayNode node) {
+            writeByte(ARRAY);
+            writeSourceLocation(node.getSourceLocation());
+            writeVarInt(node.size());
+            for (Node element : node.getElements()) {
+                element.accept(this);
+            }
+            return null;
+        }
+
+        @Override
+        public Void booleanNode(BooleanNode node) {
+            writeByte(node.getValue() ? TRUE : FALSE);
+            writeSourceLocation(node.getSourceLocation());
+            return null;
+        }
+
+        @Override
+        public Void nullNode(NullNode node) {
+            writeByte(NULL);
+            writeSourceLocation(node.getSourceLocation());
+            return null;
+        }
+
+        @Override
+        public Void numberNode(NumberNode node) {
+            Number value = node.getValue();
+            if (value instanceof Long) {
+                writeByte(LONG);
+                writeLong(value.longValue());
+            } else if (value instanceof Integer) {
+                writeByte(INTEGER);
+                writeLong(value.longValue());
+            } else if (value instanceof Short) {
+                writeByte(SHORT);
+                writeLong(value.longValue());
+            } else if (value instanceof Byte) {
+                writeByte(BYTE);
+                writeLong(value.longValue());
+            } else if (value instanceof Double) {
+                writeByte(DOUBLE);
+                writeLong(Double.doubleToRawLongBits(value.doubleValue()));
+            } else if (value instanceof Float) {
+                writeByte(FLOAT);
+                writeLong(Double.doubleToRawLongBits(value.floatValue()));
+            } else if (value instanceof BigInteger) {
+                writeByte(BIG_INTEGER);
+                writeString(value.toString());
+            } else if (value instanceof BigDecimal) {
+                writeByte(BIG_DECIMAL);
+                writeString(((BigDecimal) value).toString());
+            } else {
+                writeByte(BIG_DECIMAL);
+                writeString(new BigDecimal(value.toString()).toString());
+            }
+            writeSourceLocation(node.getSourceLocation());
+            return null;
+        }
+
+        @Override
+        public Void objectNode(ObjectNode node) {
+            writeByte(OBJECT);
+            writeSourceLocation(node.getSourceLocation());
+            writeVarInt(node.size());
+            for (Map.Entry<StringNode, Node> entry : node.getMembers().entrySet()) {
+                writeString(entry.getKey().getValue());
+                writeSourceLocation(entry.getKey().getSourceLocation());
+                entry.getValue().accept(this);
+            }
+            return null;
+        }
+
+        @Override
+        public Void stringNode(StringNode node) {
+            writeByte(STRING);
+            writeString(node.getValue());
+            writeSourceLocation(node.getSourceLocation());
+            return null;
+        }
+    }
+
+    // A ByteArrayOutputStream that exposes primitive writes without synchronization or checked exceptions.
+    private static final class Buffer extends ByteArrayOutputStream {
+        Buffer() {
+            super(1024);
+        }
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(count + 1);
+            buf[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensureCapacity(count + len);
+            System.arraycopy(b, off, buf, count, len);
+            count += len;
+        }
+
+        void writeTo(Buffer other) {
+            other.write(buf, 0, count);
+        }
+
+        void writeInt(int value) {
+            write(value >>> 24);
+            write(value >>> 16);
+            write(value >>> 8);
+            write(value);
+        }
+
+        void writeLong(long value) {
+            writeInt((int) (value >>> 32));
+            writeInt((int) value);
+        }
+
+        void writeVarInt(int value) {
+            while ((value & ~0x7F) != 0) {
+                write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            write(value);
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > buf.length) {
+                byte[] grown = new byte[Math.max(capacity, buf.length << 1)];
+                System.arraycopy(buf, 0, grown, 0, count);
+                buf = grown;
+            }
+        }
+    }
+}
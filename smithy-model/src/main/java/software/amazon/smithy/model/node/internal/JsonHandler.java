@@ -59,6 +59,8 @@ abstract class JsonHandler<A, O> {
         return null;
     }
 
+    void startObjectValue(O object, String name) {}
+
     void endObject(O object, SourceLocation location) {}
 
     void endObjectValue(O object, String name, SourceLocation keyLocation) {}
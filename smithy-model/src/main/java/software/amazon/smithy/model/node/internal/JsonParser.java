@@ -235,7 +235,7 @@ final class JsonParser {
                 throw expected("':'");
             }
             skipWhiteSpace();
-            // handler.startObjectValue(object, name);
+            handler.startObjectValue(object, name);
             readValue();
             handler.endObjectValue(object, name, nameLocation);
             skipWhiteSpace();
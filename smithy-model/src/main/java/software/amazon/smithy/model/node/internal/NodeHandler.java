@@ -51,6 +51,10 @@ public final class NodeHandler extends JsonHandler<ArrayNode.Builder, ObjectNode
         node.accept(new NodeWriter(jsonWriter));
     }
 
+    Node getValue() {
+        return value;
+    }
+
     @Override
     void endNull(SourceLocation location) {
         value = new NullNode(location);
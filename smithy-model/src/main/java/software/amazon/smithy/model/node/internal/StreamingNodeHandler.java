@@ -0,0 +1,160 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.node.internal;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.Function;
+import software.amazon.smithy.model.SourceLocation;
+import software.amazon.smithy.model.node.ArrayNode;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.node.StringNode;
+import software.amazon.smithy.utils.SmithyInternalApi;
+
+/**
+ * Parses JSON into nodes while streaming the members of one top-level object member to a consumer.
+ *
+ * <p>Each streamed member is built into a node, given to the consumer, and then dropped, so only one
+ * member value of the streamed object is held in memory at a time. The streamed object is left empty
+ * in the returned node. Object keys are interned through a string table.
+ */
+@SmithyInternalApi
+public final class StreamingNodeHandler extends JsonHandler<ArrayNode.Builder, ObjectNode.Builder> {
+
+    /**
+     * Receives the members of a streamed object as they are parsed.
+     */
+    @FunctionalInterface
+    @SmithyInternalApi
+    public interface MemberConsumer {
+        /**
+         * @param preceding Top-level members that were parsed before the streamed object.
+         * @param key Key of the streamed member.
+         * @param value Value of the streamed member.
+         */
+        void accept(ObjectNode preceding, StringNode key, Node value);
+    }
+
+    private final NodeHandler nodes = new NodeHandler();
+    private final Function<CharSequence, String> keyTable;
+    private final String streamedMember;
+    private final MemberConsumer consumer;
+    private int depth;
+    private ObjectNode.Builder root;
+    private ObjectNode.Builder streamed;
+    private ObjectNode preceding;
+    private boolean streamNext;
+
+    private StreamingNodeHandler(
+            Function<CharSequence, String> keyTable,
+            String streamedMember,
+            MemberConsumer consumer
+    ) {
+        this.keyTable = keyTable;
+        this.streamedMember = streamedMember;
+        this.consumer = consumer;
+    }
+
+    /**
+     * Parses JSON from a reader, streaming the members of a top-level object member.
+     *
+     * @param filename Filename to assign to source locations.
+     * @param reader Reader to parse. The reader is not closed.
+     * @param keyTable String table used to intern object keys.
+     * @param streamedMember Name of the top-level member to stream if its value is an object.
+     * @param consumer Consumer that receives each member of the streamed object.
+     * @return Returns the parsed node, with the streamed object left empty.
+     * @throws IOException if the reader fails.
+     */
+    @SmithyInternalApi
+    public static Node parse(
+            String filename,
+            Reader reader,
+            Function<CharSequence, String> keyTable,
+            String streamedMember,
+            MemberConsumer consumer
+    ) throws IOException {
+        StreamingNodeHandler handler = new StreamingNodeHandler(keyTable, streamedMember, consumer);
+        new JsonParser(filename, handler, false).parse(reader);
+        return handler.nodes.getValue();
+    }
+
+    @Override
+    void endNull(SourceLocation location) {
+        nodes.endNull(location);
+    }
+
+    @Override
+    void endBoolean(boolean bool, SourceLocation location) {
+        nodes.endBoolean(bool, location);
+    }
+
+    @Override
+    void endString(String string, SourceLocation location) {
+        nodes.endString(string, location);
+    }
+
+    @Override
+    void endNumber(String string, SourceLocation location) {
+        nodes.endNumber(string, location);
+    }
+
+    @Override
+    ArrayNode.Builder startArray() {
+        depth++;
+        return nodes.startArray();
+    }
+
+    @Override
+    void endArrayValue(ArrayNode.Builder builder) {
+        nodes.endArrayValue(builder);
+    }
+
+    @Override
+    void endArray(ArrayNode.Builder builder, SourceLocation location) {
+        depth--;
+        nodes.endArray(builder, location);
+    }
+
+    @Override
+    ObjectNode.Builder startObject() {
+        ObjectNode.Builder builder = nodes.startObject();
+        if (depth == 0) {
+            root = builder;
+        } else if (depth == 1 && streamNext) {
+            streamed = builder;
+            preceding = root.build();
+        }
+        streamNext = false;
+        depth++;
+        return builder;
+    }
+
+    @Override
+    void startObjectValue(ObjectNode.Builder object, String name) {
+        streamNext = object == root && name.equals(streamedMember);
+    }
+
+    @Override
+    void endObjectValue(ObjectNode.Builder object, String name, SourceLocation keyLocation) {
+        String key = keyTable.apply(name);
+        if (object == streamed) {
+            consumer.accept(preceding, new StringNode(key, keyLocation), nodes.getValue());
+        } else {
+            nodes.endObjectValue(object, key, keyLocation);
+        }
+    }
+
+    @Override
+    void endObject(ObjectNode.Builder object, SourceLocation location) {
+        depth--;
+        if (object == streamed) {
+            streamed = null;
+            preceding = null;
+        }
+        nodes.endObject(object, location);
+    }
+}
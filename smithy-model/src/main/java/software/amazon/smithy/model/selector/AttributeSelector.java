@@ -24,6 +24,7 @@ final class AttributeSelector implements InternalSelector {
     private final AttributeComparator comparator;
     private final boolean caseInsensitive;
     private final Function<Model, Collection<? extends Shape>> optimizer;
+    private final boolean requiresTrait;
 
     AttributeSelector(
             List<String> path,
@@ -46,18 +47,12 @@ final class AttributeSelector implements InternalSelector {
         }
 
         // Optimization for loading shapes with a specific trait.
-        // This optimization can only be applied when there's no comparator,
-        // and it doesn't matter how deep into the trait the selector descends.
-        if (comparator == null
-                && path.size() >= 2
-                && path.get(0).equals("trait") // only match on traits
-                && !path.get(1).startsWith("(")) { // don't match projections
-            optimizer = model -> {
-                // The trait name might be relative to the prelude, so ensure it's absolute.
-                String absoluteShapeId = Trait.makeAbsoluteName(path.get(1));
-                ShapeId trait = ShapeId.from(absoluteShapeId);
-                return model.getShapesWithTrait(trait);
-            };
+        // This optimization can only be applied when there's no comparator or
+        // when the comparator only matches values that are present, and it
+        // doesn't matter how deep into the trait the selector descends.
+        requiresTrait = requiresValue(comparator) && isTraitPath(path);
+        if (requiresTrait) {
+            optimizer = model -> getShapesWithTrait(model, path);
         } else {
             optimizer = Model::toSet;
         }
@@ -67,6 +62,53 @@ final class AttributeSelector implements InternalSelector {
         return new AttributeSelector(path, null, null, false);
     }
 
+    static boolean isTraitPath(List<String> path) {
+        return path.size() >= 2
+                && path.get(0).equals("trait") // only match on traits
+                && !path.get(1).startsWith("("); // don't match projections
+    }
+
+    static Collection<? extends Shape> getShapesWithTrait(Model model, List<String> traitPath) {
+        // The trait name might be relative to the prelude, so ensure it's absolute.
+        String absoluteShapeId = Trait.makeAbsoluteName(traitPath.get(1));
+        ShapeId trait = ShapeId.from(absoluteShapeId);
+        return model.getShapesWithTrait(trait);
+    }
+
+    // String and numeric comparators never match an attribute that isn't present. Other comparators, like
+    // "?=" and projection comparators, can match shapes that don't have the attribute.
+    private static boolean requiresValue(AttributeComparator comparator) {
+        return comparator == null
+                || comparator == AttributeComparator.EQUALS
+                || comparator == AttributeComparator.NOT_EQUALS
+                || comparator == AttributeComparator.STARTS_WITH
+                || comparator == AttributeComparator.ENDS_WITH
+                || comparator == AttributeComparator.CONTAINS
+                || comparator == AttributeComparator.GT
+                || comparator == AttributeComparator.GTE
+                || comparator == AttributeComparator.LT
+                || comparator == AttributeComparator.LTE;
+    }
+
+    /**
+     * Checks if the selector reads variables, in which case its result depends on
+     * the selectors evaluated before it.
+     *
+     * @return Returns true if the attribute path starts with "var".
+     */
+    boolean readsVariables() {
+        return path.get(0).equals("var");
+    }
+
+    /**
+     * Checks if the selector only matches shapes with a specific trait.
+     *
+     * @return Returns true if {@link #getStartingShapes} returns shapes with a trait.
+     */
+    boolean requiresTrait() {
+        return requiresTrait;
+    }
+
     @Override
     public Collection<? extends Shape> getStartingShapes(Model model) {
         return optimizer.apply(model);
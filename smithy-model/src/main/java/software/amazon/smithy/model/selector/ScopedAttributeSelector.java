@@ -4,9 +4,11 @@
  */
 package software.amazon.smithy.model.selector;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.shapes.Shape;
 
 /**
@@ -52,6 +54,31 @@ final class ScopedAttributeSelector implements InternalSelector {
         this.assertions = assertions;
     }
 
+    /**
+     * Checks if the selector reads variables, in which case its result depends on
+     * the selectors evaluated before it.
+     *
+     * @return Returns true if the scope path starts with "var".
+     */
+    boolean readsVariables() {
+        return !path.isEmpty() && path.get(0).equals("var");
+    }
+
+    /**
+     * Checks if the selector only matches shapes with a specific trait.
+     *
+     * @return Returns true if {@link #getStartingShapes} returns shapes with a trait.
+     */
+    boolean requiresTrait() {
+        return AttributeSelector.isTraitPath(path);
+    }
+
+    @Override
+    public Collection<? extends Shape> getStartingShapes(Model model) {
+        // Nothing can match if the scope isn't present, so only shapes with the trait can match.
+        return requiresTrait() ? AttributeSelector.getShapesWithTrait(model, path) : model.toSet();
+    }
+
     @Override
     public Response push(Context context, Shape shape, Receiver next) {
         if (matchesAssertions(shape, context.getVars())) {
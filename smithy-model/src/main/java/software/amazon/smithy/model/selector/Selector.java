@@ -216,6 +216,20 @@ public interface Selector {
         }
     }
 
+    /**
+     * Describes how the selector is evaluated against a model, including the
+     * shapes it starts with and the order its selectors are evaluated in.
+     *
+     * <p>The description is meant to help write efficient selectors, and its
+     * format may change at any time.
+     *
+     * @param model Model the selector would be evaluated against.
+     * @return Returns a human-readable description of the evaluation plan.
+     */
+    default String explain(Model model) {
+        return "Selector: " + this + System.lineSeparator();
+    }
+
     /**
      * Creates a Selector {@code Runner}, used to customize how a selector is
      * executed.
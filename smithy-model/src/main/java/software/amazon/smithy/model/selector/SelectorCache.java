@@ -0,0 +1,109 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.selector;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.knowledge.KnowledgeIndex;
+import software.amazon.smithy.model.shapes.Shape;
+
+/**
+ * Caches the results of selectors evaluated against a model.
+ *
+ * <p>Models are immutable, so the same selector always produces the same
+ * results for the same model. Validators, transforms, and code generators
+ * often evaluate the same selectors against the same model, and the cache
+ * is stored with the model's knowledge indexes so that they can share
+ * results. Results are keyed by the normalized expression of a selector,
+ * and results of {@code :root} subexpressions are shared by every selector
+ * that contains the same subexpression.
+ *
+ * <p>Only the shapes returned by {@link Selector#select} are cached, along
+ * with {@code :root} results. Matches and streamed results aren't cached so
+ * that callers that consume them one at a time don't hold every result in
+ * memory. Only results computed over every shape in the model are cached,
+ * not results computed from custom starting shapes. Results are computed
+ * without holding a lock, so concurrent evaluations of the same selector
+ * may both compute the result, but only the first result is kept.
+ *
+ * <p>Shapes and roots are each kept in an LRU cache of up to {@link #MAX_ENTRIES}
+ * expressions so that processes that evaluate many distinct selectors
+ * against a long-lived model don't keep every result alive.
+ */
+final class SelectorCache implements KnowledgeIndex {
+
+    static final int MAX_ENTRIES = 256;
+
+    private final Map<String, Set<Shape>> shapes = createLru();
+    private final Map<String, Set<Shape>> roots = createLru();
+
+    static SelectorCache of(Model model) {
+        return model.getKnowledge(SelectorCache.class, m -> new SelectorCache());
+    }
+
+    /**
+     * Gets the shapes that match a selector, computing them if needed.
+     *
+     * @param expression Normalized selector expression.
+     * @param supplier Computes the matching shapes.
+     * @return Returns the matching shapes, which must not be modified.
+     */
+    Set<Shape> getShapes(String expression, Supplier<Set<Shape>> supplier) {
+        return get(shapes, expression, supplier);
+    }
+
+    /**
+     * Gets the cached shapes that match a selector.
+     *
+     * @param expression Normalized selector expression.
+     * @return Returns the matching shapes, or null if they haven't been computed.
+     */
+    Set<Shape> getCachedShapes(String expression) {
+        synchronized (shapes) {
+            return shapes.get(expression);
+        }
+    }
+
+    /**
+     * Gets the result of a {@code :root} subexpression, computing it if needed.
+     *
+     * @param expression Expression of the root subexpression.
+     * @param supplier Computes the result.
+     * @return Returns the result, which must not be modified.
+     */
+    Set<Shape> getRoot(String expression, Supplier<Set<Shape>> supplier) {
+        return get(roots, expression, supplier);
+    }
+
+    // The lock isn't held while computing results because computing a selector can recursively compute roots.
+    private static <T> T get(Map<String, T> cache, String key, Supplier<T> supplier) {
+        T result;
+        synchronized (cache) {
+            result = cache.get(key);
+        }
+        if (result == null) {
+            result = supplier.get();
+            synchronized (cache) {
+                T previous = cache.putIfAbsent(key, result);
+                if (previous != null) {
+                    result = previous;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static <T> Map<String, T> createLru() {
+        return new LinkedHashMap<String, T>(MAX_ENTRIES + 1, .75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, T> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+    }
+}
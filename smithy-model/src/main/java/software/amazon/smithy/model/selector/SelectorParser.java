@@ -28,6 +28,7 @@ final class SelectorParser extends SimpleParser {
     private static final Set<Character> BREAK_TOKENS = SetUtils.of(',', ']', ')');
     private static final Set<String> REL_TYPES = new HashSet<>();
     private final List<InternalSelector> roots = new ArrayList<>();
+    private final List<String> rootExpressions = new ArrayList<>();
 
     static {
         // Adds selector relationship labels for warnings when unknown relationship names are used.
@@ -42,12 +43,16 @@ final class SelectorParser extends SimpleParser {
 
     static Selector parse(String selector) {
         SelectorParser parser = new SelectorParser(selector);
-        List<InternalSelector> result = parser.parse();
-        return new WrappedSelector(selector, result, parser.roots);
+        List<String> expressions = new ArrayList<>();
+        List<InternalSelector> result = parser.parse(expressions);
+        return new WrappedSelector(selector,
+                SelectorPlan.create(result, expressions),
+                parser.roots,
+                parser.rootExpressions);
     }
 
-    List<InternalSelector> parse() {
-        List<InternalSelector> result = recursiveParse();
+    List<InternalSelector> parse(List<String> expressions) {
+        List<InternalSelector> result = recursiveParse(expressions);
         ws();
         if (!eof()) {
             throw syntax("Unexpected selector character: " + peek());
@@ -56,17 +61,21 @@ final class SelectorParser extends SimpleParser {
     }
 
     private List<InternalSelector> recursiveParse() {
+        return recursiveParse(null);
+    }
+
+    // Adds the expression of each selector to expressions when it isn't null.
+    private List<InternalSelector> recursiveParse(List<String> expressions) {
         List<InternalSelector> selectors = new IgnoreIdentitySelectorArray();
 
-        // createSelector() will strip leading ws.
-        selectors.add(createSelector());
+        addSelector(selectors, expressions);
 
         // Need to always strip after calling createSelector in case we are at EOF.
         ws();
 
         // Parse until a break token: ",", "]", and ")".
         while (!eof() && !BREAK_TOKENS.contains(peek())) {
-            selectors.add(createSelector());
+            addSelector(selectors, expressions);
             // Always skip ws after calling createSelector.
             ws();
         }
@@ -74,6 +83,14 @@ final class SelectorParser extends SimpleParser {
         return selectors;
     }
 
+    private void addSelector(List<InternalSelector> selectors, List<String> expressions) {
+        ws();
+        int start = position();
+        if (selectors.add(createSelector()) && expressions != null) {
+            expressions.add(input().subSequence(start, position()).toString());
+        }
+    }
+
     /**
      * Filter out unnecessary identity selectors when creating the finalized AST to evaluate selectors.
      */
@@ -222,6 +239,7 @@ final class SelectorParser extends SimpleParser {
     private InternalSelector parseSelectorFunction() {
         int functionPosition = position();
         String name = ParserUtils.parseIdentifier(this);
+        int argumentsPosition = position();
         List<InternalSelector> selectors = parseSelectorFunctionArgs();
         switch (name) {
             case "not":
@@ -259,6 +277,7 @@ final class SelectorParser extends SimpleParser {
                 }
                 InternalSelector root = new RootSelector(selectors.get(0), roots.size());
                 roots.add(selectors.get(0));
+                rootExpressions.add(":root" + input().subSequence(argumentsPosition, position()).toString().trim());
                 return root;
             case "topdown":
                 if (selectors.size() > 2) {
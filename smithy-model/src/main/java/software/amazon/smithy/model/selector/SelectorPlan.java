@@ -0,0 +1,216 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.selector;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.StringJoiner;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.Shape;
+
+/**
+ * A cost-ordered plan used to evaluate the selectors parsed from an expression.
+ *
+ * <p>Selectors that send the shape they receive or nothing, like shape type
+ * and attribute selectors, are filters. Within each run of consecutive
+ * filters, the filters that don't depend on variables are moved ahead of
+ * the others and ordered from cheapest to most expensive, so that shapes are
+ * rejected before filters like {@code :test} and {@code :not} traverse the
+ * model. Filters are never moved across selectors that send other shapes,
+ * like neighbor selectors, because they would then test different shapes.
+ *
+ * <p>Every filter in the first run tests the starting shape, so each filter
+ * that can only match a subset of the model, like the shapes of a type or
+ * the shapes with a trait, is a candidate starting set. The smallest
+ * candidate is chosen when the selector is evaluated against a model.
+ */
+final class SelectorPlan {
+
+    private static final int SHAPE_TYPE_COST = 0;
+    private static final int SHAPE_CATEGORY_COST = 1;
+    private static final int ATTRIBUTE_COST = 2;
+    private static final int SCOPED_ATTRIBUTE_COST = 3;
+    private static final int UNORDERED_COST = 4;
+
+    private final List<Step> steps;
+    private final List<Step> seeds;
+    private final InternalSelector selector;
+    private final String expression;
+
+    private SelectorPlan(List<Step> steps, List<Step> seeds) {
+        this.steps = steps;
+        this.seeds = seeds;
+        List<InternalSelector> selectors = new ArrayList<>(steps.size());
+        StringJoiner joiner = new StringJoiner(" ");
+        for (Step step : steps) {
+            selectors.add(step.selector);
+            joiner.add(step.expression);
+        }
+        this.selector = AndSelector.of(selectors);
+        this.expression = joiner.toString();
+    }
+
+    /**
+     * Creates a plan for a list of selectors.
+     *
+     * @param selectors Selectors to evaluate in order.
+     * @param expressions The expression each selector was parsed from.
+     * @return Returns the created plan.
+     */
+    static SelectorPlan create(List<InternalSelector> selectors, List<String> expressions) {
+        List<Step> steps = new ArrayList<>(selectors.size());
+        List<Step> seeds = new ArrayList<>();
+        List<Step> run = new ArrayList<>();
+        boolean firstRun = true;
+
+        for (int i = 0; i < selectors.size(); i++) {
+            Step step = new Step(selectors.get(i), expressions.get(i));
+            if (step.cost >= 0) {
+                run.add(step);
+                if (firstRun && step.isSeed()) {
+                    seeds.add(step);
+                }
+            } else {
+                addRun(steps, run);
+                steps.add(step);
+                firstRun = false;
+            }
+        }
+
+        addRun(steps, run);
+        seeds.sort(Comparator.comparingInt(step -> step.cost));
+        return new SelectorPlan(steps, seeds);
+    }
+
+    private static void addRun(List<Step> steps, List<Step> run) {
+        // This is a stable sort, so filters that can't be reordered keep their relative order.
+        run.sort(Comparator.comparingInt(step -> step.cost));
+        steps.addAll(run);
+        run.clear();
+    }
+
+    /**
+     * Gets the selector that evaluates the plan.
+     *
+     * @return Returns the selector.
+     */
+    InternalSelector getSelector() {
+        return selector;
+    }
+
+    /**
+     * Gets the normalized expression of the plan.
+     *
+     * <p>The expression contains each selector in the order it's evaluated,
+     * separated by a single space. Selectors that are equivalent except for
+     * whitespace between selectors or the order of their filters often have
+     * the same normalized expression.
+     *
+     * @return Returns the normalized expression.
+     */
+    String getExpression() {
+        return expression;
+    }
+
+    /**
+     * Gets the smallest set of shapes that could match the plan.
+     *
+     * @param model Model to evaluate.
+     * @return Returns the shapes to send through the plan.
+     */
+    Collection<? extends Shape> getStartingShapes(Model model) {
+        Collection<? extends Shape> result = null;
+        for (Step seed : seeds) {
+            Collection<? extends Shape> candidate = seed.selector.getStartingShapes(model);
+            if (result == null || candidate.size() < result.size()) {
+                result = candidate;
+            }
+        }
+        return result == null ? model.toSet() : result;
+    }
+
+    /**
+     * Describes how the plan is evaluated against a model.
+     *
+     * @param expression Expression the plan was created from.
+     * @param model Model to evaluate.
+     * @return Returns the description.
+     */
+    String explain(String expression, Model model) {
+        StringBuilder result = new StringBuilder();
+        result.append("Selector: ").append(expression).append(System.lineSeparator());
+
+        Collection<? extends Shape> startingShapes = getStartingShapes(model);
+        if (seeds.isEmpty()) {
+            result.append("Start with every shape (").append(startingShapes.size()).append(" shapes)");
+            result.append(System.lineSeparator());
+        } else {
+            result.append("Start with the smallest of:").append(System.lineSeparator());
+            boolean chosen = false;
+            for (Step seed : seeds) {
+                Collection<? extends Shape> candidate = seed.selector.getStartingShapes(model);
+                result.append("  ").append(seed.expression).append(" (").append(candidate.size()).append(" shapes)");
+                if (!chosen && candidate.size() == startingShapes.size()) {
+                    result.append(" <- chosen");
+                    chosen = true;
+                }
+                result.append(System.lineSeparator());
+            }
+        }
+
+        result.append("Evaluate:").append(System.lineSeparator());
+        for (int i = 0; i < steps.size(); i++) {
+            result.append("  ").append(i + 1).append(". ").append(steps.get(i).expression);
+            result.append(System.lineSeparator());
+        }
+
+        return result.toString();
+    }
+
+    private static final class Step {
+        private final InternalSelector selector;
+        private final String expression;
+
+        // The relative cost of a filter, or -1 if the selector isn't a filter.
+        private final int cost;
+
+        Step(InternalSelector selector, String expression) {
+            this.selector = selector;
+            this.expression = expression;
+            this.cost = computeCost(selector);
+        }
+
+        private static int computeCost(InternalSelector selector) {
+            if (selector instanceof ShapeTypeSelector) {
+                return SHAPE_TYPE_COST;
+            } else if (selector instanceof ShapeTypeCategorySelector) {
+                return SHAPE_CATEGORY_COST;
+            } else if (selector instanceof AttributeSelector) {
+                return ((AttributeSelector) selector).readsVariables() ? UNORDERED_COST : ATTRIBUTE_COST;
+            } else if (selector instanceof ScopedAttributeSelector) {
+                return ((ScopedAttributeSelector) selector).readsVariables() ? UNORDERED_COST : SCOPED_ATTRIBUTE_COST;
+            } else if (selector instanceof TestSelector
+                    || selector instanceof NotSelector
+                    || selector instanceof VariableStoreSelector) {
+                return UNORDERED_COST;
+            } else {
+                return -1;
+            }
+        }
+
+        boolean isSeed() {
+            if (selector instanceof ShapeTypeSelector || selector instanceof ShapeTypeCategorySelector) {
+                return true;
+            } else if (selector instanceof AttributeSelector) {
+                return ((AttributeSelector) selector).requiresTrait();
+            } else if (selector instanceof ScopedAttributeSelector) {
+                return ((ScopedAttributeSelector) selector).requiresTrait();
+            }
+            return false;
+        }
+    }
+}
@@ -6,6 +6,7 @@ package software.amazon.smithy.model.selector;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -26,13 +27,22 @@ final class WrappedSelector implements Selector {
     private static final int PARALLEL_THRESHOLD = 10000;
 
     private final String expression;
+    private final SelectorPlan plan;
     private final InternalSelector delegate;
     private final List<InternalSelector> roots;
+    private final List<String> rootExpressions;
 
-    WrappedSelector(String expression, List<InternalSelector> selectors, List<InternalSelector> roots) {
+    WrappedSelector(
+            String expression,
+            SelectorPlan plan,
+            List<InternalSelector> roots,
+            List<String> rootExpressions
+    ) {
         this.expression = expression;
+        this.plan = plan;
         this.roots = roots;
-        this.delegate = AndSelector.of(selectors);
+        this.rootExpressions = rootExpressions;
+        this.delegate = plan.getSelector();
     }
 
     @Override
@@ -50,6 +60,11 @@ final class WrappedSelector implements Selector {
         return expression.hashCode();
     }
 
+    @Override
+    public String explain(Model model) {
+        return plan.explain(expression, model);
+    }
+
     @Override
     public Set<Shape> select(Model model) {
         return select(model, StartingContext.DEFAULT);
@@ -57,6 +72,16 @@ final class WrappedSelector implements Selector {
 
     @Override
     public Set<Shape> select(Model model, StartingContext startingContext) {
+        if (startingContext.getStartingShapes() != null) {
+            return evaluate(model, startingContext);
+        }
+
+        // Return a copy since callers can modify the returned set.
+        SelectorCache cache = SelectorCache.of(model);
+        return new HashSet<>(cache.getShapes(plan.getExpression(), () -> evaluate(model, startingContext)));
+    }
+
+    private Set<Shape> evaluate(Model model, StartingContext startingContext) {
         Collection<? extends Shape> startingShapes = getStartingShapes(model, startingContext);
 
         if (isParallel(startingShapes)) {
@@ -74,7 +99,7 @@ final class WrappedSelector implements Selector {
 
     private Collection<? extends Shape> getStartingShapes(Model model, StartingContext startingContext) {
         Collection<? extends Shape> startingShapes = startingContext.getStartingShapes();
-        return startingShapes == null ? delegate.getStartingShapes(model) : startingShapes;
+        return startingShapes == null ? plan.getStartingShapes(model) : startingShapes;
     }
 
     private boolean isParallel(Collection<? extends Shape> startingShapes) {
@@ -130,10 +155,18 @@ final class WrappedSelector implements Selector {
 
     // Eagerly compute roots over all model shapes before evaluating shapes one at a time.
     private List<Set<Shape>> computeRoots(Model model) {
+        if (roots.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // Roots are evaluated in an isolated context, so their results can be shared with other selectors.
         NeighborProviderIndex index = NeighborProviderIndex.of(model);
+        SelectorCache cache = SelectorCache.of(model);
         List<Set<Shape>> rootResults = new ArrayList<>(roots.size());
-        for (InternalSelector selector : roots) {
-            Set<Shape> result = evalRoot(model, index, selector, rootResults);
+        for (int i = 0; i < roots.size(); i++) {
+            InternalSelector selector = roots.get(i);
+            Set<Shape> result = cache.getRoot(rootExpressions.get(i),
+                    () -> evalRoot(model, index, selector, rootResults));
             rootResults.add(result);
         }
         return rootResults;
@@ -4,9 +4,8 @@
  */
 package software.amazon.smithy.model.shapes;
 
-import java.util.Collections;
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -36,7 +35,7 @@ import software.amazon.smithy.model.node.Node;
  */
 public final class ShapeId implements ToShapeId, Comparable<ShapeId> {
 
-    /** LRA (least recently added) cache of parsed shape IDs. */
+    /** Interning cache of parsed shape IDs. */
     private static final ShapeIdFactory FACTORY = new ShapeIdFactory();
 
     private final String namespace;
@@ -397,35 +396,24 @@ public final class ShapeId implements ToShapeId, Comparable<ShapeId> {
     }
 
     /**
-     * A least-recently used flyweight factory that creates shape IDs.
+     * A flyweight factory that creates and interns shape IDs.
      *
      * <p>Prelude IDs are stored separately from non-prelude IDs because we can make a reasonable estimate about the
      * size of the prelude and stop caching IDs when that size is exceeded. Prelude shapes are stored in a
      * ConcurrentHashMap with a bounded size. Once the size exceeds 500, then items are no longer stored in the cache.
-     * Non-prelude shapes are stored in a bounded, synchronized LRU cache based on {@link LinkedHashMap}.
+     *
+     * <p>Non-prelude shapes are stored in a ConcurrentHashMap of weak references, so lookups don't take a lock and
+     * threads that intern different IDs don't contend with each other. The cache isn't bounded by a fixed size:
+     * it grows to hold every ID that is still reachable, like the IDs of the shapes in a loaded model, and an ID is
+     * evicted once it's garbage collected. Cleared references are removed when new IDs are added.
      */
     private static final class ShapeIdFactory {
-        private static final int NON_PRELUDE_MAX_SIZE = 8192;
         private static final int PRELUDE_MAX_SIZE = 500;
         private static final String PRELUDE_PREFIX = Prelude.NAMESPACE + '#';
 
-        private final Map<String, ShapeId> nonPreludeCache;
-        private final ConcurrentMap<String, ShapeId> preludeCache;
-
-        ShapeIdFactory() {
-            preludeCache = new ConcurrentHashMap<>(PRELUDE_MAX_SIZE);
-
-            // A simple LRU cache based on LinkedHashMap, wrapped in a synchronized map.
-            nonPreludeCache = Collections.synchronizedMap(new LinkedHashMap<String, ShapeId>(
-                    NON_PRELUDE_MAX_SIZE + 1,
-                    1.0f,
-                    true) {
-                @Override
-                protected boolean removeEldestEntry(Map.Entry<String, ShapeId> eldest) {
-                    return this.size() > NON_PRELUDE_MAX_SIZE;
-                }
-            });
-        }
+        private final ConcurrentMap<String, IdReference> nonPreludeCache = new ConcurrentHashMap<>();
+        private final ReferenceQueue<ShapeId> clearedReferences = new ReferenceQueue<>();
+        private final ConcurrentMap<String, ShapeId> preludeCache = new ConcurrentHashMap<>(PRELUDE_MAX_SIZE);
 
         ShapeId create(final String key) {
             if (key.startsWith(PRELUDE_PREFIX)) {
@@ -454,7 +442,37 @@ public final class ShapeId implements ToShapeId, Comparable<ShapeId> {
         }
 
         private ShapeId getNonPreludeId(String key) {
-            return nonPreludeCache.computeIfAbsent(key, ShapeIdFactory::buildShapeId);
+            IdReference reference = nonPreludeCache.get(key);
+            ShapeId result = reference == null ? null : reference.get();
+            if (result != null) {
+                return result;
+            }
+
+            // Build the ID outside of the map so that parsing doesn't block other threads. If another thread
+            // interned the same ID in the meantime, then its ID is returned instead.
+            result = buildShapeId(key);
+            removeClearedReferences();
+            IdReference created = new IdReference(key, result, clearedReferences);
+            while (true) {
+                IdReference existing = nonPreludeCache.putIfAbsent(key, created);
+                if (existing == null) {
+                    return result;
+                }
+                ShapeId interned = existing.get();
+                if (interned != null) {
+                    return interned;
+                } else if (nonPreludeCache.replace(key, existing, created)) {
+                    return result;
+                }
+            }
+        }
+
+        private void removeClearedReferences() {
+            IdReference reference;
+            while ((reference = (IdReference) clearedReferences.poll()) != null) {
+                // Only remove the entry if it wasn't already replaced with a new ID.
+                nonPreludeCache.remove(reference.key, reference);
+            }
         }
 
         private static ShapeId buildShapeId(String absoluteShapeId) {
@@ -481,4 +499,13 @@ public final class ShapeId implements ToShapeId, Comparable<ShapeId> {
             return new ShapeId(absoluteShapeId, namespace, name, memberName);
         }
     }
+
+    private static final class IdReference extends WeakReference<ShapeId> {
+        private final String key;
+
+        IdReference(String key, ShapeId id, ReferenceQueue<ShapeId> queue) {
+            super(id, queue);
+            this.key = key;
+        }
+    }
 }
@@ -0,0 +1,216 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.validation;
+
+import java.util.Objects;
+import software.amazon.smithy.model.FromSourceLocation;
+import software.amazon.smithy.model.SourceLocation;
+import software.amazon.smithy.model.loader.ModelAssembler;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.node.ToNode;
+import software.amazon.smithy.utils.SmithyBuilder;
+
+/**
+ * Measurements taken while running a single {@link Validator}.
+ *
+ * <p>Profiles are emitted to the listener registered with
+ * {@link ModelAssembler#validatorProfileListener}.
+ */
+public final class ValidatorProfile implements FromSourceLocation, ToNode {
+
+    private final String name;
+    private final SourceLocation sourceLocation;
+    private final long wallTimeNanos;
+    private final int eventCount;
+    private final long allocatedBytes;
+
+    private ValidatorProfile(Builder builder) {
+        name = SmithyBuilder.requiredState("name", builder.name);
+        sourceLocation = builder.sourceLocation;
+        wallTimeNanos = builder.wallTimeNanos;
+        eventCount = builder.eventCount;
+        allocatedBytes = builder.allocatedBytes;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the name of the validator.
+     *
+     * <p>Validators defined in the "validators" metadata of a model use the
+     * ID given to them in their definition, and other validators use a name
+     * derived from their class name.
+     *
+     * @return Returns the validator name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the location where the validator was defined in a model, or
+     * {@link SourceLocation#NONE} if it wasn't defined in a model.
+     *
+     * @return Returns the source location.
+     */
+    @Override
+    public SourceLocation getSourceLocation() {
+        return sourceLocation;
+    }
+
+    /**
+     * Gets the elapsed wall-clock time spent running the validator.
+     *
+     * @return Returns the elapsed time in nanoseconds.
+     */
+    public long getWallTimeNanos() {
+        return wallTimeNanos;
+    }
+
+    /**
+     * Gets the number of events emitted by the validator.
+     *
+     * @return Returns the number of events.
+     */
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * Gets the approximate number of bytes allocated by the thread that ran
+     * the validator while it ran.
+     *
+     * <p>Allocations made by other threads, like threads used by parallel
+     * streams created by the validator, are not counted.
+     *
+     * @return Returns the allocated bytes, or -1 if the JVM doesn't support per-thread allocation counters.
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    @Override
+    public Node toNode() {
+        ObjectNode.Builder builder = Node.objectNodeBuilder()
+                .withMember("name", Node.from(getName()))
+                .withMember("wallTimeNanos", Node.from(getWallTimeNanos()))
+                .withMember("eventCount", Node.from(getEventCount()))
+                .withMember("allocatedBytes", Node.from(getAllocatedBytes()));
+
+        if (!sourceLocation.equals(SourceLocation.NONE)) {
+            builder.withMember("filename", Node.from(sourceLocation.getFilename()))
+                    .withMember("line", Node.from(sourceLocation.getLine()))
+                    .withMember("column", Node.from(sourceLocation.getColumn()));
+        }
+
+        return builder.build();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %.3f ms, %d events, %d bytes allocated",
+                name,
+                wallTimeNanos / 1_000_000.0,
+                eventCount,
+                allocatedBytes);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (!(o instanceof ValidatorProfile)) {
+            return false;
+        }
+        ValidatorProfile other = (ValidatorProfile) o;
+        return name.equals(other.name)
+                && sourceLocation.equals(other.sourceLocation)
+                && wallTimeNanos == other.wallTimeNanos
+                && eventCount == other.eventCount
+                && allocatedBytes == other.allocatedBytes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, sourceLocation, wallTimeNanos, eventCount, allocatedBytes);
+    }
+
+    /**
+     * Builds a {@link ValidatorProfile}.
+     */
+    public static final class Builder implements SmithyBuilder<ValidatorProfile> {
+
+        private String name;
+        private SourceLocation sourceLocation = SourceLocation.NONE;
+        private long wallTimeNanos;
+        private int eventCount;
+        private long allocatedBytes = -1;
+
+        private Builder() {}
+
+        /**
+         * Sets the required name of the validator.
+         *
+         * @param name Name to set.
+         * @return Returns the builder.
+         */
+        public Builder name(String name) {
+            this.name = Objects.requireNonNull(name);
+            return this;
+        }
+
+        /**
+         * Sets where the validator was defined in a model.
+         *
+         * @param sourceLocation Source location to set.
+         * @return Returns the builder.
+         */
+        public Builder sourceLocation(FromSourceLocation sourceLocation) {
+            this.sourceLocation = sourceLocation.getSourceLocation();
+            return this;
+        }
+
+        /**
+         * Sets the elapsed wall-clock time spent running the validator.
+         *
+         * @param wallTimeNanos Elapsed time in nanoseconds.
+         * @return Returns the builder.
+         */
+        public Builder wallTimeNanos(long wallTimeNanos) {
+            this.wallTimeNanos = wallTimeNanos;
+            return this;
+        }
+
+        /**
+         * Sets the number of events emitted by the validator.
+         *
+         * @param eventCount Number of events.
+         * @return Returns the builder.
+         */
+        public Builder eventCount(int eventCount) {
+            this.eventCount = eventCount;
+            return this;
+        }
+
+        /**
+         * Sets the approximate number of bytes allocated while running the validator.
+         *
+         * @param allocatedBytes Allocated bytes, or -1 if unknown.
+         * @return Returns the builder.
+         */
+        public Builder allocatedBytes(long allocatedBytes) {
+            this.allocatedBytes = allocatedBytes;
+            return this;
+        }
+
+        @Override
+        public ValidatorProfile build() {
+            return new ValidatorProfile(this);
+        }
+    }
+}
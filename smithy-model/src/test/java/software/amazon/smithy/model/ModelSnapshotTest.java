@@ -0,0 +1,151 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.shapes.MemberShape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.StructureShape;
+import software.amazon.smithy.model.traits.DocumentationTrait;
+import software.amazon.smithy.model.traits.EnumTrait;
+import software.amazon.smithy.model.traits.RequiredTrait;
+
+public class ModelSnapshotTest {
+
+    private static final String MODEL = "$version: \"2.0\"\n"
+            + "metadata foo = [\"bar\", {baz: 10.5}]\n"
+            + "namespace smithy.example\n"
+            + "@title(\"Weather\")\n"
+            + "service Weather {\n"
+            + "    version: \"2006-03-01\"\n"
+            + "    resources: [City]\n"
+            + "    operations: [GetForecast]\n"
+            + "    errors: [Oops]\n"
+            + "}\n"
+            + "resource City {\n"
+            + "    identifiers: {cityId: String}\n"
+            + "    properties: {name: String}\n"
+            + "    read: GetCity\n"
+            + "    list: ListCities\n"
+            + "}\n"
+            + "@readonly\n"
+            + "operation GetCity {\n"
+            + "    input := with [CityMixin] {\n"
+            + "        @required\n"
+            + "        cityId: String\n"
+            + "        @notProperty\n"
+            + "        units: Units = \"C\"\n"
+            + "    }\n"
+            + "    output := {\n"
+            + "        name: String\n"
+            + "    }\n"
+            + "}\n"
+            + "@readonly\n"
+            + "operation ListCities {}\n"
+            + "operation GetForecast {\n"
+            + "    errors: [Oops]\n"
+            + "}\n"
+            + "@error(\"client\")\n"
+            + "structure Oops {}\n"
+            + "@mixin\n"
+            + "structure CityMixin {\n"
+            + "    /// Docs\n"
+            + "    cityId: String\n"
+            + "}\n"
+            + "enum Units {\n"
+            + "    C\n"
+            + "    F\n"
+            + "}\n"
+            + "list Names {\n"
+            + "    member: String\n"
+            + "}\n"
+            + "@documentation(\"Big\")\n"
+            + "bigInteger Big\n";
+
+    private static Model createModel() {
+        return Model.assembler()
+                .addUnparsedModel("snapshot.smithy", MODEL)
+                .assemble()
+                .unwrap();
+    }
+
+    @Test
+    public void roundTripsModels() {
+        Model model = createModel();
+        Model result = ModelSnapshot.read(ModelSnapshot.write(model));
+
+        assertThat(result.getMetadata(), equalTo(model.getMetadata()));
+        assertThat(result.shapes().count(), equalTo(model.shapes().count()));
+        assertThat(result, equalTo(model));
+    }
+
+    @Test
+    public void writesDeterministicSnapshots() {
+        Model model = createModel();
+
+        assertArrayEquals(ModelSnapshot.write(model), ModelSnapshot.write(createModel()));
+    }
+
+    @Test
+    public void decodesShapesOnDemand() {
+        Model model = createModel();
+        Model result = ModelSnapshot.read(ModelSnapshot.write(model));
+        ShapeId input = ShapeId.from("smithy.example#GetCityInput");
+
+        assertTrue(result.getShape(input.withMember("cityId")).isPresent());
+        assertFalse(result.getShape(input.withMember("missing")).isPresent());
+        assertFalse(result.getShape(ShapeId.from("smithy.example#Missing")).isPresent());
+
+        StructureShape structure = result.expectShape(input, StructureShape.class);
+        MemberShape member = structure.getMember("cityId").get();
+        assertThat(structure, equalTo(model.expectShape(input)));
+        assertTrue(member.hasTrait(RequiredTrait.class));
+        assertTrue(member.hasTrait(DocumentationTrait.class));
+        assertThat(member.getSourceLocation(), equalTo(model.expectShape(member.getId()).getSourceLocation()));
+        assertTrue(result.expectShape(ShapeId.from("smithy.example#Units")).hasTrait(EnumTrait.class));
+    }
+
+    @Test
+    public void createsKnownTraits() {
+        Model result = ModelSnapshot.read(ModelSnapshot.write(createModel()));
+
+        assertThat(result.expectShape(ShapeId.from("smithy.example#Big")).getAllTraits()
+                .get(DocumentationTrait.ID), instanceOf(DocumentationTrait.class));
+    }
+
+    @Test
+    public void readsSnapshotFiles(@TempDir Path tempDir) {
+        Model model = createModel();
+        Path file = tempDir.resolve("model.snapshot");
+        ModelSnapshot.write(model, file);
+        Model result = ModelSnapshot.read(file);
+
+        assertThat(result, equalTo(model));
+        assertThat(result.getMetadataProperty("foo"), equalTo(model.getMetadataProperty("foo")));
+    }
+
+    @Test
+    public void roundTripsEmptyModels() {
+        Model model = Model.builder().putMetadataProperty("a", Node.from(true)).build();
+
+        assertThat(ModelSnapshot.read(ModelSnapshot.write(model)), equalTo(model));
+    }
+
+    @Test
+    public void rejectsInvalidData() {
+        assertThrows(IllegalArgumentException.class, () -> ModelSnapshot.read(new byte[] {1, 2, 3, 4, 5}));
+    }
+}
@@ -16,6 +16,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
@@ -32,6 +33,8 @@ import software.amazon.smithy.model.node.ObjectNode;
 import software.amazon.smithy.model.node.StringNode;
 import software.amazon.smithy.model.shapes.*;
 import software.amazon.smithy.model.traits.ExamplesTrait;
+import software.amazon.smithy.model.traits.SensitiveTrait;
+import software.amazon.smithy.model.traits.Trait;
 import software.amazon.smithy.model.traits.TraitDefinition;
 import software.amazon.smithy.model.traits.synthetic.OriginalShapeIdTrait;
 
@@ -288,6 +291,59 @@ public class ModelTest {
         model.getKnowledge(TopDownIndex.class);
     }
 
+    @Test
+    public void reportsQueriesMadeAgainstViews() {
+        StringShape string = StringShape.builder()
+                .id("ns.foo#A")
+                .addTrait(new SensitiveTrait())
+                .build();
+        Model model = Model.builder().addShape(string).build();
+        List<String> queries = new ArrayList<>();
+        Model view = model.withQueryListener(new Model.QueryListener() {
+            @Override
+            public void shapeQueried(ShapeId id) {
+                queries.add("shape " + id);
+            }
+
+            @Override
+            public void typeQueried(Class<? extends Shape> type) {
+                queries.add("type " + type.getSimpleName());
+            }
+
+            @Override
+            public void traitQueried(ShapeId trait) {
+                queries.add("trait " + trait);
+            }
+
+            @Override
+            public void traitQueried(Class<? extends Trait> trait) {
+                queries.add("trait " + trait.getSimpleName());
+            }
+
+            @Override
+            public void modelQueried() {
+                queries.add("model");
+            }
+        });
+
+        view.expectShape(string.getId());
+        view.getStringShapes();
+        view.getShapesWithTrait(SensitiveTrait.ID);
+        view.isTraitApplied(SensitiveTrait.class);
+        view.shapes();
+        TopDownIndex.of(view);
+
+        assertThat(view, equalTo(model));
+        assertThat(queries, contains(
+                "shape ns.foo#A",
+                "type StringShape",
+                "trait smithy.api#sensitive",
+                "trait SensitiveTrait",
+                "model",
+                "model"));
+        assertThat(TopDownIndex.of(model), equalTo(TopDownIndex.of(view)));
+    }
+
     @Test
     public void doesNotDeadlockWhenReenteringBlackboard() {
         Model model = Model.builder().build();
@@ -5,10 +5,16 @@
 package software.amazon.smithy.model.knowledge;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.sameInstance;
 
+import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.ShapeId;
 
 public class TextIndexTest {
 
@@ -22,4 +28,48 @@ public class TextIndexTest {
         TextIndex index = TextIndex.of(model);
         assertThat(index.getTextInstances(), hasSize(5));
     }
+
+    @Test
+    public void reusesTextInstanceList() {
+        Model model = Model.assembler()
+                .addImport(OperationIndexTest.class.getResource("text-index.smithy"))
+                .assemble()
+                .unwrap();
+
+        TextIndex index = TextIndex.of(model);
+        assertThat(index.getTextInstances(), sameInstance(index.getTextInstances()));
+    }
+
+    @Test
+    public void streamsTextInstancesInListOrder() {
+        Model model = Model.assembler()
+                .addImport(OperationIndexTest.class.getResource("text-index.smithy"))
+                .assemble()
+                .unwrap();
+
+        TextIndex index = TextIndex.of(model);
+        List<String> expected = index.getTextInstances()
+                .stream()
+                .map(TextInstance::getText)
+                .collect(Collectors.toList());
+
+        assertThat(expected.get(0), equalTo("com.example"));
+        assertThat(index.textInstances().map(TextInstance::getText).collect(Collectors.toList()),
+                equalTo(expected));
+        assertThat(index.textInstances().parallel().map(TextInstance::getText).collect(Collectors.toList()),
+                equalTo(expected));
+    }
+
+    @Test
+    public void computesTextInstancesOfShape() {
+        Model model = Model.assembler()
+                .addImport(OperationIndexTest.class.getResource("text-index.smithy"))
+                .assemble()
+                .unwrap();
+
+        List<TextInstance> instances = TextIndex.of(model)
+                .getTextInstances(model.expectShape(ShapeId.from("com.example#FooEnum")));
+
+        assertThat(instances.stream().map(TextInstance::getText).collect(Collectors.toList()), contains("FooEnum"));
+    }
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.loader;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.utils.ListUtils;
+
+public class LoaderUtilsTest {
+    @Test
+    public void mapsValuesOnCallingThreadWhenExecutorDoesNotRunTasks() {
+        List<Runnable> queued = new ArrayList<>();
+        List<String> result = LoaderUtils.parallelMap(ListUtils.of("a", "b", "c"), String::toUpperCase, queued::add);
+
+        assertThat(result, contains("A", "B", "C"));
+        assertThat(queued.size(), equalTo(2));
+    }
+
+    @Test
+    public void stopsMappingAndCancelsTasksAfterFailure() {
+        List<Runnable> queued = new ArrayList<>();
+        AtomicInteger mapped = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class, () -> LoaderUtils.parallelMap(ListUtils.of(1, 2, 3), value -> {
+            mapped.incrementAndGet();
+            throw new IllegalStateException();
+        }, queued::add));
+
+        // Cancelled tasks do nothing when they're eventually run.
+        queued.forEach(Runnable::run);
+        assertThat(mapped.get(), equalTo(1));
+    }
+}
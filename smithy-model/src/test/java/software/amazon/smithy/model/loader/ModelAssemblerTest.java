@@ -10,6 +10,7 @@ import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
@@ -25,6 +26,7 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystemException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -37,6 +39,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.AfterEach;
@@ -79,6 +86,7 @@ import software.amazon.smithy.model.validation.ValidatedResultException;
 import software.amazon.smithy.model.validation.ValidationEvent;
 import software.amazon.smithy.model.validation.Validator;
 import software.amazon.smithy.model.validation.ValidatorFactory;
+import software.amazon.smithy.model.validation.ValidatorProfile;
 import software.amazon.smithy.utils.IoUtils;
 import software.amazon.smithy.utils.ListUtils;
 
@@ -500,6 +508,391 @@ public class ModelAssemblerTest {
         assertImportPathsWereLoaded(model);
     }
 
+    @Test
+    public void parallelLoadingProducesSameModelAsSequentialLoading() throws Exception {
+        Path nested = Paths.get(getClass().getResource("nested").toURI());
+        ModelAssembler assembler = new ModelAssembler()
+                .addImport(getClass().getResource("merges-1.json"))
+                .addImport(nested)
+                .addImport(getClass().getResource("apply-use-1.smithy"))
+                .addImport(getClass().getResource("apply-use-2.smithy"))
+                .addImport(getClass().getResource("apply-use-3.smithy"));
+        Model sequential = assembler.copy().assemble().unwrap();
+        Model parallel = assembler.copy().putProperty(ModelAssembler.PARALLEL_LOADING, true).assemble().unwrap();
+
+        assertImportPathsWereLoaded(parallel);
+        assertThat(parallel, equalTo(sequential));
+    }
+
+    @Test
+    public void parallelLoadingEmitsEventsInFileOrder() {
+        ValidatedResult<Model> result = new ModelAssembler()
+                .putProperty(ModelAssembler.PARALLEL_LOADING, true)
+                .addUnparsedModel("a.smithy", "namespace foo\ninvalid!")
+                .addUnparsedModel("b.smithy", "metadata items = [1]")
+                .addUnparsedModel("c.smithy", "namespace foo\ninvalid!")
+                .addUnparsedModel("d.smithy", "metadata items = [2]")
+                .assemble();
+
+        List<String> files = result.getValidationEvents()
+                .stream()
+                .map(e -> e.getSourceLocation().getFilename())
+                .collect(Collectors.toList());
+
+        assertThat(files, contains("a.smithy", "c.smithy"));
+        assertThat(result.getResult().get().getMetadata().get("items"),
+                equalTo(Node.fromNodes(Node.from(1), Node.from(2))));
+    }
+
+    @Test
+    public void reassemblesOnlyChangedFiles() throws Exception {
+        Path a = outputDirectory.resolve("a.smithy");
+        Path b = outputDirectory.resolve("b.smithy");
+        Path c = outputDirectory.resolve("c.smithy");
+        Files.write(a, ("$version: \"2.0\"\nnamespace smithy.example\n"
+                + "/// A\nstructure A { foo: String }\n"
+                + "@mixin\nstructure Mixin { bar: String }\n").getBytes(StandardCharsets.UTF_8));
+        Files.write(b, ("$version: \"2.0\"\nmetadata items = [\"b\"]\nnamespace smithy.example\n"
+                + "structure B with [Mixin] {}\n").getBytes(StandardCharsets.UTF_8));
+        Files.write(c, ("$version: \"2.0\"\nnamespace smithy.example\n"
+                + "apply A @deprecated\n"
+                + "@internal\nstring C\n").getBytes(StandardCharsets.UTF_8));
+        ModelAssembler assembler = new ModelAssembler().addImport(outputDirectory).enableReassembly();
+        ValidatedResult<Model> first = assembler.assemble();
+
+        Files.write(a, ("$version: \"2.0\"\nnamespace smithy.example\n"
+                + "/// Updated\nstructure A { foo: String, baz: Integer }\n"
+                + "@mixin\nstructure Mixin { bar: String, qux: String }\n").getBytes(StandardCharsets.UTF_8));
+        ValidatedResult<Model> second = assembler.reassemble(first,
+                ListUtils.of(a),
+                Collections.emptyList());
+        Model expected = new ModelAssembler().addImport(outputDirectory).assemble().unwrap();
+
+        assertThat(second.getValidationEvents(Severity.ERROR), empty());
+        assertThat(second.unwrap(), equalTo(expected));
+        assertThat(second.unwrap().expectShape(ShapeId.from("smithy.example#A")).hasTrait(DeprecatedTrait.class),
+                is(true));
+        assertThat(second.unwrap().getShape(ShapeId.from("smithy.example#B$qux")).isPresent(), is(true));
+    }
+
+    @Test
+    public void reassemblesAddedAndRemovedFiles() throws Exception {
+        Path a = outputDirectory.resolve("a.smithy");
+        Path b = outputDirectory.resolve("b.smithy");
+        Files.write(a, ("$version: \"2.0\"\nmetadata items = [\"a\"]\nnamespace smithy.example\n"
+                + "string A\n").getBytes(StandardCharsets.UTF_8));
+        ModelAssembler assembler = new ModelAssembler().addImport(a).enableReassembly();
+        ValidatedResult<Model> first = assembler.assemble();
+
+        Files.write(b, ("$version: \"2.0\"\nmetadata items = [\"b\"]\nnamespace smithy.example\n"
+                + "string B\n").getBytes(StandardCharsets.UTF_8));
+        ValidatedResult<Model> second = assembler.reassemble(first, ListUtils.of(b), Collections.emptyList());
+
+        assertThat(second.unwrap(), equalTo(new ModelAssembler().addImport(a).addImport(b).assemble().unwrap()));
+
+        Files.delete(a);
+        ValidatedResult<Model> third = assembler.reassemble(second, Collections.emptyList(), ListUtils.of(a));
+
+        assertThat(third.unwrap(), equalTo(new ModelAssembler().addImport(b).assemble().unwrap()));
+        assertThat(third.unwrap().getMetadataProperty("items"), equalTo(Optional.of(Node.fromStrings("b"))));
+    }
+
+    @Test
+    public void reassemblesArrayTraitsMergedAcrossFiles() throws Exception {
+        Path a = outputDirectory.resolve("a.smithy");
+        Path b = outputDirectory.resolve("b.smithy");
+        Files.write(a, ("$version: \"2.0\"\nnamespace smithy.example\n"
+                + "@tags([\"a\"])\nstring A\n").getBytes(StandardCharsets.UTF_8));
+        Files.write(b, ("$version: \"2.0\"\nnamespace smithy.example\n"
+                + "apply A @tags([\"b\"])\n").getBytes(StandardCharsets.UTF_8));
+        ModelAssembler assembler = new ModelAssembler().addImport(a).addImport(b).enableReassembly();
+        ValidatedResult<Model> result = assembler.assemble();
+
+        Files.write(a, ("$version: \"2.0\"\nnamespace smithy.example\n"
+                + "@tags([\"a2\"])\nstring A\n").getBytes(StandardCharsets.UTF_8));
+        result = assembler.reassemble(result, ListUtils.of(a), Collections.emptyList());
+
+        assertThat(result.unwrap(), equalTo(new ModelAssembler().addImport(a).addImport(b).assemble().unwrap()));
+        assertThat(result.unwrap().expectShape(ShapeId.from("smithy.example#A")).getTags(),
+                containsInAnyOrder("a2", "b"));
+
+        Files.write(b, ("$version: \"2.0\"\nnamespace smithy.example\n"
+                + "apply A @tags([\"b2\"])\n").getBytes(StandardCharsets.UTF_8));
+        result = assembler.reassemble(result, ListUtils.of(b), Collections.emptyList());
+
+        assertThat(result.unwrap(), equalTo(new ModelAssembler().addImport(a).addImport(b).assemble().unwrap()));
+        assertThat(result.unwrap().expectShape(ShapeId.from("smithy.example#A")).getTags(),
+                containsInAnyOrder("a2", "b2"));
+
+        Files.write(b, "$version: \"2.0\"\nnamespace smithy.example\n".getBytes(StandardCharsets.UTF_8));
+        result = assembler.reassemble(result, ListUtils.of(b), Collections.emptyList());
+
+        assertThat(result.unwrap().expectShape(ShapeId.from("smithy.example#A")).getTags(), contains("a2"));
+
+        // B only starts contributing to the tags of A again once it's parsed.
+        Files.write(b, ("$version: \"2.0\"\nnamespace smithy.example\n"
+                + "apply A @tags([\"b3\"])\n").getBytes(StandardCharsets.UTF_8));
+        result = assembler.reassemble(result, ListUtils.of(b), Collections.emptyList());
+
+        assertThat(result.unwrap(), equalTo(new ModelAssembler().addImport(a).addImport(b).assemble().unwrap()));
+        assertThat(result.unwrap().expectShape(ShapeId.from("smithy.example#A")).getTags(),
+                containsInAnyOrder("a2", "b3"));
+    }
+
+    @Test
+    public void reassemblesMetadataConflictsAcrossFiles() throws Exception {
+        Path a = outputDirectory.resolve("a.smithy");
+        Path b = outputDirectory.resolve("b.smithy");
+        Files.write(a, ("$version: \"2.0\"\nmetadata items = [\"a\"]\nmetadata foo = \"a\"\n"
+                + "namespace smithy.example\nstring A\n").getBytes(StandardCharsets.UTF_8));
+        Files.write(b, ("$version: \"2.0\"\nmetadata items = [\"b\"]\n"
+                + "namespace smithy.example\nstring B\n").getBytes(StandardCharsets.UTF_8));
+        ModelAssembler assembler = new ModelAssembler().addImport(a).addImport(b).enableReassembly();
+        ValidatedResult<Model> result = assembler.assemble();
+
+        // B now conflicts with A, so the conflict has to be reported just like a full assembly does.
+        Files.write(b, ("$version: \"2.0\"\nmetadata items = [\"b2\"]\nmetadata foo = \"b\"\n"
+                + "namespace smithy.example\nstring B\n").getBytes(StandardCharsets.UTF_8));
+        result = assembler.reassemble(result, ListUtils.of(b), Collections.emptyList());
+        ValidatedResult<Model> expected = new ModelAssembler().addImport(a).addImport(b).assemble();
+
+        assertThat(expected.getValidationEvents(Severity.ERROR), not(empty()));
+        assertThat(result.getValidationEvents(Severity.ERROR), equalTo(expected.getValidationEvents(Severity.ERROR)));
+        assertThat(result.getResult().get().getMetadata(), equalTo(expected.getResult().get().getMetadata()));
+
+        // Resolving the conflict reassembles from scratch since the previous model had errors.
+        Files.write(b, ("$version: \"2.0\"\nmetadata items = [\"b3\"]\n"
+                + "namespace smithy.example\nstring B\n").getBytes(StandardCharsets.UTF_8));
+        result = assembler.reassemble(result, ListUtils.of(b), Collections.emptyList());
+
+        assertThat(result.getValidationEvents(Severity.ERROR), empty());
+        assertThat(result.unwrap(), equalTo(new ModelAssembler().addImport(a).addImport(b).assemble().unwrap()));
+        assertThat(result.unwrap().getMetadataProperty("items").get().expectArrayNode().getElements(),
+                containsInAnyOrder(Node.from("a"), Node.from("b3")));
+    }
+
+    @Test
+    public void reassemblesFromScratchWhenResultIsNotFromAssembler() throws Exception {
+        Path a = outputDirectory.resolve("a.smithy");
+        Files.write(a, "$version: \"2.0\"\nnamespace smithy.example\nstring A\n".getBytes(StandardCharsets.UTF_8));
+        ValidatedResult<Model> other = new ModelAssembler().addImport(a).assemble();
+        ModelAssembler assembler = new ModelAssembler().addImport(a);
+
+        Files.write(a, "$version: \"2.0\"\nnamespace smithy.example\nstring B\n".getBytes(StandardCharsets.UTF_8));
+        Model result = assembler.reassemble(other, ListUtils.of(a), Collections.emptyList()).unwrap();
+
+        assertThat(result.getShape(ShapeId.from("smithy.example#A")).isPresent(), is(false));
+        assertThat(result.getShape(ShapeId.from("smithy.example#B")).isPresent(), is(true));
+    }
+
+    @Test
+    public void reassemblesFromScratchUnlessReassemblyIsEnabled() throws Exception {
+        Path a = outputDirectory.resolve("a.smithy");
+        Path b = outputDirectory.resolve("b.smithy");
+        Files.write(a, "$version: \"2.0\"\nnamespace smithy.example\nstring A\n".getBytes(StandardCharsets.UTF_8));
+        ModelAssembler assembler = new ModelAssembler()
+                .addImport(a)
+                .addUnparsedModel(b.toString(), "$version: \"2.0\"\nnamespace smithy.example\nstring B\n");
+        ValidatedResult<Model> first = assembler.assemble();
+
+        // B isn't reported as changed, so it's only loaded again if nothing was retained from the first assembly.
+        assembler.addUnparsedModel(b.toString(), "$version: \"2.0\"\nnamespace smithy.example\nstring B2\n");
+        ValidatedResult<Model> second = assembler.reassemble(first, ListUtils.of(a), Collections.emptyList());
+
+        assertThat(second.unwrap().getShape(ShapeId.from("smithy.example#B2")).isPresent(), is(true));
+
+        // Reassembly is now enabled, so B is reused from the previous model.
+        assembler.addUnparsedModel(b.toString(), "$version: \"2.0\"\nnamespace smithy.example\nstring B3\n");
+        Model third = assembler.reassemble(second, ListUtils.of(a), Collections.emptyList()).unwrap();
+
+        assertThat(third.getShape(ShapeId.from("smithy.example#B2")).isPresent(), is(true));
+        assertThat(third.getShape(ShapeId.from("smithy.example#B3")).isPresent(), is(false));
+    }
+
+    @Test
+    public void reassemblesWhenPreludeShadowingChanges() throws Exception {
+        Path a = outputDirectory.resolve("a.smithy");
+        Path b = outputDirectory.resolve("b.smithy");
+        Files.write(a, "$version: \"2.0\"\nnamespace smithy.example\nstring A\n".getBytes(StandardCharsets.UTF_8));
+        Files.write(b, ("$version: \"2.0\"\nnamespace smithy.example\n"
+                + "structure B { foo: String }\n").getBytes(StandardCharsets.UTF_8));
+        ModelAssembler assembler = new ModelAssembler().addImport(a).addImport(b).enableReassembly();
+        ValidatedResult<Model> first = assembler.assemble();
+
+        Files.write(a, "$version: \"2.0\"\nnamespace smithy.example\nstring String\n".getBytes(StandardCharsets.UTF_8));
+        Model result = assembler.reassemble(first, ListUtils.of(a), Collections.emptyList()).unwrap();
+
+        assertThat(result.expectShape(ShapeId.from("smithy.example#B$foo")).asMemberShape().get().getTarget(),
+                equalTo(ShapeId.from("smithy.example#String")));
+    }
+
+    @Test
+    public void reassemblesWithoutRunningUnaffectedValidators() throws Exception {
+        Path a = outputDirectory.resolve("a.smithy");
+        Path b = outputDirectory.resolve("b.smithy");
+        Files.write(a, ("$version: \"2.0\"\nnamespace smithy.example\n"
+                + "@sensitive\nstring A\n").getBytes(StandardCharsets.UTF_8));
+        Files.write(b, "$version: \"2.0\"\nnamespace smithy.example\nstring B\n".getBytes(StandardCharsets.UTF_8));
+        SensitiveValidator sensitiveValidator = new SensitiveValidator();
+        EveryShapeValidator everyShapeValidator = new EveryShapeValidator();
+        ModelAssembler assembler = new ModelAssembler()
+                .addImport(a)
+                .addImport(b)
+                .addValidator(sensitiveValidator)
+                .addValidator(everyShapeValidator)
+                .enableReassembly();
+        ValidatedResult<Model> result = assembler.assemble();
+        result = assembler.reassemble(result, ListUtils.of(b), Collections.emptyList());
+
+        assertThat(sensitiveValidator.runs.get(), equalTo(2));
+        assertThat(everyShapeValidator.runs.get(), equalTo(2));
+
+        // B doesn't have the sensitive trait before or after the change, so the sensitive validator is skipped.
+        Files.write(b, "$version: \"2.0\"\nnamespace smithy.example\nstring B2\n".getBytes(StandardCharsets.UTF_8));
+        result = assembler.reassemble(result, ListUtils.of(b), Collections.emptyList());
+
+        assertThat(sensitiveValidator.runs.get(), equalTo(2));
+        assertThat(everyShapeValidator.runs.get(), equalTo(3));
+        assertThat(result.getValidationEvents().stream()
+                .filter(event -> event.getId().equals("Sensitive"))
+                .map(event -> event.getShapeId().get())
+                .collect(Collectors.toList()), contains(ShapeId.from("smithy.example#A")));
+
+        Files.write(b, ("$version: \"2.0\"\nnamespace smithy.example\n"
+                + "@sensitive\nstring B2\n").getBytes(StandardCharsets.UTF_8));
+        result = assembler.reassemble(result, ListUtils.of(b), Collections.emptyList());
+
+        assertThat(sensitiveValidator.runs.get(), equalTo(3));
+        assertThat(result.getValidationEvents().stream()
+                .filter(event -> event.getId().equals("Sensitive"))
+                .map(event -> event.getShapeId().get())
+                .collect(Collectors.toList()), containsInAnyOrder(
+                        ShapeId.from("smithy.example#A"),
+                        ShapeId.from("smithy.example#B2")));
+    }
+
+    @Test
+    public void reassemblesAndRevalidatesMovedShapes() throws Exception {
+        Path a = outputDirectory.resolve("a.smithy");
+        Files.write(a, ("$version: \"2.0\"\nnamespace smithy.example\n"
+                + "@sensitive\nstring A\n").getBytes(StandardCharsets.UTF_8));
+        SensitiveValidator sensitiveValidator = new SensitiveValidator();
+        ModelAssembler assembler = new ModelAssembler().addImport(a).addValidator(sensitiveValidator);
+        ValidatedResult<Model> result = assembler.assemble();
+        result = assembler.reassemble(result, ListUtils.of(a), Collections.emptyList());
+
+        Files.write(a, ("$version: \"2.0\"\nnamespace smithy.example\n\n\n"
+                + "@sensitive\nstring A\n").getBytes(StandardCharsets.UTF_8));
+        result = assembler.reassemble(result, ListUtils.of(a), Collections.emptyList());
+
+        assertThat(sensitiveValidator.runs.get(), equalTo(3));
+        assertThat(result.getValidationEvents().stream()
+                .filter(event -> event.getId().equals("Sensitive"))
+                .map(event -> event.getSourceLocation().getLine())
+                .collect(Collectors.toList()), contains(6));
+    }
+
+    @Test
+    public void emitsValidatorProfiles() {
+        List<ValidatorProfile> profiles = Collections.synchronizedList(new ArrayList<>());
+        ValidatedResult<Model> result = new ModelAssembler()
+                .addUnparsedModel("profile.smithy", "$version: \"2.0\"\n"
+                        + "metadata validators = [{\n"
+                        + "    name: \"EmitEachSelector\"\n"
+                        + "    id: \"NoStrings\"\n"
+                        + "    configuration: {selector: \"string [id|namespace = smithy.example]\"}\n"
+                        + "}]\n"
+                        + "namespace smithy.example\n"
+                        + "string A\n")
+                .addValidator(new SensitiveValidator())
+                .validatorProfileListener(profiles::add)
+                .assemble();
+        Map<String, ValidatorProfile> byName = profiles.stream()
+                .collect(Collectors.toMap(ValidatorProfile::getName, profile -> profile));
+
+        assertThat(result.getValidationEvents(Severity.ERROR), empty());
+        assertThat(byName, hasKey("TraitValue"));
+        assertThat(byName, hasKey("Sensitive"));
+        assertThat(byName.get("NoStrings").getEventCount(), equalTo(1));
+        assertThat(byName.get("NoStrings").getSourceLocation().getFilename(), equalTo("profile.smithy"));
+        assertThat(byName.get("NoStrings").getWallTimeNanos() > 0, is(true));
+    }
+
+    @Test
+    public void runsValidatorsAndParsesFilesWithCustomExecutor() throws Exception {
+        AtomicInteger tasks = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            ModelAssembler assembler = new ModelAssembler()
+                    .addUnparsedModel("a.smithy", "$version: \"2.0\"\nnamespace smithy.example\n@sensitive\nstring A\n")
+                    .addUnparsedModel("b.smithy", "$version: \"2.0\"\nnamespace smithy.example\n@sensitive\nstring B\n")
+                    .addValidator(new SensitiveValidator())
+                    .putProperty(ModelAssembler.PARALLEL_LOADING, true);
+            ValidatedResult<Model> expected = assembler.copy().assemble();
+            ValidatedResult<Model> result = assembler
+                    .executor(runnable -> {
+                        tasks.incrementAndGet();
+                        pool.execute(runnable);
+                    })
+                    .assemble();
+
+            // Tasks are submitted for model files and validators beyond the ones the calling thread claims.
+            assertThat(tasks.get(), greaterThan(2));
+            assertThat(result.getResult(), equalTo(expected.getResult()));
+            assertThat(result.getValidationEvents(), equalTo(expected.getValidationEvents()));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void assemblesOnThreadOfItsOwnExecutor() throws Exception {
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            ModelAssembler assembler = new ModelAssembler()
+                    .addUnparsedModel("a.smithy", "$version: \"2.0\"\nnamespace smithy.example\nstring A\n")
+                    .addUnparsedModel("b.smithy", "$version: \"2.0\"\nnamespace smithy.example\nstring B\n")
+                    .putProperty(ModelAssembler.PARALLEL_LOADING, true)
+                    .executor(pool);
+            // The only thread of the pool is busy assembling, so nothing submitted to the pool can run.
+            Future<ValidatedResult<Model>> result = pool.submit(assembler::assemble);
+
+            assertThat(result.get(30, TimeUnit.SECONDS).unwrap().getShape(ShapeId.from("smithy.example#B")).isPresent(),
+                    is(true));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static final class SensitiveValidator implements Validator {
+        private final AtomicInteger runs = new AtomicInteger();
+
+        @Override
+        public List<ValidationEvent> validate(Model model) {
+            runs.incrementAndGet();
+            return model.getShapesWithTrait(SensitiveTrait.class)
+                    .stream()
+                    .map(shape -> ValidationEvent.builder()
+                            .id("Sensitive")
+                            .severity(Severity.NOTE)
+                            .shape(shape)
+                            .message("Sensitive")
+                            .build())
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static final class EveryShapeValidator implements Validator {
+        private final AtomicInteger runs = new AtomicInteger();
+
+        @Override
+        public List<ValidationEvent> validate(Model model) {
+            runs.incrementAndGet();
+            model.shapes().count();
+            return Collections.emptyList();
+        }
+    }
+
     private void assertImportPathsWereLoaded(Model model) {
         assertTrue(model.getShape(ShapeId.from("example.namespace#String"))
                 .flatMap(shape -> shape.getTrait(DocumentationTrait.class))
@@ -1172,6 +1565,52 @@ public class ModelAssemblerTest {
         assertThat(model1, equalTo(model4));
     }
 
+    @Test
+    public void loadsJsonModelsRegardlessOfMemberOrder() {
+        String shapes = "\"shapes\": {"
+                + "\"smithy.example#A\": {\"type\": \"string\", \"traits\": {\"smithy.api#sensitive\": {}}},"
+                + "\"smithy.example#B\": {\"type\": \"list\", \"member\": {\"target\": \"smithy.example#A\"}}}";
+        String[] documents = {
+            "{\"smithy\": \"2.0\", \"metadata\": {\"foo\": \"bar\"}, " + shapes + "}",
+            "{\"smithy\": \"2.0\", " + shapes + ", \"metadata\": {\"foo\": \"bar\"}}",
+            "{" + shapes + ", \"metadata\": {\"foo\": \"bar\"}, \"smithy\": \"2.0\"}"
+        };
+        Model expected = Model.assembler().addDocumentNode(Node.parse(documents[0])).assemble().unwrap();
+
+        for (String document : documents) {
+            Model model = Model.assembler().addUnparsedModel("test.json", document).assemble().unwrap();
+
+            assertThat(model, equalTo(expected));
+            assertThat(model.getMetadataProperty("foo"), equalTo(Optional.of(Node.from("bar"))));
+        }
+    }
+
+    @Test
+    public void keepsLastDuplicateJsonShape() {
+        String document = "{\"smithy\": \"2.0\", \"shapes\": {"
+                + "\"smithy.example#A\": {\"type\": \"string\", \"traits\": {\"smithy.api#invalid\": true}},"
+                + "\"smithy.example#B\": {\"type\": \"string\"},"
+                + "\"smithy.example#A\": {\"type\": \"integer\"}}}";
+        ValidatedResult<Model> result = Model.assembler().addUnparsedModel("test.json", document).assemble();
+        Model expected = Model.assembler()
+                .addDocumentNode(Node.parse(document, "test.json"))
+                .assemble()
+                .unwrap();
+
+        assertThat(result.getValidationEvents(Severity.ERROR), empty());
+        assertThat(result.unwrap().expectShape(ShapeId.from("smithy.example#A")).isIntegerShape(), is(true));
+        assertThat(result.unwrap(), equalTo(expected));
+    }
+
+    @Test
+    public void validatesTopLevelJsonMembersAfterShapes() {
+        String document = "{\"smithy\": \"2.0\", \"shapes\": {}, \"invalid\": true}";
+        ValidatedResult<Model> result = Model.assembler().addUnparsedModel("test.json", document).assemble();
+
+        assertThat(result.getValidationEvents(Severity.WARNING).stream()
+                .anyMatch(e -> e.getMessage().contains("invalid")), is(true));
+    }
+
     private void assertionChecksFor_upgradesAndDowngrades(Model model) {
         ShapeId boxDouble = ShapeId.from("smithy.example#BoxDouble");
         ShapeId primitiveDouble = ShapeId.from("smithy.example#PrimitiveDouble");
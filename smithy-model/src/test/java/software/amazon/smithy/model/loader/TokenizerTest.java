@@ -5,6 +5,7 @@
 package software.amazon.smithy.model.loader;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
@@ -313,4 +314,52 @@ public class TokenizerTest {
         assertThat(tokenizer.getCurrentTokenLexeme().toString(), equalTo("\"\""));
         assertThat(tokenizer.getCurrentTokenSpan(), is(2));
     }
+
+    @Test
+    public void tracksColumnsAcrossScannedRuns() {
+        IdlTokenizer tokenizer = IdlTokenizer.create("foo_1 \t \"bar\" // baz\n__qux");
+
+        assertThat(tokenizer.next(), is(IdlToken.IDENTIFIER));
+        assertThat(tokenizer.getCurrentTokenLexeme().toString(), equalTo("foo_1"));
+
+        assertThat(tokenizer.next(), is(IdlToken.SPACE));
+        assertThat(tokenizer.getCurrentTokenColumn(), is(6));
+        assertThat(tokenizer.getCurrentTokenSpan(), is(3));
+
+        assertThat(tokenizer.next(), is(IdlToken.STRING));
+        assertThat(tokenizer.getCurrentTokenColumn(), is(9));
+        assertThat(tokenizer.getCurrentTokenStringSlice().toString(), equalTo("bar"));
+
+        assertThat(tokenizer.next(), is(IdlToken.SPACE));
+        assertThat(tokenizer.next(), is(IdlToken.COMMENT));
+        assertThat(tokenizer.getCurrentTokenColumn(), is(15));
+        assertThat(tokenizer.getCurrentTokenLexeme().toString(), equalTo("// baz\n"));
+
+        assertThat(tokenizer.next(), is(IdlToken.IDENTIFIER));
+        assertThat(tokenizer.getCurrentTokenLine(), is(2));
+        assertThat(tokenizer.getCurrentTokenColumn(), is(1));
+        assertThat(tokenizer.getCurrentTokenLexeme().toString(), equalTo("__qux"));
+
+        assertThat(tokenizer.next(), is(IdlToken.EOF));
+        assertThat(tokenizer.getCurrentTokenColumn(), is(6));
+    }
+
+    @Test
+    public void unescapesStringsWithEscapes() {
+        IdlTokenizer tokenizer = IdlTokenizer.create("\"a\\tb\"");
+
+        tokenizer.next();
+
+        assertThat(tokenizer.getCurrentToken(), is(IdlToken.STRING));
+        assertThat(tokenizer.getCurrentTokenStringSlice().toString(), equalTo("a\tb"));
+        assertThat(tokenizer.getCurrentTokenSpan(), is(6));
+    }
+
+    @Test
+    public void failsOnInvalidLeadingUnderscores() {
+        IdlTokenizer tokenizer = IdlTokenizer.create("__ ");
+
+        assertThat(tokenizer.next(), is(IdlToken.ERROR));
+        assertThat(tokenizer.getCurrentTokenError(), containsString("Expected a valid identifier character"));
+    }
 }
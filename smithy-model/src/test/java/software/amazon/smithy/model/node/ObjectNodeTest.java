@@ -20,6 +20,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -490,6 +491,40 @@ public class ObjectNodeTest {
         assertThat(result.get("mapper"), Matchers.instanceOf(Mapper.class));
     }
 
+    @Test
+    public void looksUpMembersOfSmallAndLargeObjects() {
+        for (int size : new int[] {1, 8, 9, 100}) {
+            Map<StringNode, Node> members = new LinkedHashMap<>();
+            for (int i = size - 1; i >= 0; i--) {
+                members.put(Node.from("member" + i), Node.from(i));
+            }
+            ObjectNode node = new ObjectNode(members, SourceLocation.none());
+
+            assertThat(node.getMembers(), equalTo(members));
+            assertThat(members, equalTo(node.getMembers()));
+            assertThat(node.getMembers().hashCode(), equalTo(members.hashCode()));
+            assertThat(node.getStringMap().keySet(), contains(members.keySet().stream()
+                    .map(StringNode::getValue)
+                    .toArray()));
+            for (int i = 0; i < size; i++) {
+                assertTrue(node.containsMember("member" + i));
+                assertThat(node.expectNumberMember("member" + i).getValue(), equalTo(i));
+                assertThat(node.getMembers().get(Node.from("member" + i)), equalTo(Node.from(i)));
+            }
+            assertFalse(node.containsMember("member" + size));
+            assertFalse(node.getMembers().containsKey("member0"));
+            assertThat(node.getStringMap().get(Node.from("member0")), nullValue());
+        }
+    }
+
+    @Test
+    public void membersCannotBeModified() {
+        ObjectNode node = Node.objectNode().withMember("a", "b");
+
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> node.getMembers().clear());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> node.getStringMap().remove("a"));
+    }
+
     private static final class Mapper {
         String a;
 
@@ -0,0 +1,100 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.node.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.SourceLocation;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+
+public class BinaryNodeCodecTest {
+    private static final String JSON = "{\n"
+            + "  \"string\": \"hello\",\n"
+            + "  \"unicode\": \"\\u00e9\\ud83d\\ude00\",\n"
+            + "  \"long\": 10,\n"
+            + "  \"negative\": -10,\n"
+            + "  \"double\": 1.5,\n"
+            + "  \"bigInteger\": 123456789012345678901234567890,\n"
+            + "  \"bigDecimal\": 1.00000000000000000000000000001,\n"
+            + "  \"true\": true,\n"
+            + "  \"false\": false,\n"
+            + "  \"null\": null,\n"
+            + "  \"array\": [1, \"hello\", {\"string\": \"hello\"}]\n"
+            + "}";
+
+    @Test
+    public void roundTripsNodesAndSourceLocations() {
+        Node node = Node.parse(JSON, "test.json");
+        Node result = roundTrip(node, null);
+
+        assertThat(result, equalTo(node));
+        assertLocationsEqual(result, node);
+    }
+
+    @Test
+    public void preservesNumberTypes() {
+        ObjectNode node = Node.parse(JSON, "test.json").expectObjectNode();
+        ObjectNode result = roundTrip(node, null).expectObjectNode();
+
+        assertThat(result.expectNumberMember("long").getValue(), instanceOf(Long.class));
+        assertThat(result.expectNumberMember("double").getValue(), instanceOf(Double.class));
+        assertThat(result.expectNumberMember("bigInteger").getValue(), instanceOf(BigInteger.class));
+        assertThat(result.expectNumberMember("bigDecimal").getValue(),
+                equalTo(node.expectNumberMember("bigDecimal").getValue()));
+        assertThat(roundTrip(Node.from(new BigDecimal("1.10")), null), equalTo(Node.from(new BigDecimal("1.10"))));
+        assertThat(roundTrip(Node.from(1.5f), null), equalTo(Node.from(1.5f)));
+        assertThat(roundTrip(Node.from(Double.NaN), null), equalTo(Node.from(Double.NaN)));
+    }
+
+    @Test
+    public void relocatesSourceLocations() {
+        Node node = Node.parse(JSON, "a.json");
+        Node result = roundTrip(node, "b.json");
+
+        assertThat(result.getSourceLocation(), equalTo(new SourceLocation("b.json", 1, 1)));
+        assertThat(result.expectObjectNode().expectStringMember("string").getSourceLocation(),
+                equalTo(new SourceLocation("b.json", 2, 13)));
+    }
+
+    @Test
+    public void preservesMissingSourceLocations() {
+        Node node = Node.objectNode().withMember("foo", "bar");
+        Node result = roundTrip(node, "b.json");
+
+        assertThat(result.getSourceLocation(), equalTo(SourceLocation.NONE));
+    }
+
+    @Test
+    public void rejectsInvalidData() {
+        assertThrows(IllegalArgumentException.class, () -> new BinaryNodeReader(new byte[] {1, 2, 3, 4, 5}));
+    }
+
+    private static Node roundTrip(Node node, String filename) {
+        BinaryNodeWriter writer = new BinaryNodeWriter();
+        writer.writeNode(node);
+        return new BinaryNodeReader(writer.toByteArray(), filename).readNode();
+    }
+
+    private static void assertLocationsEqual(Node actual, Node expected) {
+        assertThat(actual.getSourceLocation(), equalTo(expected.getSourceLocation()));
+        if (expected.isObjectNode()) {
+            expected.expectObjectNode().getMembers().forEach((key, value) -> {
+                assertThat(actual.expectObjectNode().getMember(key.getValue()).isPresent(), equalTo(true));
+                assertLocationsEqual(actual.expectObjectNode().expectMember(key.getValue()), value);
+            });
+        } else if (expected.isArrayNode()) {
+            for (int i = 0; i < expected.expectArrayNode().size(); i++) {
+                assertLocationsEqual(actual.expectArrayNode().get(i).get(), expected.expectArrayNode().get(i).get());
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.node.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.SourceLocation;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+
+public class StreamingNodeHandlerTest {
+
+    private static final String JSON = "{\n"
+            + "  \"a\": 1,\n"
+            + "  \"stream\": {\n"
+            + "    \"x\": {\"stream\": {\"nested\": true}},\n"
+            + "    \"y\": [{\"z\": null}]\n"
+            + "  },\n"
+            + "  \"b\": {\"stream\": {}}\n"
+            + "}";
+
+    @Test
+    public void streamsMembersOfTopLevelObject() throws IOException {
+        List<String> keys = new ArrayList<>();
+        List<Node> values = new ArrayList<>();
+        List<ObjectNode> preceding = new ArrayList<>();
+        Node result = StreamingNodeHandler.parse("test.json", new StringReader(JSON), CharSequence::toString, "stream",
+                (before, key, value) -> {
+                    preceding.add(before);
+                    keys.add(key.getValue());
+                    values.add(value);
+                    assertThat(key.getSourceLocation(), equalTo(new SourceLocation("test.json", keys.size() + 3, 5)));
+                });
+        Node expected = Node.parse(JSON);
+
+        assertThat(keys, contains("x", "y"));
+        assertThat(values, contains(expected.expectObjectNode().expectObjectMember("stream").getMembers().values()
+                .toArray()));
+        assertThat(preceding, contains(Node.objectNode().withMember("a", 1), Node.objectNode().withMember("a", 1)));
+        assertThat(result, equalTo(expected.expectObjectNode().withMember("stream", Node.objectNode())));
+        assertThat(result.expectObjectNode().expectObjectMember("stream").getSourceLocation(),
+                equalTo(new SourceLocation("test.json", 3, 13)));
+    }
+
+    @Test
+    public void doesNotStreamNonObjectMembers() throws IOException {
+        String json = "{\"stream\": [{\"a\": 1}], \"b\": 2}";
+        Node result = StreamingNodeHandler.parse("test.json", new StringReader(json), CharSequence::toString, "stream",
+                (before, key, value) -> {
+                    throw new AssertionError("Unexpected member " + key);
+                });
+
+        assertThat(result, equalTo(Node.parse(json)));
+    }
+
+    @Test
+    public void internsObjectKeys() throws IOException {
+        Map<String, String> table = new HashMap<>();
+        Function<CharSequence, String> intern = chars -> table.computeIfAbsent(chars.toString(), k -> k);
+        List<Node> values = new ArrayList<>();
+        StreamingNodeHandler.parse("test.json",
+                new StringReader("{\"s\": {\"a\": {\"key\": 1}, \"b\": {\"key\": 2}}}"),
+                intern,
+                "s",
+                (before, key, value) -> values.add(value));
+
+        String first = values.get(0).expectObjectNode().getMembers().keySet().iterator().next().getValue();
+        String second = values.get(1).expectObjectNode().getMembers().keySet().iterator().next().getValue();
+
+        assertThat(first, sameInstance(second));
+    }
+}
@@ -117,6 +117,96 @@ public class SelectorTest {
         assertThat(result1, equalTo(result2));
     }
 
+    @Test
+    public void explainsSelectorPlans() {
+        Selector selector = Selector.parse(":test(> member) [trait|tags] > member string");
+        String explanation = selector.explain(traitModel);
+        int tagged = traitModel.getShapesWithTrait(ShapeId.from("smithy.api#tags")).size();
+
+        assertThat(explanation,
+                equalTo("Selector: :test(> member) [trait|tags] > member string" + System.lineSeparator()
+                        + "Start with the smallest of:" + System.lineSeparator()
+                        + "  [trait|tags] (" + tagged + " shapes) <- chosen" + System.lineSeparator()
+                        + "Evaluate:" + System.lineSeparator()
+                        + "  1. [trait|tags]" + System.lineSeparator()
+                        + "  2. :test(> member)" + System.lineSeparator()
+                        + "  3. >" + System.lineSeparator()
+                        + "  4. member" + System.lineSeparator()
+                        + "  5. string" + System.lineSeparator()));
+    }
+
+    @Test
+    public void startsWithSmallestCandidateSet() {
+        String explanation = Selector.parse("string [trait|tags]").explain(traitModel);
+        int strings = traitModel.getStringShapes().size();
+        int tagged = traitModel.getShapesWithTrait(ShapeId.from("smithy.api#tags")).size();
+
+        assertThat(explanation, containsString("  string (" + strings + " shapes)"));
+        assertThat(explanation, containsString("  [trait|tags] (" + tagged + " shapes) <- chosen"));
+        assertThat(exampleIds(traitModel, "string [trait|tags]"), contains("smithy.example#EnumString"));
+    }
+
+    @Test
+    public void startsWithShapesWithTraitWhenComparingTraitValues() {
+        assertThat(Selector.parse("[trait|documentation = Hi]").explain(traitModel), containsString("<- chosen"));
+        assertThat(Selector.parse("[trait|tags ?= false]").explain(traitModel), containsString("every shape"));
+        assertThat(exampleIds(traitModel, "[trait|documentation = Hi]"), not(empty()));
+        assertThat(exampleIds(traitModel, "[trait|documentation = Hi]"),
+                equalTo(exampleIds(traitModel, ":test([trait|documentation = Hi])")));
+        assertThat(exampleIds(traitModel, "[@trait|tags: @{(values)} = foo]"), not(empty()));
+        assertThat(exampleIds(traitModel, "[@trait|tags: @{(values)} = foo]"),
+                equalTo(exampleIds(traitModel, ":test([@trait|tags: @{(values)} = foo])")));
+    }
+
+    @Test
+    public void cachesResultsByNormalizedExpression() {
+        Model model = traitModel.toBuilder().build();
+        Set<Shape> result = Selector.parse("[trait|tags]   string").select(model);
+        result.clear();
+
+        assertThat(SelectorCache.of(model).getCachedShapes("string [trait|tags]"), not(empty()));
+        assertThat(Selector.parse("string [trait|tags]").select(model),
+                equalTo(SelectorCache.of(model).getCachedShapes("string [trait|tags]")));
+        assertThat(SelectorCache.of(traitModel).getCachedShapes("string [trait|tags]"), equalTo(null));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedResults() {
+        Model model = traitModel.toBuilder().build();
+        Selector.parse("string").select(model);
+        for (int i = 0; i < SelectorCache.MAX_ENTRIES; i++) {
+            Selector.parse("[id|name = N" + i + "]").select(model);
+            // Keep the first result in use so that it isn't evicted.
+            Selector.parse("string").select(model);
+        }
+
+        assertThat(SelectorCache.of(model).getCachedShapes("string"), not(equalTo(null)));
+        assertThat(SelectorCache.of(model).getCachedShapes("[id|name = N0]"), equalTo(null));
+        assertThat(SelectorCache.of(model).getCachedShapes("[id|name = N" + (SelectorCache.MAX_ENTRIES - 1) + "]"),
+                not(equalTo(null)));
+    }
+
+    @Test
+    public void streamsMatchesWithoutCachingThemAndSharesRoots() {
+        Model model = traitModel.toBuilder().build();
+        String expression = "structure $strings(:root(string)) > member :test(> ${strings})";
+        List<Selector.ShapeMatch> first = new ArrayList<>();
+        Selector.parse(expression).consumeMatches(model, first::add);
+        first.forEach(Map::clear);
+        List<Selector.ShapeMatch> second = Selector.parse(expression).matches(model).collect(Collectors.toList());
+
+        assertThat(SelectorCache.of(model).getCachedShapes(expression), equalTo(null));
+        assertThat(second, hasSize(first.size()));
+        assertThat(second, not(empty()));
+        for (Selector.ShapeMatch match : second) {
+            assertThat(match.get("strings"), equalTo(model.toSet(StringShape.class)));
+        }
+        assertThat(Selector.parse("structure > member :test(> :root(string))").select(model),
+                equalTo(ids(model, expression).stream()
+                        .map(id -> model.expectShape(ShapeId.from(id)))
+                        .collect(Collectors.toSet())));
+    }
+
     static Set<String> ids(Model model, String expression) {
         return Selector.parse(expression)
                 .select(model)
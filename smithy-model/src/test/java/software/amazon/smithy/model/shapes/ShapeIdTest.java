@@ -6,14 +6,17 @@ package software.amazon.smithy.model.shapes;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -54,6 +57,20 @@ public class ShapeIdTest {
         assertEquals("member", id.getMember().get());
     }
 
+    @Test
+    public void internsIdsAcrossThreads() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            ids.add("smithy.example.interning#Shape" + (i % 1000) + "$member");
+        }
+        List<ShapeId> parsed = ids.parallelStream().map(ShapeId::from).collect(Collectors.toList());
+
+        for (int i = 0; i < parsed.size(); i++) {
+            assertThat(parsed.get(i).toString(), equalTo(ids.get(i)));
+            assertThat(parsed.get(i), sameInstance(parsed.get(i % 1000)));
+        }
+    }
+
     @Test
     public void fromAbsoluteWithoutName() {
         Assertions.assertThrows(IllegalArgumentException.class, () -> ShapeId.from("name.space#"));
@@ -4,6 +4,7 @@
  */
 plugins {
     id("smithy.module-conventions")
+    id("smithy.profiling-conventions")
 }
 
 description = "Smithy rules engine Language and traits"
@@ -17,4 +18,26 @@ dependencies {
     api(project(":smithy-utils"))
     api(project(":smithy-jmespath"))
     api(project(":smithy-model-jmespath"))
+    jmh(project(":smithy-utils"))
+}
+
+tasks {
+    // The BDD cache keys entries on this version so that upgrading Smithy never reuses stale BDDs.
+    register("generateVersionFile") {
+        val versionFile =
+            sourceSets.main.map { sourceSet ->
+                sourceSet.output.resourcesDir?.resolve("software/amazon/smithy/rulesengine/transforms/compiler-version")
+                    ?: throw GradleException("Resources directory not found for main sourceSet")
+            }
+
+        outputs.file(versionFile)
+
+        doLast {
+            versionFile.get().writeText(project.version.toString())
+        }
+    }
+
+    processResources {
+        dependsOn("generateVersionFile")
+    }
 }
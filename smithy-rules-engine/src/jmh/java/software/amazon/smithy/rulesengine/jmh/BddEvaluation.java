@@ -0,0 +1,122 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.rulesengine.jmh;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.StringNode;
+import software.amazon.smithy.model.shapes.ServiceShape;
+import software.amazon.smithy.rulesengine.language.evaluation.CompiledBddEvaluator;
+import software.amazon.smithy.rulesengine.language.evaluation.RuleEvaluator;
+import software.amazon.smithy.rulesengine.language.evaluation.value.Value;
+import software.amazon.smithy.rulesengine.language.syntax.Identifier;
+import software.amazon.smithy.rulesengine.logic.cfg.Cfg;
+import software.amazon.smithy.rulesengine.traits.EndpointBddTrait;
+import software.amazon.smithy.rulesengine.traits.EndpointRuleSetTrait;
+import software.amazon.smithy.rulesengine.traits.EndpointTestCase;
+import software.amazon.smithy.rulesengine.traits.EndpointTestsTrait;
+
+/**
+ * Compares interpreting an endpoint BDD with {@link RuleEvaluator} to
+ * evaluating it with a {@link CompiledBddEvaluator}.
+ *
+ * <p>Each invocation resolves the parameters of every endpoint test case.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class BddEvaluation {
+
+    @State(Scope.Thread)
+    public static class BddState {
+        public EndpointBddTrait trait;
+        public CompiledBddEvaluator compiled;
+        public List<Map<Identifier, Value>> namedParameters;
+        public List<Value[]> positionalParameters;
+        public CompiledBddEvaluator.Context context;
+
+        @Setup
+        public void prepare() {
+            Model model = Model.assembler()
+                    .discoverModels(BddEvaluation.class.getClassLoader())
+                    .addImport(BddEvaluation.class.getResource("endpoint-rules.smithy"))
+                    .assemble()
+                    .unwrap();
+            ServiceShape service = model.getServiceShapesWithTrait(EndpointRuleSetTrait.class).iterator().next();
+            trait = EndpointBddTrait.from(Cfg.from(service.expectTrait(EndpointRuleSetTrait.class)
+                    .getEndpointRuleSet()));
+            compiled = CompiledBddEvaluator.compile(trait);
+            context = compiled.createContext();
+
+            namedParameters = new ArrayList<>();
+            positionalParameters = new ArrayList<>();
+            for (EndpointTestCase testCase : service.expectTrait(EndpointTestsTrait.class).getTestCases()) {
+                Map<Identifier, Value> named = new LinkedHashMap<>();
+                Value[] positional = new Value[trait.getParameters().toList().size()];
+                for (Map.Entry<StringNode, Node> entry : testCase.getParams().getMembers().entrySet()) {
+                    Identifier name = Identifier.of(entry.getKey());
+                    Value value = Value.fromNode(entry.getValue());
+                    named.put(name, value);
+                    positional[compiled.getParameterIndex(name)] = value;
+                }
+                namedParameters.add(named);
+                positionalParameters.add(positional);
+            }
+        }
+    }
+
+    @Benchmark
+    public void ruleEvaluator(BddState state, Blackhole blackhole) {
+        for (Map<Identifier, Value> parameters : state.namedParameters) {
+            blackhole.consume(RuleEvaluator.evaluate(state.trait, parameters));
+        }
+    }
+
+    @Benchmark
+    public void compiledNamedParameters(BddState state, Blackhole blackhole) {
+        for (Map<Identifier, Value> parameters : state.namedParameters) {
+            blackhole.consume(state.compiled.evaluate(parameters));
+        }
+    }
+
+    @Benchmark
+    public void compiledPositionalParameters(BddState state, Blackhole blackhole) {
+        for (Value[] parameters : state.positionalParameters) {
+            blackhole.consume(state.compiled.evaluate(parameters));
+        }
+    }
+
+    @Benchmark
+    public void compiledReusedContext(BddState state, Blackhole blackhole) {
+        CompiledBddEvaluator.Context context = state.context;
+        for (Value[] parameters : state.positionalParameters) {
+            context.reset();
+            for (int i = 0; i < parameters.length; i++) {
+                if (parameters[i] != null) {
+                    context.setParameter(i, parameters[i]);
+                }
+            }
+            blackhole.consume(state.compiled.evaluate(context));
+        }
+    }
+}
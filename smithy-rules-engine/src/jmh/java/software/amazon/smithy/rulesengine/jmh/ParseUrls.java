@@ -0,0 +1,62 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.rulesengine.jmh;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.smithy.rulesengine.language.evaluation.value.Value;
+import software.amazon.smithy.rulesengine.language.syntax.expressions.functions.ParseUrl;
+
+/**
+ * Measures the {@code parseURL} function, compared to creating a {@link URL}.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class ParseUrls {
+
+    @State(Scope.Thread)
+    public static class UrlState {
+        @Param({
+                "https://s3.us-west-2.amazonaws.com",
+                "https://example.com:8443/custom/path",
+                "https://example.com/path?query=value"
+        })
+        public String url;
+
+        public List<Value> arguments;
+
+        @Setup
+        public void prepare() {
+            arguments = Collections.singletonList(Value.stringValue(url));
+        }
+    }
+
+    @Benchmark
+    public Value parseUrl(UrlState state) {
+        return ParseUrl.getDefinition().evaluate(state.arguments);
+    }
+
+    @Benchmark
+    public URL javaNetUrl(UrlState state) throws MalformedURLException {
+        return new URL(state.url);
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.rulesengine.language.evaluation;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import software.amazon.smithy.rulesengine.language.evaluation.value.Value;
+import software.amazon.smithy.rulesengine.language.syntax.Identifier;
+import software.amazon.smithy.rulesengine.language.syntax.parameters.Parameter;
+import software.amazon.smithy.rulesengine.traits.EndpointBddTrait;
+import software.amazon.smithy.utils.SmithyBuilder;
+import software.amazon.smithy.utils.SmithyUnstableApi;
+
+/**
+ * Evaluates an endpoint BDD with {@link RuleEvaluator} and caches the result of each distinct set of parameters.
+ *
+ * <p>Clients often resolve endpoints for a small number of distinct parameter combinations, like the same region
+ * and flags, many times. Arguments are converted into a key that holds the value of each parameter in the order
+ * the parameters are defined, and the least recently used results are evicted once the cache exceeds its
+ * maximum size.
+ *
+ * <p>The BDD is always evaluated with the given arguments, so results match {@link RuleEvaluator#evaluate}. An
+ * {@link Value#isEmpty() empty} argument for a parameter without a default shares cached results with evaluations
+ * that omit it, since both leave the parameter unset. An empty argument for a parameter with a default overrides the
+ * default, so it's cached separately from evaluations that omit it.
+ *
+ * <p>Parameters with many distinct values, like the name of an S3 bucket, would fill the cache with results that
+ * are rarely reused. Evaluations that set a non-empty value for an {@link Builder#uncachedParameter uncached}
+ * parameter, that set an argument the BDD doesn't define, or that set a null argument bypass the cache.
+ *
+ * <p>This class is thread safe. BDDs are evaluated without holding a lock, so concurrent evaluations of the same
+ * parameters may each evaluate the BDD, but only one result is kept.
+ */
+@SmithyUnstableApi
+public final class CachingBddEvaluator {
+
+    private static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+    private final EndpointBddTrait trait;
+    private final Map<Identifier, Integer> parameterIndexes = new HashMap<>();
+    private final boolean[] uncached;
+    private final boolean[] hasDefault;
+    private final Map<Key, Value> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder bypasses = new LongAdder();
+
+    private CachingBddEvaluator(Builder builder) {
+        trait = SmithyBuilder.requiredState("trait", builder.trait);
+        if (builder.maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum cache size must be greater than 0: " + builder.maximumSize);
+        }
+
+        List<Parameter> parameters = trait.getParameters().toList();
+        hasDefault = new boolean[parameters.size()];
+        for (int i = 0; i < parameters.size(); i++) {
+            parameterIndexes.put(parameters.get(i).getName(), i);
+            hasDefault[i] = parameters.get(i).getDefault().isPresent();
+        }
+
+        uncached = new boolean[parameters.size()];
+        for (Identifier parameter : builder.uncachedParameters) {
+            Integer index = parameterIndexes.get(parameter);
+            if (index == null) {
+                throw new IllegalArgumentException("Unknown uncached parameter: " + parameter);
+            }
+            uncached[index] = true;
+        }
+
+        int maximumSize = builder.maximumSize;
+        cache = new LinkedHashMap<Key, Value>(16, .75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Value> eldest) {
+                if (size() > maximumSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @return Returns a builder used to create a caching evaluator.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Evaluates the BDD, returning a cached result if the same parameters were previously evaluated.
+     *
+     * @param parameterArguments The parameter identifiers and values to evaluate the BDD against.
+     * @return The resulting value from the matched result.
+     */
+    public Value evaluate(Map<Identifier, Value> parameterArguments) {
+        Key key = createKey(parameterArguments);
+        if (key == null) {
+            bypasses.increment();
+            return RuleEvaluator.evaluate(trait, parameterArguments);
+        }
+
+        Value result;
+        synchronized (cache) {
+            result = cache.get(key);
+        }
+
+        if (result != null) {
+            hits.increment();
+            return result;
+        }
+
+        misses.increment();
+        result = RuleEvaluator.evaluate(trait, parameterArguments);
+        synchronized (cache) {
+            Value previous = cache.putIfAbsent(key, result);
+            return previous == null ? result : previous;
+        }
+    }
+
+    // Returns null if the arguments can't be cached. Empty arguments are only left out of the key when the
+    // parameter has no default, since an empty argument otherwise overrides the default.
+    private Key createKey(Map<Identifier, Value> parameterArguments) {
+        Value[] values = new Value[uncached.length];
+        for (Map.Entry<Identifier, Value> entry : parameterArguments.entrySet()) {
+            Integer index = parameterIndexes.get(entry.getKey());
+            Value value = entry.getValue();
+            if (index == null || value == null) {
+                return null;
+            } else if (!value.isEmpty()) {
+                if (uncached[index]) {
+                    return null;
+                }
+                values[index] = value;
+            } else if (hasDefault[index]) {
+                values[index] = value;
+            }
+        }
+        return new Key(values);
+    }
+
+    /**
+     * @return Returns the number of evaluations that returned a cached result.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return Returns the number of evaluations that had to evaluate the BDD and cache the result.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return Returns the number of results evicted from the cache.
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return Returns the number of evaluations that bypassed the cache.
+     */
+    public long getBypassCount() {
+        return bypasses.sum();
+    }
+
+    /**
+     * @return Returns the number of cached results.
+     */
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Removes every cached result.
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    private static final class Key {
+        private final Value[] values;
+        private final int hash;
+
+        Key(Value[] values) {
+            this.values = values;
+            this.hash = Arrays.hashCode(values);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && hash == ((Key) o).hash && Arrays.equals(values, ((Key) o).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Builds a {@link CachingBddEvaluator}.
+     */
+    public static final class Builder implements SmithyBuilder<CachingBddEvaluator> {
+        private EndpointBddTrait trait;
+        private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+        private final Set<Identifier> uncachedParameters = new HashSet<>();
+
+        private Builder() {}
+
+        /**
+         * Sets the BDD to evaluate.
+         *
+         * @param trait BDD trait to evaluate.
+         * @return Returns the builder.
+         */
+        public Builder trait(EndpointBddTrait trait) {
+            this.trait = trait;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of results to cache, which defaults to 256.
+         *
+         * @param maximumSize Maximum number of cached results.
+         * @return Returns the builder.
+         */
+        public Builder maximumSize(int maximumSize) {
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Adds a parameter with too many distinct values to cache, like an S3 bucket name.
+         *
+         * <p>Evaluations that set a non-empty value for the parameter always evaluate the BDD.
+         *
+         * @param parameter Name of the parameter.
+         * @return Returns the builder.
+         */
+        public Builder uncachedParameter(Identifier parameter) {
+            uncachedParameters.add(parameter);
+            return this;
+        }
+
+        @Override
+        public CachingBddEvaluator build() {
+            return new CachingBddEvaluator(this);
+        }
+    }
+}
@@ -0,0 +1,632 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.rulesengine.language.evaluation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import software.amazon.smithy.rulesengine.language.Endpoint;
+import software.amazon.smithy.rulesengine.language.evaluation.value.EndpointValue;
+import software.amazon.smithy.rulesengine.language.evaluation.value.Value;
+import software.amazon.smithy.rulesengine.language.syntax.Identifier;
+import software.amazon.smithy.rulesengine.language.syntax.expressions.Expression;
+import software.amazon.smithy.rulesengine.language.syntax.expressions.ExpressionVisitor;
+import software.amazon.smithy.rulesengine.language.syntax.expressions.Reference;
+import software.amazon.smithy.rulesengine.language.syntax.expressions.Template;
+import software.amazon.smithy.rulesengine.language.syntax.expressions.TemplateVisitor;
+import software.amazon.smithy.rulesengine.language.syntax.expressions.functions.FunctionDefinition;
+import software.amazon.smithy.rulesengine.language.syntax.expressions.functions.GetAttr;
+import software.amazon.smithy.rulesengine.language.syntax.expressions.literal.Literal;
+import software.amazon.smithy.rulesengine.language.syntax.expressions.literal.LiteralVisitor;
+import software.amazon.smithy.rulesengine.language.syntax.parameters.Parameter;
+import software.amazon.smithy.rulesengine.language.syntax.rule.Condition;
+import software.amazon.smithy.rulesengine.language.syntax.rule.EndpointRule;
+import software.amazon.smithy.rulesengine.language.syntax.rule.ErrorRule;
+import software.amazon.smithy.rulesengine.language.syntax.rule.Rule;
+import software.amazon.smithy.rulesengine.logic.ConditionEvaluator;
+import software.amazon.smithy.rulesengine.logic.bdd.Bdd;
+import software.amazon.smithy.rulesengine.traits.EndpointBddTrait;
+import software.amazon.smithy.utils.SmithyUnstableApi;
+
+/**
+ * Evaluates an endpoint BDD using conditions and results that are compiled ahead of time.
+ *
+ * <p>{@link RuleEvaluator} interprets the expression tree of each condition on every evaluation, looking up
+ * references by name in a {@link Scope}. This evaluator instead compiles each condition and result once into a
+ * tree of closures. Parameters and the variables assigned by conditions are each given a slot in an array of
+ * values, and references are resolved to their slot when compiled. Literals that don't reference any values are
+ * evaluated when compiled.
+ *
+ * <p>A compiled evaluator is immutable and can be used by multiple threads at the same time. It produces the
+ * same results as {@link RuleEvaluator#evaluate(EndpointBddTrait, Map)}. Callers that resolve many endpoints can
+ * reuse a {@link Context} for each thread to avoid allocating the slots of every evaluation.
+ */
+@SmithyUnstableApi
+public final class CompiledBddEvaluator {
+
+    private final Bdd bdd;
+    private final Map<Identifier, Integer> parameterIndexes;
+    private final Value[] defaults;
+    private final int slotCount;
+    private final CompiledExpression[] conditions;
+    private final int[] conditionSlots;
+    private final CompiledExpression[] results;
+
+    // The slots read by each condition, followed by the slots read by each result.
+    private final int[][] inputSlots;
+
+    private CompiledBddEvaluator(EndpointBddTrait trait) {
+        bdd = trait.getBdd();
+        Map<Identifier, Integer> slots = new HashMap<>();
+        List<Value> defaultValues = new ArrayList<>();
+        for (Parameter parameter : trait.getParameters()) {
+            slots.put(parameter.getName(), slots.size());
+            defaultValues.add(parameter.getDefault().orElse(null));
+        }
+        parameterIndexes = Collections.unmodifiableMap(new HashMap<>(slots));
+        defaults = defaultValues.toArray(new Value[0]);
+
+        // Variables assigned by conditions get the slots after the parameters.
+        List<Condition> conditionList = trait.getConditions();
+        conditionSlots = new int[conditionList.size()];
+        for (int i = 0; i < conditionList.size(); i++) {
+            Identifier result = conditionList.get(i).getResult().orElse(null);
+            if (result == null) {
+                conditionSlots[i] = -1;
+            } else {
+                Integer slot = slots.get(result);
+                if (slot == null) {
+                    slot = slots.size();
+                    slots.put(result, slot);
+                }
+                conditionSlots[i] = slot;
+            }
+        }
+        slotCount = slots.size();
+
+        Compiler compiler = new Compiler(slots);
+        List<Rule> resultList = trait.getResults();
+        inputSlots = new int[conditionList.size() + resultList.size()][];
+        conditions = new CompiledExpression[conditionList.size()];
+        for (int i = 0; i < conditions.length; i++) {
+            conditions[i] = conditionList.get(i).getFunction().accept(compiler);
+            inputSlots[i] = compiler.takeReferencedSlots();
+        }
+
+        results = new CompiledExpression[resultList.size()];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = compiler.compileResult(resultList.get(i));
+            inputSlots[conditions.length + i] = compiler.takeReferencedSlots();
+        }
+    }
+
+    /**
+     * Compiles the conditions and results of an endpoint BDD.
+     *
+     * @param trait BDD trait to compile.
+     * @return Returns the compiled evaluator.
+     */
+    public static CompiledBddEvaluator compile(EndpointBddTrait trait) {
+        return new CompiledBddEvaluator(trait);
+    }
+
+    /**
+     * Gets the index of a parameter in the array given to {@link #evaluate(Value...)}.
+     *
+     * <p>Parameters are indexed in the order they're defined in the BDD trait.
+     *
+     * @param parameter Name of the parameter.
+     * @return Returns the index of the parameter, or -1 if the BDD has no parameter with that name.
+     */
+    public int getParameterIndex(Identifier parameter) {
+        Integer index = parameterIndexes.get(parameter);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Creates a context used to evaluate the BDD without allocating the state of each evaluation.
+     *
+     * @return Returns the created context.
+     */
+    public Context createContext() {
+        return new Context();
+    }
+
+    /**
+     * Evaluates the BDD using named parameter arguments.
+     *
+     * @param parameterArguments The parameter identifiers and values to evaluate the BDD against.
+     * @return The resulting value from the matched result.
+     */
+    public Value evaluate(Map<Identifier, Value> parameterArguments) {
+        Context context = new Context();
+        for (Map.Entry<Identifier, Value> entry : parameterArguments.entrySet()) {
+            Integer index = parameterIndexes.get(entry.getKey());
+            if (index != null) {
+                context.setParameter(index, entry.getValue());
+            }
+        }
+        return evaluate(context);
+    }
+
+    /**
+     * Evaluates the BDD using parameter arguments indexed by {@link #getParameterIndex}.
+     *
+     * <p>Arguments that are null or missing from the end of the array use the default value of the parameter.
+     *
+     * @param parameterArguments The parameter values to evaluate the BDD against.
+     * @return The resulting value from the matched result.
+     */
+    public Value evaluate(Value... parameterArguments) {
+        Context context = new Context();
+        for (int i = 0; i < parameterArguments.length && i < defaults.length; i++) {
+            context.setParameter(i, parameterArguments[i]);
+        }
+        return evaluate(context);
+    }
+
+    /**
+     * Evaluates the BDD for each set of named parameter arguments.
+     *
+     * <p>Conditions and results only depend on the parameters and variables they reference, so the value of each
+     * condition and result is computed once per distinct set of referenced values and shared by every evaluation
+     * in the batch. For example, a condition that computes the partition of the {@code Region} parameter is
+     * evaluated once per distinct region rather than once per set of arguments. This makes evaluating every
+     * combination of a few parameters, like each region with each FIPS and dual-stack setting, much faster than
+     * evaluating each combination on its own.
+     *
+     * @param parameterArguments Each set of parameter identifiers and values to evaluate the BDD against.
+     * @return The resulting value of each set of arguments, in the same order.
+     */
+    public List<Value> evaluateAll(List<Map<Identifier, Value>> parameterArguments) {
+        Context context = new Context();
+        context.memoize();
+        List<Value> result = new ArrayList<>(parameterArguments.size());
+        for (Map<Identifier, Value> arguments : parameterArguments) {
+            context.reset();
+            for (Map.Entry<Identifier, Value> entry : arguments.entrySet()) {
+                Integer index = parameterIndexes.get(entry.getKey());
+                if (index != null) {
+                    context.setParameter(index, entry.getValue());
+                }
+            }
+            result.add(evaluate(context));
+        }
+        return result;
+    }
+
+    /**
+     * Evaluates the BDD using the parameters set on a context.
+     *
+     * <p>Variables assigned by a previous evaluation with the context are cleared before evaluating the BDD,
+     * but parameters are kept until the context is {@link Context#reset() reset}.
+     *
+     * @param context Context created by this evaluator.
+     * @return The resulting value from the matched result.
+     * @throws IllegalArgumentException if the context was created by a different evaluator.
+     */
+    public Value evaluate(Context context) {
+        if (context.getEvaluator() != this) {
+            throw new IllegalArgumentException("Context was created by a different evaluator");
+        }
+
+        Value[] slots = context.slots;
+        Arrays.fill(slots, defaults.length, slotCount, null);
+        int result = bdd.evaluate(context);
+        if (result < 0) {
+            throw new RuntimeException("No BDD result matched");
+        }
+
+        return context.evaluate(conditions.length + result, results[result]);
+    }
+
+    /**
+     * Reusable state used to evaluate a {@link CompiledBddEvaluator}.
+     *
+     * <p>A context holds a slot for each parameter and for each variable assigned by a condition. It can be reused
+     * by many evaluations, so resolving endpoints with a context only allocates the values produced by conditions
+     * and results. A context must not be used by multiple threads at the same time, but a context can be kept for
+     * each thread.
+     */
+    public final class Context implements ConditionEvaluator {
+        private final Value[] slots = new Value[slotCount];
+
+        // Values of conditions and results keyed by the values of the slots they read, or null to not memoize.
+        private List<Map<List<Value>, Value>> memoized;
+
+        private Context() {
+            reset();
+        }
+
+        /**
+         * Sets the value of a parameter.
+         *
+         * @param index Index of the parameter, as returned by {@link #getParameterIndex}.
+         * @param value Value to set, or null to use the default value of the parameter.
+         * @return Returns the context.
+         * @throws IndexOutOfBoundsException if the index isn't the index of a parameter.
+         */
+        public Context setParameter(int index, Value value) {
+            if (index < 0 || index >= defaults.length) {
+                throw new IndexOutOfBoundsException("Invalid parameter index: " + index);
+            }
+            slots[index] = value == null ? defaults[index] : value;
+            return this;
+        }
+
+        /**
+         * Sets the value of a parameter.
+         *
+         * @param parameter Name of the parameter.
+         * @param value Value to set, or null to use the default value of the parameter.
+         * @return Returns the context.
+         * @throws IllegalArgumentException if the BDD has no parameter with that name.
+         */
+        public Context setParameter(Identifier parameter, Value value) {
+            int index = getParameterIndex(parameter);
+            if (index < 0) {
+                throw new IllegalArgumentException("Unknown parameter: " + parameter);
+            }
+            return setParameter(index, value);
+        }
+
+        /**
+         * Resets every parameter to its default value and clears every variable.
+         *
+         * @return Returns the context.
+         */
+        public Context reset() {
+            System.arraycopy(defaults, 0, slots, 0, defaults.length);
+            Arrays.fill(slots, defaults.length, slots.length, null);
+            return this;
+        }
+
+        @Override
+        public boolean test(int condition) {
+            Value value = evaluate(condition, conditions[condition]);
+            if (!value.isEmpty()) {
+                int slot = conditionSlots[condition];
+                if (slot >= 0) {
+                    slots[slot] = value;
+                }
+            }
+            return value.isTruthy();
+        }
+
+        private void memoize() {
+            memoized = new ArrayList<>(inputSlots.length);
+            for (int i = 0; i < inputSlots.length; i++) {
+                memoized.add(new HashMap<>());
+            }
+        }
+
+        private Value evaluate(int index, CompiledExpression expression) {
+            if (memoized == null) {
+                return expression.evaluate(slots);
+            }
+
+            int[] inputs = inputSlots[index];
+            Value[] key = new Value[inputs.length];
+            for (int i = 0; i < inputs.length; i++) {
+                key[i] = slots[inputs[i]];
+            }
+
+            Map<List<Value>, Value> values = memoized.get(index);
+            List<Value> inputValues = Arrays.asList(key);
+            Value result = values.get(inputValues);
+            if (result == null) {
+                result = expression.evaluate(slots);
+                values.put(inputValues, result);
+            }
+            return result;
+        }
+
+        private CompiledBddEvaluator getEvaluator() {
+            return CompiledBddEvaluator.this;
+        }
+    }
+
+    @FunctionalInterface
+    private interface CompiledExpression {
+        Value evaluate(Value[] slots);
+    }
+
+    // An expression that always produces the same value.
+    private static final class Constant implements CompiledExpression {
+        private final Value value;
+
+        Constant(Value value) {
+            this.value = value;
+        }
+
+        @Override
+        public Value evaluate(Value[] slots) {
+            return value;
+        }
+    }
+
+    private static final class Compiler implements ExpressionVisitor<CompiledExpression> {
+        private static final Constant EMPTY = new Constant(Value.emptyValue());
+
+        private final Map<Identifier, Integer> slots;
+        private final Set<Integer> referencedSlots = new TreeSet<>();
+
+        Compiler(Map<Identifier, Integer> slots) {
+            this.slots = slots;
+        }
+
+        // Gets the slots referenced by the expressions compiled since the last call.
+        int[] takeReferencedSlots() {
+            int[] result = new int[referencedSlots.size()];
+            int i = 0;
+            for (int slot : referencedSlots) {
+                result[i++] = slot;
+            }
+            referencedSlots.clear();
+            return result;
+        }
+
+        CompiledExpression compileResult(Rule rule) {
+            if (rule instanceof EndpointRule) {
+                return compileEndpoint(((EndpointRule) rule).getEndpoint());
+            } else if (rule instanceof ErrorRule) {
+                return ((ErrorRule) rule).getError().accept(this);
+            } else {
+                return slots -> {
+                    throw new RuntimeException("Invalid BDD rule result: " + rule);
+                };
+            }
+        }
+
+        private CompiledExpression compileEndpoint(Endpoint endpoint) {
+            CompiledExpression url = endpoint.getUrl().accept(this);
+
+            Map<String, CompiledExpression> properties = new LinkedHashMap<>();
+            for (Map.Entry<Identifier, Literal> entry : endpoint.getProperties().entrySet()) {
+                properties.put(entry.getKey().toString(), entry.getValue().accept(this));
+            }
+
+            Map<String, CompiledExpression[]> headers = new LinkedHashMap<>();
+            for (Map.Entry<String, List<Expression>> entry : endpoint.getHeaders().entrySet()) {
+                headers.put(entry.getKey(), compileAll(entry.getValue()));
+            }
+
+            return slots -> {
+                EndpointValue.Builder builder = EndpointValue.builder()
+                        .sourceLocation(endpoint)
+                        .url(url.evaluate(slots).expectStringValue().getValue());
+                for (Map.Entry<String, CompiledExpression> entry : properties.entrySet()) {
+                    builder.putProperty(entry.getKey(), entry.getValue().evaluate(slots));
+                }
+                for (Map.Entry<String, CompiledExpression[]> entry : headers.entrySet()) {
+                    List<String> values = new ArrayList<>(entry.getValue().length);
+                    for (CompiledExpression expression : entry.getValue()) {
+                        values.add(expression.evaluate(slots).expectStringValue().getValue());
+                    }
+                    builder.putHeader(entry.getKey(), values);
+                }
+                return builder.build();
+            };
+        }
+
+        private CompiledExpression[] compileAll(List<? extends Expression> expressions) {
+            CompiledExpression[] result = new CompiledExpression[expressions.size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = expressions.get(i).accept(this);
+            }
+            return result;
+        }
+
+        @Override
+        public CompiledExpression visitLiteral(Literal literal) {
+            return literal.accept(new LiteralVisitor<CompiledExpression>() {
+                @Override
+                public CompiledExpression visitBoolean(boolean b) {
+                    return new Constant(Value.booleanValue(b));
+                }
+
+                @Override
+                public CompiledExpression visitString(Template value) {
+                    return compileTemplate(value);
+                }
+
+                @Override
+                public CompiledExpression visitRecord(Map<Identifier, Literal> members) {
+                    Map<Identifier, CompiledExpression> compiled = new LinkedHashMap<>();
+                    for (Map.Entry<Identifier, Literal> entry : members.entrySet()) {
+                        compiled.put(entry.getKey(), entry.getValue().accept(Compiler.this));
+                    }
+                    if (allConstant(compiled.values())) {
+                        // Constant values are shared by every evaluation, so they can't be modified.
+                        return new Constant(Value.recordValue(Collections.unmodifiableMap(
+                                evaluateRecord(compiled, null))));
+                    }
+                    return slots -> Value.recordValue(evaluateRecord(compiled, slots));
+                }
+
+                @Override
+                public CompiledExpression visitTuple(List<Literal> members) {
+                    CompiledExpression[] compiled = compileAll(members);
+                    if (allConstant(Arrays.asList(compiled))) {
+                        return new Constant(Value.arrayValue(Collections.unmodifiableList(
+                                evaluateTuple(compiled, null))));
+                    }
+                    return slots -> Value.arrayValue(evaluateTuple(compiled, slots));
+                }
+
+                @Override
+                public CompiledExpression visitInteger(int value) {
+                    return new Constant(Value.integerValue(value));
+                }
+            });
+        }
+
+        private CompiledExpression compileTemplate(Template template) {
+            if (template.isStatic()) {
+                return new Constant(Value.stringValue(template.expectLiteral()));
+            }
+
+            // The start and end of multipart templates don't produce any parts.
+            CompiledExpression[] compiled = template.accept(new TemplateVisitor<CompiledExpression>() {
+                @Override
+                public CompiledExpression visitStaticTemplate(String value) {
+                    return new Constant(Value.stringValue(value));
+                }
+
+                @Override
+                public CompiledExpression visitSingleDynamicTemplate(Expression value) {
+                    return value.accept(Compiler.this);
+                }
+
+                @Override
+                public CompiledExpression visitStaticElement(String value) {
+                    return visitStaticTemplate(value);
+                }
+
+                @Override
+                public CompiledExpression visitDynamicElement(Expression value) {
+                    return visitSingleDynamicTemplate(value);
+                }
+
+                @Override
+                public CompiledExpression startMultipartTemplate() {
+                    return null;
+                }
+
+                @Override
+                public CompiledExpression finishMultipartTemplate() {
+                    return null;
+                }
+            }).filter(Objects::nonNull).toArray(CompiledExpression[]::new);
+
+            return slots -> {
+                StringBuilder result = new StringBuilder();
+                for (CompiledExpression part : compiled) {
+                    result.append(part.evaluate(slots).expectStringValue().getValue());
+                }
+                return Value.stringValue(result.toString());
+            };
+        }
+
+        private static boolean allConstant(Iterable<CompiledExpression> expressions) {
+            for (CompiledExpression expression : expressions) {
+                if (!(expression instanceof Constant)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static Map<Identifier, Value> evaluateRecord(
+                Map<Identifier, CompiledExpression> members,
+                Value[] slots
+        ) {
+            Map<Identifier, Value> values = new HashMap<>();
+            for (Map.Entry<Identifier, CompiledExpression> entry : members.entrySet()) {
+                values.put(entry.getKey(), entry.getValue().evaluate(slots));
+            }
+            return values;
+        }
+
+        private static List<Value> evaluateTuple(CompiledExpression[] members, Value[] slots) {
+            List<Value> values = new ArrayList<>(members.length);
+            for (CompiledExpression member : members) {
+                values.add(member.evaluate(slots));
+            }
+            return values;
+        }
+
+        @Override
+        public CompiledExpression visitRef(Reference reference) {
+            Integer slot = slots.get(reference.getName());
+            if (slot == null) {
+                return EMPTY;
+            }
+            int index = slot;
+            referencedSlots.add(index);
+            return slots -> {
+                Value value = slots[index];
+                return value == null ? Value.emptyValue() : value;
+            };
+        }
+
+        @Override
+        public CompiledExpression visitGetAttr(GetAttr getAttr) {
+            CompiledExpression target = getAttr.getTarget().accept(this);
+            return slots -> getAttr.evaluate(target.evaluate(slots));
+        }
+
+        @Override
+        public CompiledExpression visitIsSet(Expression fn) {
+            CompiledExpression value = fn.accept(this);
+            return slots -> Value.booleanValue(!value.evaluate(slots).isEmpty());
+        }
+
+        @Override
+        public CompiledExpression visitCoalesce(List<Expression> expressions) {
+            CompiledExpression[] compiled = compileAll(expressions);
+            return slots -> {
+                for (CompiledExpression expression : compiled) {
+                    Value result = expression.evaluate(slots);
+                    if (!result.isEmpty()) {
+                        return result;
+                    }
+                }
+                return Value.emptyValue();
+            };
+        }
+
+        @Override
+        public CompiledExpression visitNot(Expression not) {
+            CompiledExpression value = not.accept(this);
+            return slots -> Value.booleanValue(!value.evaluate(slots).expectBooleanValue().getValue());
+        }
+
+        @Override
+        public CompiledExpression visitBoolEquals(Expression left, Expression right) {
+            CompiledExpression l = left.accept(this);
+            CompiledExpression r = right.accept(this);
+            return slots -> Value.booleanValue(l.evaluate(slots)
+                    .expectBooleanValue()
+                    .equals(r.evaluate(slots).expectBooleanValue()));
+        }
+
+        @Override
+        public CompiledExpression visitStringEquals(Expression left, Expression right) {
+            CompiledExpression l = left.accept(this);
+            CompiledExpression r = right.accept(this);
+            return slots -> Value.booleanValue(l.evaluate(slots)
+                    .expectStringValue()
+                    .equals(r.evaluate(slots).expectStringValue()));
+        }
+
+        @Override
+        public CompiledExpression visitIte(Expression condition, Expression trueValue, Expression falseValue) {
+            CompiledExpression c = condition.accept(this);
+            CompiledExpression t = trueValue.accept(this);
+            CompiledExpression f = falseValue.accept(this);
+            return slots -> c.evaluate(slots).expectBooleanValue().getValue() ? t.evaluate(slots) : f.evaluate(slots);
+        }
+
+        @Override
+        public CompiledExpression visitLibraryFunction(FunctionDefinition definition, List<Expression> arguments) {
+            CompiledExpression[] compiled = compileAll(arguments);
+            return slots -> {
+                List<Value> values = new ArrayList<>(compiled.length);
+                for (CompiledExpression argument : compiled) {
+                    values.add(argument.evaluate(slots));
+                }
+                return definition.evaluate(values);
+            };
+        }
+    }
+}
@@ -78,6 +78,19 @@ public class RuleEvaluator implements ExpressionVisitor<Value> {
         return evaluate(trait.getBdd(), trait.getParameters(), trait.getConditions(), trait.getResults(), args);
     }
 
+    /**
+     * Evaluates the provided BDD for each set of parameter arguments, sharing the results of conditions that
+     * have the same inputs across every evaluation.
+     *
+     * @param trait The trait to evaluate.
+     * @param args Each set of rule-set parameter identifiers and values to evaluate the BDD against.
+     * @return The resulting value of each set of arguments, in the same order.
+     * @see CompiledBddEvaluator#evaluateAll
+     */
+    public static List<Value> evaluateAll(EndpointBddTrait trait, List<Map<Identifier, Value>> args) {
+        return CompiledBddEvaluator.compile(trait).evaluateAll(args);
+    }
+
     /**
      * Initializes a new {@link RuleEvaluator} instances, and evaluates the provided BDD and parameter arguments.
      *
@@ -98,26 +98,8 @@ public final class ParseUrl extends LibraryFunction {
         @Override
         public Value evaluate(List<Value> arguments) {
             String url = arguments.get(0).expectStringValue().getValue();
-            try {
-                URL parsed = new URL(url);
-                if (parsed.getQuery() != null) {
-                    return Value.emptyValue();
-                }
-
-                boolean isIpAddr = isIpAddr(parsed.getHost());
-                String path = parsed.getPath();
-                String normalizedPath = normalizePath(path);
-
-                Map<Identifier, Value> values = new LinkedHashMap<>();
-                values.put(SCHEME, Value.stringValue(parsed.getProtocol()));
-                values.put(AUTHORITY, Value.stringValue(parsed.getAuthority()));
-                values.put(PATH, Value.stringValue(path));
-                values.put(NORMALIZED_PATH, Value.stringValue(normalizedPath));
-                values.put(IS_IP, Value.booleanValue(isIpAddr));
-                return Value.recordValue(values);
-            } catch (MalformedURLException e) {
-                return Value.emptyValue();
-            }
+            Value result = parseSimpleUrl(url);
+            return result != null ? result : parseUrl(url);
         }
 
         @Override
@@ -126,6 +108,118 @@ public final class ParseUrl extends LibraryFunction {
         }
     }
 
+    private static Value parseUrl(String url) {
+        try {
+            URL parsed = new URL(url);
+            if (parsed.getQuery() != null) {
+                return Value.emptyValue();
+            }
+            return createValue(parsed.getProtocol(), parsed.getAuthority(), parsed.getHost(), parsed.getPath());
+        } catch (MalformedURLException e) {
+            return Value.emptyValue();
+        }
+    }
+
+    // Parses the URLs endpoint rules typically use without creating a java.net.URL: an http or https scheme, a
+    // host name with an optional port, and a path with no dot segments. Returns null for any other URL so that it
+    // is parsed by java.net.URL instead, which handles everything else, like queries, user info, IPv6 hosts,
+    // and paths that need to be normalized.
+    private static Value parseSimpleUrl(String url) {
+        int authorityStart;
+        if (url.startsWith("https://")) {
+            authorityStart = 8;
+        } else if (url.startsWith("http://")) {
+            authorityStart = 7;
+        } else {
+            return null;
+        }
+
+        int length = url.length();
+        int position = authorityStart;
+        while (position < length && isHostChar(url.charAt(position))) {
+            position++;
+        }
+
+        int hostEnd = position;
+        if (hostEnd == authorityStart) {
+            return null;
+        }
+
+        if (position < length && url.charAt(position) == ':') {
+            int portStart = ++position;
+            while (position < length && isDigit(url.charAt(position))) {
+                position++;
+            }
+            // Leave empty and out of range ports to java.net.URL.
+            if (position == portStart || position - portStart > 5) {
+                return null;
+            }
+        }
+
+        int pathStart = position;
+        if (pathStart < length && url.charAt(pathStart) != '/') {
+            return null;
+        }
+
+        for (; position < length; position++) {
+            char c = url.charAt(position);
+            if (!isPathChar(c) || (c == '.' && url.charAt(position - 1) == '/')) {
+                return null;
+            }
+        }
+
+        String scheme = authorityStart == 8 ? "https" : "http";
+        return createValue(scheme,
+                url.substring(authorityStart, pathStart),
+                url.substring(authorityStart, hostEnd),
+                url.substring(pathStart));
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isHostChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isDigit(c) || c == '-' || c == '.' || c == '_';
+    }
+
+    private static boolean isPathChar(char c) {
+        if (isHostChar(c)) {
+            return true;
+        }
+        switch (c) {
+            case '/':
+            case '~':
+            case '%':
+            case '!':
+            case '$':
+            case '&':
+            case '\'':
+            case '(':
+            case ')':
+            case '*':
+            case '+':
+            case ',':
+            case ';':
+            case '=':
+            case ':':
+            case '@':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static Value createValue(String scheme, String authority, String host, String path) {
+        Map<Identifier, Value> values = new LinkedHashMap<>();
+        values.put(SCHEME, Value.stringValue(scheme));
+        values.put(AUTHORITY, Value.stringValue(authority));
+        values.put(PATH, Value.stringValue(path));
+        values.put(NORMALIZED_PATH, Value.stringValue(normalizePath(path)));
+        values.put(IS_IP, Value.booleanValue(isIpAddr(host)));
+        return Value.recordValue(values);
+    }
+
     /**
      * Checks if a host is an IP address for use with endpoint rules.
      *
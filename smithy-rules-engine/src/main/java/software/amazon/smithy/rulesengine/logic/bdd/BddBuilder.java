@@ -34,9 +34,13 @@ final class BddBuilder {
     private int[] nodes = new int[INITIAL_SIZE];
     private int nodeCount;
 
-    // Unique tables for node deduplication and ITE caching
+    // ITE cache sizes, in entries. The cache grows with the unique table up to the maximum, using at most 4MB.
+    private static final int INITIAL_ITE_CACHE_SIZE = 1024;
+    private static final int MAXIMUM_ITE_CACHE_SIZE = 1 << 18;
+
+    // Unique table for node deduplication and a lossy cache of ITE results
     private final UniqueTable uniqueTable;
-    private final UniqueTable iteCache;
+    private final IteCache iteCache;
 
     // Track the boundary between conditions and results
     private int conditionCount = -1;
@@ -49,7 +53,7 @@ final class BddBuilder {
     public BddBuilder() {
         this.nodeCount = 1;
         this.uniqueTable = new UniqueTable();
-        this.iteCache = new UniqueTable(1024);
+        this.iteCache = new IteCache(INITIAL_ITE_CACHE_SIZE, MAXIMUM_ITE_CACHE_SIZE);
         initializeTerminalNode();
     }
 
@@ -150,8 +154,8 @@ final class BddBuilder {
         }
 
         // Check if this node already exists
-        Integer existing = uniqueTable.get(var, high, low);
-        if (existing != null) {
+        int existing = uniqueTable.get(var, high, low);
+        if (existing != UniqueTable.NOT_FOUND) {
             return applyFlip(flip, existing);
         } else {
             return insertNode(var, high, low, flip);
@@ -177,6 +181,12 @@ final class BddBuilder {
         nodeCount++;
 
         uniqueTable.put(var, high, low, idx);
+
+        // Keep roughly one ITE cache entry per node so that large BDDs don't thrash the cache.
+        if (uniqueTable.size() > iteCache.capacity()) {
+            iteCache.grow(uniqueTable.size());
+        }
+
         return applyFlip(flip, idx);
     }
 
@@ -400,14 +410,11 @@ final class BddBuilder {
             }
         }
 
-        Integer cached = iteCache.get(f, g, h);
-        if (cached != null) {
+        int cached = iteCache.get(f, g, h);
+        if (cached != IteCache.NOT_FOUND) {
             return cached;
         }
 
-        // Reserve cache slot to handle recursive calls
-        iteCache.put(f, g, h, 0); // placeholder
-
         // Shannon expansion
         int v = getTopVariable(f, g, h);
         int r0 = ite(cofactor(f, v, false), cofactor(g, v, false), cofactor(h, v, false));
@@ -501,8 +508,8 @@ final class BddBuilder {
             }
 
             // Lookup or create a new node
-            Integer existing = uniqueTable.get(var, hiNew, loNew);
-            if (existing != null) {
+            int existing = uniqueTable.get(var, hiNew, loNew);
+            if (existing != UniqueTable.NOT_FOUND) {
                 resultAbs = toReference(existing);
             } else {
                 int nodeIdx = newCount[0]++;
@@ -549,6 +556,25 @@ final class BddBuilder {
         iteCache.clear();
     }
 
+    /**
+     * Gets the approximate number of bytes retained by the node array, unique table, and ITE cache.
+     *
+     * @return the memory used by the builder in bytes
+     */
+    long getMemoryUsage() {
+        return (long) nodes.length * Integer.BYTES + uniqueTable.getMemoryUsage() + iteCache.getMemoryUsage();
+    }
+
+    /**
+     * Gets the ratio of ITE operations that were answered by the ITE cache.
+     *
+     * @return the ITE cache hit rate from 0 to 1, or 0 if no ITE operations were cached
+     */
+    double getIteCacheHitRate() {
+        long total = iteCache.getHitCount() + iteCache.getMissCount();
+        return total == 0 ? 0 : (double) iteCache.getHitCount() / total;
+    }
+
     /**
      * Validates that a root reference is valid.
      */
@@ -84,11 +84,14 @@ public final class BddCompiler {
 
         long elapsed = System.currentTimeMillis() - start;
         LOGGER.fine(String.format(
-                "BDD compilation complete: %d conditions, %d results, %d BDD nodes in %dms",
+                "BDD compilation complete: %d conditions, %d results, %d BDD nodes in %dms "
+                        + "(%d KiB builder memory, %.1f%% ITE cache hit rate)",
                 orderedConditions.size(),
                 indexedResults.size(),
                 bdd.getNodeCount(),
-                elapsed));
+                elapsed,
+                bddBuilder.getMemoryUsage() / 1024,
+                bddBuilder.getIteCacheHitRate() * 100));
 
         return bdd;
     }
@@ -0,0 +1,125 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.rulesengine.logic.bdd;
+
+import java.util.Arrays;
+
+/**
+ * A lossy, direct-mapped cache of if-then-else (ITE) results.
+ *
+ * <p>Each (f, g, h) triple maps to exactly one slot, and storing a result overwrites whatever the slot held before.
+ * Losing an entry only means the ITE is recomputed, so the cache never needs to probe, resize while full, or
+ * evict entries. Each slot holds {@code [f, g, h, result]}, and a result of 0 marks an empty slot since 0 is never
+ * a valid BDD reference.
+ */
+final class IteCache {
+
+    static final int NOT_FOUND = 0;
+
+    private static final int SLOT_SIZE = 4;
+
+    private final int maximumCapacity;
+    private int[] entries;
+    private int mask;
+    private boolean empty = true;
+    private long hits;
+    private long misses;
+
+    /**
+     * @param initialCapacity Number of slots to start with.
+     * @param maximumCapacity Maximum number of slots the cache can {@link #grow} to.
+     */
+    IteCache(int initialCapacity, int maximumCapacity) {
+        this.maximumCapacity = UniqueTable.tableSizeFor(maximumCapacity);
+        allocate(Math.min(UniqueTable.tableSizeFor(initialCapacity), this.maximumCapacity));
+    }
+
+    /**
+     * Gets a cached ITE result.
+     *
+     * @param f Condition of the ITE.
+     * @param g Then branch of the ITE.
+     * @param h Else branch of the ITE.
+     * @return Returns the cached result, or {@link #NOT_FOUND} if the result isn't cached.
+     */
+    int get(int f, int g, int h) {
+        int base = (UniqueTable.hash(f, g, h) & mask) * SLOT_SIZE;
+        int[] e = entries;
+        if (e[base + 3] != NOT_FOUND && e[base] == f && e[base + 1] == g && e[base + 2] == h) {
+            hits++;
+            return e[base + 3];
+        }
+        misses++;
+        return NOT_FOUND;
+    }
+
+    /**
+     * Caches an ITE result, replacing any other result in the same slot.
+     *
+     * @param f Condition of the ITE.
+     * @param g Then branch of the ITE.
+     * @param h Else branch of the ITE.
+     * @param result Result of the ITE.
+     */
+    void put(int f, int g, int h, int result) {
+        int base = (UniqueTable.hash(f, g, h) & mask) * SLOT_SIZE;
+        int[] e = entries;
+        e[base] = f;
+        e[base + 1] = g;
+        e[base + 2] = h;
+        e[base + 3] = result;
+        empty = false;
+    }
+
+    /**
+     * Grows the cache to hold at least the given number of slots, up to the maximum capacity.
+     *
+     * <p>Cached results are discarded rather than rehashed when the cache grows.
+     *
+     * @param capacity Number of slots to grow to.
+     */
+    void grow(int capacity) {
+        int newCapacity = Math.min(UniqueTable.tableSizeFor(capacity), maximumCapacity);
+        if (newCapacity > capacity()) {
+            allocate(newCapacity);
+            empty = true;
+        }
+    }
+
+    void clear() {
+        if (!empty) {
+            Arrays.fill(entries, 0);
+            empty = true;
+        }
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    int getMaximumCapacity() {
+        return maximumCapacity;
+    }
+
+    long getHitCount() {
+        return hits;
+    }
+
+    long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * @return Returns the approximate number of bytes retained by the cache.
+     */
+    long getMemoryUsage() {
+        return (long) entries.length * Integer.BYTES;
+    }
+
+    private void allocate(int capacity) {
+        entries = new int[capacity * SLOT_SIZE];
+        mask = capacity - 1;
+    }
+}
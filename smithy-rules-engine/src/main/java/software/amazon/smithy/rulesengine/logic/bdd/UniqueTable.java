@@ -4,71 +4,147 @@
  */
 package software.amazon.smithy.rulesengine.logic.bdd;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 /**
  * A specialized hash table for BDD node deduplication using triple (var, high, low) keys.
+ *
+ * <p>Entries are stored inline in a single {@code int[]} using open addressing with linear probing, so lookups
+ * and inserts never allocate. Each slot holds {@code [var, high, low, nodeIndex]}, and a node index of 0 marks an
+ * empty slot since index 0 is always the terminal node. Entries are never removed individually.
  */
 final class UniqueTable {
-    private final Map<TripleKey, Integer> table;
-    private final TripleKey mutableKey = new TripleKey(0, 0, 0);
+
+    static final int NOT_FOUND = -1;
+
+    private static final int SLOT_SIZE = 4;
+    private static final int DEFAULT_CAPACITY = 512;
+
+    private int[] table;
+    private int mask;
+    private int size;
 
     public UniqueTable() {
-        this.table = new HashMap<>();
+        this(DEFAULT_CAPACITY);
     }
 
     public UniqueTable(int initialCapacity) {
-        this.table = new HashMap<>(initialCapacity);
+        allocate(tableSizeFor(initialCapacity));
     }
 
-    public Integer get(int var, int high, int low) {
-        mutableKey.update(var, high, low);
-        return table.get(mutableKey);
+    /**
+     * Gets the node index of a triple.
+     *
+     * @param var Variable of the node.
+     * @param high High reference of the node.
+     * @param low Low reference of the node.
+     * @return Returns the node index, or {@link #NOT_FOUND} if the table doesn't contain the triple.
+     */
+    public int get(int var, int high, int low) {
+        int[] t = table;
+        for (int slot = hash(var, high, low) & mask;; slot = (slot + 1) & mask) {
+            int base = slot * SLOT_SIZE;
+            int value = t[base + 3];
+            if (value == 0) {
+                return NOT_FOUND;
+            } else if (t[base] == var && t[base + 1] == high && t[base + 2] == low) {
+                return value;
+            }
+        }
     }
 
+    /**
+     * Adds or replaces the node index of a triple.
+     *
+     * @param var Variable of the node.
+     * @param high High reference of the node.
+     * @param low Low reference of the node.
+     * @param nodeIndex Index of the node, which must be greater than 0.
+     */
     public void put(int var, int high, int low, int nodeIndex) {
-        table.put(new TripleKey(var, high, low), nodeIndex);
+        if (nodeIndex <= 0) {
+            throw new IllegalArgumentException("Invalid node index: " + nodeIndex);
+        }
+
+        if ((size + 1) * 2 > capacity()) {
+            resize(capacity() * 2);
+        }
+
+        if (insert(table, mask, var, high, low, nodeIndex)) {
+            size++;
+        }
     }
 
     public void clear() {
-        table.clear();
+        if (size > 0) {
+            Arrays.fill(table, 0);
+            size = 0;
+        }
     }
 
     public int size() {
-        return table.size();
+        return size;
     }
 
-    private static final class TripleKey {
-        private int a, b, c, hash;
-
-        private TripleKey(int a, int b, int c) {
-            update(a, b, c);
-        }
+    /**
+     * @return Returns the number of slots in the table, which is kept at least twice the number of entries.
+     */
+    int capacity() {
+        return mask + 1;
+    }
 
-        TripleKey update(int a, int b, int c) {
-            this.a = a;
-            this.b = b;
-            this.c = c;
-            int i = (a * 31 + b) * 31 + c;
-            this.hash = (i ^ (i >>> 16));
-            return this;
-        }
+    /**
+     * @return Returns the approximate number of bytes retained by the table.
+     */
+    long getMemoryUsage() {
+        return (long) table.length * Integer.BYTES;
+    }
 
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) {
+    // Returns true if a new entry was added rather than replaced.
+    private static boolean insert(int[] t, int mask, int var, int high, int low, int nodeIndex) {
+        for (int slot = hash(var, high, low) & mask;; slot = (slot + 1) & mask) {
+            int base = slot * SLOT_SIZE;
+            if (t[base + 3] == 0) {
+                t[base] = var;
+                t[base + 1] = high;
+                t[base + 2] = low;
+                t[base + 3] = nodeIndex;
                 return true;
-            } else if (!(o instanceof TripleKey)) {
+            } else if (t[base] == var && t[base + 1] == high && t[base + 2] == low) {
+                t[base + 3] = nodeIndex;
                 return false;
             }
-            TripleKey k = (TripleKey) o;
-            return a == k.a && b == k.b && c == k.c;
         }
+    }
 
-        @Override
-        public int hashCode() {
-            return hash;
+    private void resize(int newCapacity) {
+        int[] old = table;
+        allocate(newCapacity);
+        for (int base = 0; base < old.length; base += SLOT_SIZE) {
+            if (old[base + 3] != 0) {
+                insert(table, mask, old[base], old[base + 1], old[base + 2], old[base + 3]);
+            }
         }
     }
+
+    private void allocate(int capacity) {
+        table = new int[capacity * SLOT_SIZE];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Hashes a triple of BDD references.
+     *
+     * <p>Variables are small and references are mostly small and dense, so each component is multiplied by a
+     * different large odd constant before the high bits are folded into the low bits used to pick a slot.
+     */
+    static int hash(int a, int b, int c) {
+        int h = a * 0x9E3779B1 + b * 0x85EBCA77 + c * 0xC2B2AE3D;
+        return h ^ (h >>> 15);
+    }
+
+    static int tableSizeFor(int capacity) {
+        int n = Math.max(capacity, 16) - 1;
+        return n >= (1 << 28) ? 1 << 28 : Integer.highestOneBit(n) << 1;
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.rulesengine.transforms;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.rulesengine.language.EndpointRuleSet;
+import software.amazon.smithy.rulesengine.traits.EndpointBddTrait;
+import software.amazon.smithy.utils.FileCache;
+import software.amazon.smithy.utils.IoUtils;
+
+/**
+ * An on-disk cache of optimized endpoint BDDs.
+ *
+ * <p>Entries are keyed by a SHA-256 hash of the serialized ruleset and the version of the
+ * compiler that optimized it, and store the serialized {@link EndpointBddTrait}. The compiler
+ * version is written to a resource at build time. If it can't be found, BDDs are always compiled
+ * rather than risk reusing BDDs produced by a different compiler.
+ *
+ * <p>Unreadable or corrupt entries are ignored and rewritten, and failures to write to the
+ * cache never fail compilation.
+ */
+final class BddCache {
+
+    private static final Logger LOGGER = Logger.getLogger(BddCache.class.getName());
+    private static final String EXTENSION = ".json";
+    private static final String COMPILER_VERSION = loadCompilerVersion();
+
+    // Increment when changes to BDD compilation or optimization would produce a different result.
+    private static final int FORMAT_VERSION = 1;
+
+    private final FileCache cache;
+    private final String compilerVersion;
+
+    BddCache(Path directory) {
+        this(directory, COMPILER_VERSION);
+    }
+
+    BddCache(Path directory, String compilerVersion) {
+        this.cache = new FileCache(directory, EXTENSION);
+        this.compilerVersion = compilerVersion;
+    }
+
+    /**
+     * Gets the cached BDD of a ruleset, compiling and caching it if it isn't cached.
+     *
+     * @param rules Ruleset to compile.
+     * @param compiler Compiles the ruleset when it isn't cached.
+     * @return Returns the compiled BDD.
+     */
+    EndpointBddTrait get(EndpointRuleSet rules, Function<EndpointRuleSet, EndpointBddTrait> compiler) {
+        if (compilerVersion == null || compilerVersion.isEmpty()) {
+            LOGGER.warning("Unable to determine the BDD compiler version; BDDs will not be cached");
+            return compiler.apply(rules);
+        }
+
+        String key = FileCache.key(FORMAT_VERSION + "\n" + compilerVersion + "\n" + Node.printJson(rules.toNode()));
+        Optional<EndpointBddTrait> cached = cache.read(key, json -> EndpointBddTrait.fromNode(Node.parse(json)));
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        EndpointBddTrait trait = compiler.apply(rules);
+        cache.write(key, Node.printJson(trait.toNode()));
+        return trait;
+    }
+
+    private static String loadCompilerVersion() {
+        try (InputStream input = BddCache.class.getResourceAsStream("compiler-version")) {
+            return input == null ? null : IoUtils.toUtf8String(input).trim();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
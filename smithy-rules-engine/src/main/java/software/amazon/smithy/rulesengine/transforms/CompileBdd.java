@@ -4,10 +4,12 @@
  */
 package software.amazon.smithy.rulesengine.transforms;
 
+import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.Set;
-import software.amazon.smithy.build.ProjectionTransformer;
+import software.amazon.smithy.build.SmithyBuild;
 import software.amazon.smithy.build.TransformContext;
+import software.amazon.smithy.build.transforms.ConfigurableProjectionTransformer;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.shapes.ServiceShape;
 import software.amazon.smithy.model.shapes.Shape;
@@ -23,8 +25,62 @@ import software.amazon.smithy.rulesengine.traits.EndpointRuleSetTrait;
 /**
  * Compiles a Binary Decision Diagram (BDD) from a service's {@code @endpointRuleSet}
  * trait and attaches the compiled {@code @endpointBdd} trait to the service shape.
+ *
+ * <p>Optimizing a large BDD can take a long time. When a {@code cacheDirectory} is
+ * configured, optimized BDDs are stored in the directory keyed by a hash of the ruleset,
+ * and rulesets that haven't changed since a previous build skip compilation entirely.
  */
-public final class CompileBdd implements ProjectionTransformer {
+public final class CompileBdd extends ConfigurableProjectionTransformer<CompileBdd.Config> {
+
+    /**
+     * {@code compileBdd} configuration settings.
+     */
+    public static final class Config {
+
+        private String cacheDirectory;
+
+        /**
+         * Gets the directory used to cache optimized BDDs.
+         *
+         * @return Returns the cache directory, or null if BDDs aren't cached.
+         */
+        public String getCacheDirectory() {
+            return cacheDirectory;
+        }
+
+        /**
+         * Sets a directory used to cache optimized BDDs between builds.
+         *
+         * <p>The directory is created if it doesn't exist. Relative paths are resolved
+         * against the output directory of the build, which is typically deleted when the
+         * project is cleaned. Use an absolute path, or a relative path that leads outside of
+         * the output directory, to keep cached BDDs across clean builds.
+         *
+         * @param cacheDirectory Directory used to cache BDDs.
+         */
+        public void setCacheDirectory(String cacheDirectory) {
+            this.cacheDirectory = cacheDirectory;
+        }
+
+        /**
+         * Resolves the cache directory against the output directory of the build.
+         *
+         * @param context Context of the transform being applied.
+         * @return Returns the resolved cache directory, or null if BDDs aren't cached.
+         */
+        public Path resolveCacheDirectory(TransformContext context) {
+            if (cacheDirectory == null) {
+                return null;
+            }
+            Path root = context.getOutputDirectory().orElseGet(SmithyBuild::getDefaultOutputDirectory);
+            return root.resolve(cacheDirectory);
+        }
+    }
+
+    @Override
+    public Class<Config> getConfigType() {
+        return Config.class;
+    }
 
     @Override
     public String getName() {
@@ -32,14 +88,15 @@ public final class CompileBdd implements ProjectionTransformer {
     }
 
     @Override
-    public Model transform(TransformContext transformContext) {
+    protected Model transformWithConfig(TransformContext transformContext, Config config) {
         Model model = transformContext.getModel();
+        Path cacheDirectory = config.resolveCacheDirectory(transformContext);
         Set<Shape> shapes = new HashSet<>();
         for (ServiceShape serviceShape : model.getServiceShapes()) {
             if (serviceShape.hasTrait(EndpointRuleSetTrait.ID)
                     && !serviceShape.hasTrait(EndpointBddTrait.ID)) {
                 EndpointRuleSetTrait endpointRuleSetTrait = serviceShape.expectTrait(EndpointRuleSetTrait.class);
-                EndpointBddTrait bdd = compileBdd(endpointRuleSetTrait.getEndpointRuleSet());
+                EndpointBddTrait bdd = compileBdd(endpointRuleSetTrait.getEndpointRuleSet(), cacheDirectory);
                 shapes.add(serviceShape.toBuilder().addTrait(bdd).build());
             }
         }
@@ -50,6 +107,7 @@ public final class CompileBdd implements ProjectionTransformer {
      * Compile endpointBdd trait from endpoint ruleset and return the optimized version.
      *
      * @param rules Endpoint ruleset from service shape.
+     * @return Returns the optimized BDD.
      */
     public static EndpointBddTrait compileBdd(EndpointRuleSet rules) {
         // Create the CFG to start BDD compilation process.
@@ -68,4 +126,19 @@ public final class CompileBdd implements ProjectionTransformer {
         // Remove unreferenced conditions. This is destructive and further optimizations cannot be applied after this.
         return reversedTrait.removeUnreferencedConditions();
     }
+
+    /**
+     * Compile endpointBdd trait from endpoint ruleset and return the optimized version, using
+     * a previously optimized BDD from the cache directory if the ruleset is unchanged.
+     *
+     * @param rules Endpoint ruleset from service shape.
+     * @param cacheDirectory Directory used to cache optimized BDDs, or null to always compile.
+     * @return Returns the optimized BDD.
+     */
+    public static EndpointBddTrait compileBdd(EndpointRuleSet rules, Path cacheDirectory) {
+        if (cacheDirectory == null) {
+            return compileBdd(rules);
+        }
+        return new BddCache(cacheDirectory).get(rules, CompileBdd::compileBdd);
+    }
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.rulesengine.language.evaluation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.rulesengine.language.EndpointRuleSet;
+import software.amazon.smithy.rulesengine.language.TestRunnerTest;
+import software.amazon.smithy.rulesengine.language.evaluation.value.Value;
+import software.amazon.smithy.rulesengine.language.syntax.Identifier;
+import software.amazon.smithy.rulesengine.logic.cfg.Cfg;
+import software.amazon.smithy.rulesengine.traits.EndpointBddTrait;
+import software.amazon.smithy.utils.MapUtils;
+
+public class CachingBddEvaluatorTest {
+
+    private static final Identifier REGION = Identifier.of("Region");
+
+    private static EndpointBddTrait trait() {
+        return EndpointBddTrait.from(Cfg.from(TestRunnerTest.getMinimalEndpointRuleSet()));
+    }
+
+    private static Map<Identifier, Value> region(String region) {
+        return Collections.singletonMap(REGION, Value.stringValue(region));
+    }
+
+    @Test
+    public void cachesResultsByParameters() {
+        EndpointBddTrait trait = trait();
+        CachingBddEvaluator evaluator = CachingBddEvaluator.builder().trait(trait).build();
+
+        Value first = evaluator.evaluate(region("us-east-1"));
+        Value second = evaluator.evaluate(region("us-east-1"));
+        evaluator.evaluate(region("us-west-2"));
+
+        assertThat(first, equalTo(RuleEvaluator.evaluate(trait, region("us-east-1"))));
+        assertThat(second, sameInstance(first));
+        assertThat(evaluator.getHitCount(), is(1L));
+        assertThat(evaluator.getMissCount(), is(2L));
+        assertThat(evaluator.getEvictionCount(), is(0L));
+        assertThat(evaluator.size(), is(2));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedResults() {
+        CachingBddEvaluator evaluator = CachingBddEvaluator.builder().trait(trait()).maximumSize(2).build();
+
+        evaluator.evaluate(region("us-east-1"));
+        evaluator.evaluate(region("us-west-2"));
+        evaluator.evaluate(region("us-east-1"));
+        evaluator.evaluate(region("eu-west-1"));
+        evaluator.evaluate(region("us-east-1"));
+        evaluator.evaluate(region("us-west-2"));
+
+        assertThat(evaluator.getHitCount(), is(2L));
+        assertThat(evaluator.getMissCount(), is(4L));
+        assertThat(evaluator.getEvictionCount(), is(2L));
+        assertThat(evaluator.size(), is(2));
+    }
+
+    @Test
+    public void bypassesUncachedParameters() {
+        CachingBddEvaluator evaluator = CachingBddEvaluator.builder()
+                .trait(trait())
+                .uncachedParameter(REGION)
+                .build();
+
+        evaluator.evaluate(region("us-east-1"));
+        evaluator.evaluate(region("us-east-1"));
+
+        assertThat(evaluator.getBypassCount(), is(2L));
+        assertThat(evaluator.getHitCount(), is(0L));
+        assertThat(evaluator.size(), is(0));
+    }
+
+    @Test
+    public void bypassesUnknownParameters() {
+        CachingBddEvaluator evaluator = CachingBddEvaluator.builder().trait(trait()).build();
+        Map<Identifier, Value> args = MapUtils.of(
+                REGION,
+                Value.stringValue("us-east-1"),
+                Identifier.of("Unknown"),
+                Value.stringValue("a"));
+
+        evaluator.evaluate(args);
+        evaluator.evaluate(args);
+
+        assertThat(evaluator.getBypassCount(), is(2L));
+        assertThat(evaluator.size(), is(0));
+    }
+
+    @Test
+    public void treatsEmptyArgumentsWithoutDefaultsAsMissing() {
+        Identifier bucket = Identifier.of("Bucket");
+        EndpointBddTrait trait = bucketTrait("", "{\"fn\": \"isSet\", \"argv\": [{\"ref\": \"Bucket\"}]}");
+        CachingBddEvaluator evaluator = CachingBddEvaluator.builder()
+                .trait(trait)
+                .uncachedParameter(bucket)
+                .build();
+        Map<Identifier, Value> withEmpty = new HashMap<>(region("us-east-1"));
+        withEmpty.put(bucket, Value.emptyValue());
+
+        Value missing = evaluator.evaluate(region("us-east-1"));
+        Value empty = evaluator.evaluate(withEmpty);
+
+        assertThat(missing, equalTo(RuleEvaluator.evaluate(trait, region("us-east-1"))));
+        assertThat(empty, sameInstance(missing));
+        assertThat(evaluator.getMissCount(), is(1L));
+        assertThat(evaluator.getHitCount(), is(1L));
+        assertThat(evaluator.getBypassCount(), is(0L));
+        assertThat(evaluator.size(), is(1));
+    }
+
+    @Test
+    public void cachesEmptyArgumentsWithDefaultsSeparately() {
+        Identifier bucket = Identifier.of("Bucket");
+        // An explicit empty value overrides the default, so the coalesced value is "a" instead of "b".
+        EndpointBddTrait trait = bucketTrait(", \"default\": \"b\", \"required\": true",
+                "{\"fn\": \"stringEquals\", \"argv\": [{\"fn\": \"coalesce\", "
+                        + "\"argv\": [{\"ref\": \"Bucket\"}, \"a\"]}, \"b\"]}");
+        CachingBddEvaluator evaluator = CachingBddEvaluator.builder().trait(trait).build();
+        Map<Identifier, Value> withEmpty = new HashMap<>(region("us-east-1"));
+        withEmpty.put(bucket, Value.emptyValue());
+
+        Value missing = evaluator.evaluate(region("us-east-1"));
+        Value empty = evaluator.evaluate(withEmpty);
+
+        assertThat(missing, equalTo(RuleEvaluator.evaluate(trait, region("us-east-1"))));
+        assertThat(empty, equalTo(RuleEvaluator.evaluate(trait, withEmpty)));
+        assertThat(empty, not(equalTo(missing)));
+        assertThat(evaluator.getMissCount(), is(2L));
+        assertThat(evaluator.size(), is(2));
+    }
+
+    private static EndpointBddTrait bucketTrait(String bucketProperties, String condition) {
+        EndpointRuleSet rules = EndpointRuleSet.fromNode(Node.parse("{\"version\": \"1.3\","
+                + "\"parameters\": {\"Region\": {\"type\": \"string\", \"required\": true},"
+                + "\"Bucket\": {\"type\": \"string\"" + bucketProperties + "}},"
+                + "\"rules\": [{\"conditions\": [" + condition + "],"
+                + "\"endpoint\": {\"url\": \"https://{Bucket}.{Region}.example.com\"}, \"type\": \"endpoint\"},"
+                + "{\"conditions\": [], \"endpoint\": {\"url\": \"https://{Region}.example.com\"},"
+                + "\"type\": \"endpoint\"}]}"));
+        return EndpointBddTrait.from(Cfg.from(rules));
+    }
+
+    @Test
+    public void validatesConfiguration() {
+        assertThrows(IllegalArgumentException.class,
+                () -> CachingBddEvaluator.builder().trait(trait()).maximumSize(0).build());
+        assertThrows(IllegalArgumentException.class,
+                () -> CachingBddEvaluator.builder().trait(trait()).uncachedParameter(Identifier.of("Nope")).build());
+    }
+}
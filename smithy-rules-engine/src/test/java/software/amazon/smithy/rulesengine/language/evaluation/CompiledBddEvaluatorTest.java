@@ -0,0 +1,112 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.rulesengine.language.evaluation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.StringNode;
+import software.amazon.smithy.model.shapes.ServiceShape;
+import software.amazon.smithy.rulesengine.language.IntegrationTest;
+import software.amazon.smithy.rulesengine.language.TestRunnerTest;
+import software.amazon.smithy.rulesengine.language.evaluation.value.Value;
+import software.amazon.smithy.rulesengine.language.syntax.Identifier;
+import software.amazon.smithy.rulesengine.logic.cfg.Cfg;
+import software.amazon.smithy.rulesengine.traits.EndpointBddTrait;
+import software.amazon.smithy.rulesengine.traits.EndpointRuleSetTrait;
+import software.amazon.smithy.rulesengine.traits.EndpointTestCase;
+import software.amazon.smithy.rulesengine.traits.EndpointTestsTrait;
+
+public class CompiledBddEvaluatorTest {
+
+    public static List<ServiceShape> servicesWithTests() throws Exception {
+        Path valid = Paths.get(IntegrationTest.class.getResource("errorfiles/valid/").toURI());
+        try (Stream<Path> paths = Files.list(valid)) {
+            return paths.filter(path -> path.toString().endsWith(".smithy"))
+                    .map(path -> Model.assembler().discoverModels().addImport(path).assemble().unwrap())
+                    .flatMap(model -> model.getServiceShapesWithTrait(EndpointRuleSetTrait.class).stream())
+                    .filter(service -> service.hasTrait(EndpointTestsTrait.class))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("servicesWithTests")
+    public void producesSameResultsAsRuleEvaluator(ServiceShape service) {
+        EndpointBddTrait trait = EndpointBddTrait.from(Cfg.from(
+                service.expectTrait(EndpointRuleSetTrait.class).getEndpointRuleSet()));
+        CompiledBddEvaluator compiled = CompiledBddEvaluator.compile(trait);
+        CompiledBddEvaluator.Context context = compiled.createContext();
+        List<Map<Identifier, Value>> batch = new ArrayList<>();
+        List<Value> expectedBatch = new ArrayList<>();
+
+        for (EndpointTestCase testCase : service.expectTrait(EndpointTestsTrait.class).getTestCases()) {
+            Map<Identifier, Value> params = new LinkedHashMap<>();
+            for (Map.Entry<StringNode, Node> entry : testCase.getParams().getMembers().entrySet()) {
+                params.put(Identifier.of(entry.getKey()), Value.fromNode(entry.getValue()));
+            }
+
+            Value expected = RuleEvaluator.evaluate(trait, params);
+            assertThat(compiled.evaluate(params), equalTo(expected));
+
+            // Reusing a context must not leak parameters or variables from previous test cases.
+            context.reset();
+            params.forEach(context::setParameter);
+            assertThat(compiled.evaluate(context), equalTo(expected));
+
+            batch.add(params);
+            expectedBatch.add(expected);
+        }
+
+        // Evaluate every test case twice in one batch so that condition results are shared.
+        batch.addAll(new ArrayList<>(batch));
+        expectedBatch.addAll(new ArrayList<>(expectedBatch));
+        assertThat(RuleEvaluator.evaluateAll(trait, batch), equalTo(expectedBatch));
+    }
+
+    @Test
+    public void evaluatesPositionalParameters() {
+        EndpointBddTrait trait = EndpointBddTrait.from(Cfg.from(TestRunnerTest.getMinimalEndpointRuleSet()));
+        CompiledBddEvaluator compiled = CompiledBddEvaluator.compile(trait);
+        int region = compiled.getParameterIndex(Identifier.of("Region"));
+        Value[] params = new Value[region + 1];
+        params[region] = Value.stringValue("us-east-1");
+
+        Map<Identifier, Value> named = Collections.singletonMap(Identifier.of("Region"), params[region]);
+
+        assertThat(compiled.getParameterIndex(Identifier.of("NotAParameter")), is(-1));
+        assertThat(compiled.evaluate(params), equalTo(RuleEvaluator.evaluate(trait, named)));
+        assertThat(compiled.evaluate(params).expectEndpointValue().getUrl(),
+                equalTo("https://us-east-1.amazonaws.com"));
+    }
+
+    @Test
+    public void rejectsContextsOfOtherEvaluators() {
+        EndpointBddTrait trait = EndpointBddTrait.from(Cfg.from(TestRunnerTest.getMinimalEndpointRuleSet()));
+        CompiledBddEvaluator.Context context = CompiledBddEvaluator.compile(trait).createContext();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> CompiledBddEvaluator.compile(trait).evaluate(context));
+        assertThrows(IllegalArgumentException.class,
+                () -> context.setParameter(Identifier.of("NotAParameter"), Value.stringValue("a")));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.rulesengine.logic.bdd;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class IteCacheTest {
+
+    @Test
+    void testCachesResults() {
+        IteCache cache = new IteCache(16, 64);
+
+        assertEquals(IteCache.NOT_FOUND, cache.get(2, 3, -1));
+        cache.put(2, 3, -1, 4);
+
+        assertEquals(4, cache.get(2, 3, -1));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void testNeverExceedsCapacity() {
+        IteCache cache = new IteCache(16, 16);
+
+        for (int i = 2; i < 1000; i++) {
+            cache.put(i, i + 1, -1, i + 2);
+        }
+
+        int cached = 0;
+        for (int i = 2; i < 1000; i++) {
+            int result = cache.get(i, i + 1, -1);
+            if (result != IteCache.NOT_FOUND) {
+                assertEquals(i + 2, result);
+                cached++;
+            }
+        }
+
+        assertEquals(16, cache.capacity());
+        assertEquals(16 * 4 * Integer.BYTES, cache.getMemoryUsage());
+        assertTrue(cached > 0 && cached <= 16);
+    }
+
+    @Test
+    void testGrowsUpToMaximumCapacity() {
+        IteCache cache = new IteCache(16, 64);
+        cache.put(2, 3, -1, 4);
+
+        cache.grow(32);
+        assertEquals(32, cache.capacity());
+        assertEquals(IteCache.NOT_FOUND, cache.get(2, 3, -1));
+
+        cache.grow(1000);
+        assertEquals(64, cache.capacity());
+    }
+
+    @Test
+    void testClear() {
+        IteCache cache = new IteCache(16, 64);
+        cache.put(2, 3, -1, 4);
+
+        cache.clear();
+
+        assertEquals(IteCache.NOT_FOUND, cache.get(2, 3, -1));
+    }
+}
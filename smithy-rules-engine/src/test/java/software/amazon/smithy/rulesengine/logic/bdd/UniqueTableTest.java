@@ -0,0 +1,70 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.rulesengine.logic.bdd;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class UniqueTableTest {
+
+    @Test
+    void testGetAndPut() {
+        UniqueTable table = new UniqueTable();
+
+        assertEquals(UniqueTable.NOT_FOUND, table.get(0, 1, -1));
+        table.put(0, 1, -1, 1);
+        table.put(0, -1, 1, 2);
+
+        assertEquals(1, table.get(0, 1, -1));
+        assertEquals(2, table.get(0, -1, 1));
+        assertEquals(UniqueTable.NOT_FOUND, table.get(1, 1, -1));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    void testPutReplacesExistingEntries() {
+        UniqueTable table = new UniqueTable();
+
+        table.put(0, 1, -1, 1);
+        table.put(0, 1, -1, 5);
+
+        assertEquals(5, table.get(0, 1, -1));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    void testGrowsWhenFull() {
+        UniqueTable table = new UniqueTable(16);
+
+        for (int i = 1; i <= 10_000; i++) {
+            table.put(i % 7, i + 1, -(i + 2), i);
+        }
+
+        assertEquals(10_000, table.size());
+        assertTrue(table.capacity() >= 20_000);
+        for (int i = 1; i <= 10_000; i++) {
+            assertEquals(i, table.get(i % 7, i + 1, -(i + 2)));
+        }
+    }
+
+    @Test
+    void testClear() {
+        UniqueTable table = new UniqueTable();
+        table.put(0, 1, -1, 1);
+
+        table.clear();
+
+        assertEquals(0, table.size());
+        assertEquals(UniqueTable.NOT_FOUND, table.get(0, 1, -1));
+    }
+
+    @Test
+    void testRejectsInvalidNodeIndexes() {
+        assertThrows(IllegalArgumentException.class, () -> new UniqueTable().put(0, 1, -1, 0));
+    }
+}
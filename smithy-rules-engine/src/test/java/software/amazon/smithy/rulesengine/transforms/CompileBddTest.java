@@ -4,14 +4,29 @@
  */
 package software.amazon.smithy.rulesengine.transforms;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import software.amazon.smithy.build.TransformContext;
 import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.shapes.Shape;
 import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.rulesengine.language.EndpointRuleSet;
+import software.amazon.smithy.rulesengine.language.TestRunnerTest;
 import software.amazon.smithy.rulesengine.traits.EndpointBddTrait;
 
 public class CompileBddTest {
@@ -31,4 +46,90 @@ public class CompileBddTest {
         Shape serviceShape = result.expectShape(serviceId);
         assertTrue(serviceShape.hasTrait(EndpointBddTrait.ID));
     }
+
+    @Test
+    public void reusesCachedBdds(@TempDir Path cacheDirectory) throws IOException {
+        ShapeId serviceId = ShapeId.from("smithy.example#ExampleService");
+        Model model = Model.assembler()
+                .discoverModels()
+                .addImport(getClass().getResource("compile-bdd.smithy"))
+                .assemble()
+                .unwrap();
+        TransformContext context = TransformContext.builder()
+                .model(model)
+                .settings(Node.objectNode().withMember("cacheDirectory", cacheDirectory.toString()))
+                .build();
+
+        EndpointBddTrait first = new CompileBdd().transform(context)
+                .expectShape(serviceId)
+                .expectTrait(EndpointBddTrait.class);
+        List<Path> entries = entries(cacheDirectory);
+        EndpointBddTrait second = new CompileBdd().transform(context)
+                .expectShape(serviceId)
+                .expectTrait(EndpointBddTrait.class);
+
+        assertThat(entries, hasSize(1));
+        assertThat(second, equalTo(first));
+        assertThat(entries(cacheDirectory), equalTo(entries));
+    }
+
+    @Test
+    public void recompilesCorruptCacheEntries(@TempDir Path cacheDirectory) throws IOException {
+        EndpointRuleSet rules = TestRunnerTest.getMinimalEndpointRuleSet();
+        EndpointBddTrait compiled = CompileBdd.compileBdd(rules, cacheDirectory);
+        Path entry = entries(cacheDirectory).get(0);
+        Files.write(entry, "{\"version\": ".getBytes(StandardCharsets.UTF_8));
+
+        EndpointBddTrait recompiled = CompileBdd.compileBdd(rules, cacheDirectory);
+
+        assertThat(recompiled, equalTo(compiled));
+        assertThat(CompileBdd.compileBdd(rules, cacheDirectory), equalTo(compiled));
+        assertThat(Node.parse(new String(Files.readAllBytes(entry), StandardCharsets.UTF_8)),
+                equalTo(compiled.toNode()));
+    }
+
+    @Test
+    public void resolvesRelativeCacheDirectoriesAgainstOutputDirectory(@TempDir Path outputDirectory)
+            throws IOException {
+        Model model = Model.assembler()
+                .discoverModels()
+                .addImport(getClass().getResource("compile-bdd.smithy"))
+                .assemble()
+                .unwrap();
+        TransformContext context = TransformContext.builder()
+                .model(model)
+                .outputDirectory(outputDirectory)
+                .settings(Node.objectNode().withMember("cacheDirectory", "bdd-cache"))
+                .build();
+
+        new CompileBdd().transform(context);
+
+        assertThat(entries(outputDirectory.resolve("bdd-cache")), hasSize(1));
+    }
+
+    @Test
+    public void keysEntriesOnCompilerVersion(@TempDir Path cacheDirectory) throws IOException {
+        EndpointRuleSet rules = TestRunnerTest.getMinimalEndpointRuleSet();
+        new BddCache(cacheDirectory, "1.0.0").get(rules, CompileBdd::compileBdd);
+        new BddCache(cacheDirectory, "1.0.0").get(rules, CompileBdd::compileBdd);
+        new BddCache(cacheDirectory, "1.1.0").get(rules, CompileBdd::compileBdd);
+
+        assertThat(entries(cacheDirectory), hasSize(2));
+    }
+
+    @Test
+    public void doesNotCacheWithoutCompilerVersion(@TempDir Path cacheDirectory) {
+        EndpointRuleSet rules = TestRunnerTest.getMinimalEndpointRuleSet();
+        Path directory = cacheDirectory.resolve("bdds");
+        EndpointBddTrait compiled = new BddCache(directory, null).get(rules, CompileBdd::compileBdd);
+
+        assertThat(compiled, equalTo(CompileBdd.compileBdd(rules)));
+        assertFalse(Files.exists(directory));
+    }
+
+    private static List<Path> entries(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.collect(Collectors.toList());
+        }
+    }
 }
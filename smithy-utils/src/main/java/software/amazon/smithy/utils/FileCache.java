@@ -0,0 +1,110 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * A directory of cached text entries that are safe to share between concurrent builds.
+ *
+ * <p>Entries are written to a temporary file and moved into place, so readers never see
+ * partially written entries. Entries that can't be read or parsed are ignored, and failures
+ * to write entries are logged rather than thrown, since a cache should never fail a build.
+ */
+@SmithyInternalApi
+public final class FileCache {
+
+    private static final Logger LOGGER = Logger.getLogger(FileCache.class.getName());
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Path directory;
+    private final String extension;
+
+    /**
+     * @param directory Directory that contains cache entries. It's created when an entry is written.
+     * @param extension File extension of entries, including the leading ".".
+     */
+    public FileCache(Path directory, String extension) {
+        this.directory = directory;
+        this.extension = extension;
+    }
+
+    /**
+     * Creates a key from the lowercase hex encoded SHA-256 hash of the given contents.
+     *
+     * @param contents Contents to hash.
+     * @return Returns the key.
+     */
+    public static String key(String contents) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(contents.getBytes(StandardCharsets.UTF_8));
+            char[] result = new char[digest.length * 2];
+            for (int i = 0; i < digest.length; i++) {
+                result[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+                result[i * 2 + 1] = HEX[digest[i] & 0xF];
+            }
+            return new String(result);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Reads and parses a cached entry.
+     *
+     * @param key Key of the entry.
+     * @param parser Parses the contents of the entry, throwing if the entry is invalid.
+     * @param <T> Type of value stored in the entry.
+     * @return Returns the parsed entry, or empty if it isn't cached or can't be read or parsed.
+     */
+    public <T> Optional<T> read(String key, Function<String, T> parser) {
+        Path entry = resolve(key);
+        if (!Files.isRegularFile(entry)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(parser.apply(new String(Files.readAllBytes(entry), StandardCharsets.UTF_8)));
+        } catch (IOException | RuntimeException e) {
+            LOGGER.fine(() -> "Ignoring unreadable cache entry " + entry + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes an entry, replacing any existing entry with the same key.
+     *
+     * @param key Key of the entry.
+     * @param contents Contents of the entry.
+     */
+    public void write(String key, String contents) {
+        Path entry = resolve(key);
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, "entry", ".tmp");
+            try {
+                Files.write(temp, contents.getBytes(StandardCharsets.UTF_8));
+                Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            LOGGER.fine(() -> "Unable to write cache entry " + entry + ": " + e.getMessage());
+        }
+    }
+
+    private Path resolve(String key) {
+        return directory.resolve(key + extension);
+    }
+}
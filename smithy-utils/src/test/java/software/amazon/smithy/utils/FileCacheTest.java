@@ -0,0 +1,48 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.utils;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileCacheTest {
+    @Test
+    public void createsKeysFromHashes() {
+        assertThat(FileCache.key("abc"),
+                equalTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad"));
+        assertThat(FileCache.key("abc"), not(equalTo(FileCache.key("abd"))));
+    }
+
+    @Test
+    public void writesAndReadsEntries(@TempDir Path directory) {
+        FileCache cache = new FileCache(directory.resolve("cache"), ".txt");
+        String key = FileCache.key("a");
+
+        assertThat(cache.read(key, Function.identity()), equalTo(Optional.empty()));
+        cache.write(key, "hello");
+        cache.write(key, "hello again");
+
+        assertThat(cache.read(key, Function.identity()), equalTo(Optional.of("hello again")));
+        assertThat(Files.isRegularFile(directory.resolve("cache").resolve(key + ".txt")), equalTo(true));
+    }
+
+    @Test
+    public void ignoresEntriesThatFailToParse(@TempDir Path directory) throws IOException {
+        FileCache cache = new FileCache(directory, ".txt");
+        Files.write(directory.resolve("a.txt"), "not a number".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(cache.read("a", Integer::parseInt), equalTo(Optional.empty()));
+    }
+}